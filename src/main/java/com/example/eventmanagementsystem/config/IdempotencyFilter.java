@@ -0,0 +1,115 @@
+package com.example.eventmanagementsystem.config;
+
+import com.example.eventmanagementsystem.service.IdempotencyStore;
+import com.example.eventmanagementsystem.service.IdempotencyStore.Claim;
+import com.example.eventmanagementsystem.service.IdempotencyStore.StoredResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * Makes {@code POST}s to the event and registration endpoints safe to retry: a request carrying an
+ * {@code Idempotency-Key} header is run once per caller, endpoint and key, and retries get the stored response
+ * back with an {@code Idempotent-Replayed: true} header.
+ * <p>
+ * Only successful responses are kept, {@code 202 Accepted} included: a retry gets the original request id and
+ * {@code Location} back and polls that instead of being queued again. A handler whose response asks for the
+ * same request to be sent again later sets {@link #RETRY_EXPECTED}, and that response is not kept. Failures
+ * release the key so a corrected retry runs again. Runs after the security filter chain, so the caller is known
+ * and replays are limited to the caller that made the original request.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String REPLAYED = "Idempotent-Replayed";
+    // Request attribute for responses that ask the client to repeat the request, such as a waiting-room ticket
+    public static final String RETRY_EXPECTED = IdempotencyFilter.class.getName() + ".RETRY_EXPECTED";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore idempotencyStore;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !HttpMethod.POST.matches(request.getMethod())
+                || request.getHeader(IDEMPOTENCY_KEY) == null
+                || !(path.startsWith("/api/events") || path.startsWith("/api/registrations"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = request.getHeader(IDEMPOTENCY_KEY);
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST,
+                    IDEMPOTENCY_KEY + " must be 1 to " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        String uri = request.getQueryString() == null
+                ? request.getRequestURI()
+                : request.getRequestURI() + '?' + request.getQueryString();
+        String scope = IdempotencyStore.scope(currentCaller(), request.getMethod(), uri, key);
+
+        Claim claim = idempotencyStore.claim(scope);
+        switch (claim.state()) {
+            case REPLAY -> replay(claim.response(), response);
+            case CONFLICT -> response.sendError(HttpServletResponse.SC_CONFLICT,
+                    "A request with this " + IDEMPOTENCY_KEY + " is still being processed");
+            case ACQUIRED -> execute(scope, request, response, filterChain);
+        }
+    }
+
+    // Helper methods
+    private void execute(String scope, HttpServletRequest request, HttpServletResponse response,
+                         FilterChain filterChain) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(request, wrapper);
+            int status = wrapper.getStatus();
+            if (status >= 200 && status < 300 && request.getAttribute(RETRY_EXPECTED) == null) {
+                idempotencyStore.complete(scope, new StoredResponse(status, wrapper.getContentType(),
+                        wrapper.getHeader(HttpHeaders.LOCATION), wrapper.getContentAsByteArray()));
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                idempotencyStore.release(scope);
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private static void replay(StoredResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.location() != null) {
+            response.setHeader(HttpHeaders.LOCATION, stored.location());
+        }
+        response.setHeader(REPLAYED, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private static String currentCaller() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? "" : authentication.getName();
+    }
+}
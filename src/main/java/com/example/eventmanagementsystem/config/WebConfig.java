@@ -0,0 +1,20 @@
+package com.example.eventmanagementsystem.config;
+
+import com.example.eventmanagementsystem.security.PolicyEngine;
+import com.example.eventmanagementsystem.security.PolicyInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final PolicyEngine policyEngine;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new PolicyInterceptor(policyEngine));
+    }
+}
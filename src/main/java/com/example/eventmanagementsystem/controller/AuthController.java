@@ -2,13 +2,19 @@ package com.example.eventmanagementsystem.controller;
 
 import com.example.eventmanagementsystem.dto.JwtAuthResponse;
 import com.example.eventmanagementsystem.dto.LoginRequest;
+import com.example.eventmanagementsystem.dto.RefreshTokenRequest;
 import com.example.eventmanagementsystem.dto.UserDTO;
 import com.example.eventmanagementsystem.model.User;
 import com.example.eventmanagementsystem.repository.UserRepository;
 import com.example.eventmanagementsystem.security.JwtTokenProvider;
+import com.example.eventmanagementsystem.security.TokenRevocationService;
+import com.example.eventmanagementsystem.security.UserPrincipal;
+import com.example.eventmanagementsystem.service.RefreshTokenService;
 import com.example.eventmanagementsystem.service.UserService;
+import io.jsonwebtoken.JwtException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -16,6 +22,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -28,6 +35,8 @@ public class AuthController {
     private final UserRepository userRepository;
     private final JwtTokenProvider tokenProvider;
     private final UserService userService;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
 
     @PostMapping("/login")
     public ResponseEntity<JwtAuthResponse> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
@@ -44,19 +53,57 @@ public class AuthController {
 
         User user = userRepository.findByUsername(loginRequest.getUsername()).orElseThrow();
 
-        JwtAuthResponse response = JwtAuthResponse.builder()
-                .accessToken(jwt)
-                .tokenType("Bearer")  // Explicitly set tokenType
-                .userId(user.getId())
-                .username(user.getUsername())
-                .email(user.getEmail())
-                .build();
+        return ResponseEntity.ok(toResponse(jwt, refreshTokenService.issue(user), user));
+    }
+
+    // Renews the access token from a refresh token alone; the password encoder is not involved
+    @PostMapping("/refresh")
+    public ResponseEntity<JwtAuthResponse> refreshToken(@Valid @RequestBody RefreshTokenRequest request) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.getRefreshToken());
+
+        UserPrincipal principal = UserPrincipal.fromUser(rotation.user());
+        String jwt = tokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        return ResponseEntity.ok(toResponse(jwt, rotation.refreshToken(), rotation.user()));
+    }
 
-        return ResponseEntity.ok(response);
+    // Revokes the refresh token and, when one is presented, the access token it was used with
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@Valid @RequestBody RefreshTokenRequest request,
+                                       @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false)
+                                       String authorization) {
+        refreshTokenService.revoke(request.getRefreshToken());
+        revokeAccessToken(authorization);
+        return ResponseEntity.noContent().build();
     }
 
     @PostMapping("/register")
     public ResponseEntity<UserDTO> registerUser(@Valid @RequestBody UserDTO userDTO) {
         return ResponseEntity.ok(userService.createUser(userDTO));
     }
+
+    // Helper methods
+    // An invalid or expired access token needs no revocation
+    private void revokeAccessToken(String authorization) {
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            return;
+        }
+        try {
+            tokenRevocationService.revoke(tokenProvider.parseToken(authorization.substring(7)));
+        } catch (JwtException | IllegalArgumentException ex) {
+            // Nothing to revoke
+        }
+    }
+
+    private JwtAuthResponse toResponse(String accessToken, String refreshToken, User user) {
+        return JwtAuthResponse.builder()
+                .accessToken(accessToken)
+                .tokenType("Bearer")  // Explicitly set tokenType
+                .refreshToken(refreshToken)
+                .userId(user.getId())
+                .username(user.getUsername())
+                .email(user.getEmail())
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.example.eventmanagementsystem.controller;
+
+import com.example.eventmanagementsystem.dto.CursorPage;
+import com.example.eventmanagementsystem.exception.ApiException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.List;
+
+/**
+ * Page sizes and response headers for keyset-paginated list endpoints.
+ * <p>
+ * Lists take optional {@code limit} and {@code cursor} parameters. A missing limit means
+ * {@code pagination.default-page-size}; larger limits are capped at {@code pagination.max-page-size}. The body
+ * stays a JSON array; when more rows follow, the cursor for the next page is sent in {@code X-Next-Cursor} and
+ * as a {@code Link} header with {@code rel="next"}.
+ */
+@Component
+public class CursorPagination {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public CursorPagination(@Value("${pagination.default-page-size:50}") int defaultPageSize,
+                            @Value("${pagination.max-page-size:500}") int maxPageSize) {
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    public int limit(Integer requested) {
+        if (requested == null) {
+            return Math.min(defaultPageSize, maxPageSize);
+        }
+        if (requested < 1) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "limit must be at least 1");
+        }
+        return Math.min(requested, maxPageSize);
+    }
+
+    public <T> ResponseEntity<List<T>> ok(CursorPage<T> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", page.getNextCursor())
+                    .toUriString();
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor())
+                    .header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(page.getItems());
+    }
+}
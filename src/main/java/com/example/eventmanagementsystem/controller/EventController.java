@@ -1,14 +1,17 @@
 package com.example.eventmanagementsystem.controller;
 
 import com.example.eventmanagementsystem.dto.EventDTO;
+import com.example.eventmanagementsystem.security.Authorize;
+import com.example.eventmanagementsystem.security.Policy;
 import com.example.eventmanagementsystem.service.EventService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -19,14 +22,26 @@ import java.util.List;
 public class EventController {
 
     private final EventService eventService;
+    private final CursorPagination pagination;
+    private final StreamingExport streamingExport;
 
     @GetMapping
     public ResponseEntity<List<EventDTO>> getAllEvents(
-            @RequestParam(required = false) Boolean publishedOnly) {
+            @RequestParam(required = false) Boolean publishedOnly,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
         if (Boolean.TRUE.equals(publishedOnly)) {
-            return ResponseEntity.ok(eventService.findAllPublishedEvents());
+            return pagination.ok(eventService.findAllPublishedEvents(cursor, pagination.limit(limit)));
         }
-        return ResponseEntity.ok(eventService.findAllEvents());
+        return pagination.ok(eventService.findAllEvents(cursor, pagination.limit(limit)));
+    }
+
+    // Every event in one response, streamed as it is read; NDJSON when the client accepts application/x-ndjson
+    @GetMapping("/export")
+    @Authorize(Policy.ADMIN)
+    public ResponseEntity<StreamingResponseBody> exportEvents(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return streamingExport.stream(accept, EventDTO.class, eventService::exportEvents);
     }
 
     @GetMapping("/{id}")
@@ -35,13 +50,13 @@ public class EventController {
     }
 
     @PostMapping
-    @PreAuthorize("hasRole('ORGANIZER') or hasRole('ADMIN')")
+    @Authorize(Policy.ORGANIZER_OR_ADMIN)
     public ResponseEntity<EventDTO> createEvent(@Valid @RequestBody EventDTO eventDTO) {
         return new ResponseEntity<>(eventService.createEvent(eventDTO), HttpStatus.CREATED);
     }
 
     @PutMapping("/{id}")
-    @PreAuthorize("@eventSecurity.isOrganizerOrAdmin(#id, principal)")
+    @Authorize(Policy.EVENT_ORGANIZER_OR_ADMIN)
     public ResponseEntity<EventDTO> updateEvent(
             @PathVariable Long id,
             @Valid @RequestBody EventDTO eventDTO) {
@@ -49,7 +64,7 @@ public class EventController {
     }
 
     @DeleteMapping("/{id}")
-    @PreAuthorize("@eventSecurity.isOrganizerOrAdmin(#id, principal)")
+    @Authorize(Policy.EVENT_ORGANIZER_OR_ADMIN)
     public ResponseEntity<Void> deleteEvent(@PathVariable Long id) {
         eventService.deleteEvent(id);
         return ResponseEntity.noContent().build();
@@ -59,24 +74,42 @@ public class EventController {
     public ResponseEntity<List<EventDTO>> searchEvents(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String category,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
-        return ResponseEntity.ok(eventService.searchEvents(keyword, category, date));
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "false") boolean fuzzy,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
+        return pagination.ok(eventService.searchEvents(keyword, category, date, fuzzy, cursor, pagination.limit(limit)));
     }
 
     @GetMapping("/organizer/{organizerId}")
-    public ResponseEntity<List<EventDTO>> getEventsByOrganizer(@PathVariable Long organizerId) {
-        return ResponseEntity.ok(eventService.findEventsByOrganizer(organizerId));
+    public ResponseEntity<List<EventDTO>> getEventsByOrganizer(
+            @PathVariable Long organizerId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
+        return pagination.ok(eventService.findEventsByOrganizer(organizerId, cursor, pagination.limit(limit)));
     }
 
     @PatchMapping("/{id}/publish")
-    @PreAuthorize("@eventSecurity.isOrganizerOrAdmin(#id, principal)")
+    @Authorize(Policy.EVENT_ORGANIZER_OR_ADMIN)
     public ResponseEntity<EventDTO> publishEvent(@PathVariable Long id) {
         return ResponseEntity.ok(eventService.publishEvent(id));
     }
 
     @PatchMapping("/{id}/unpublish")
-    @PreAuthorize("@eventSecurity.isOrganizerOrAdmin(#id, principal)")
+    @Authorize(Policy.EVENT_ORGANIZER_OR_ADMIN)
     public ResponseEntity<EventDTO> unpublishEvent(@PathVariable Long id) {
         return ResponseEntity.ok(eventService.unpublishEvent(id));
     }
-}
\ No newline at end of file
+
+    @PatchMapping("/{id}/high-demand")
+    @Authorize(Policy.ADMIN)
+    public ResponseEntity<EventDTO> enableHighDemand(@PathVariable Long id) {
+        return ResponseEntity.ok(eventService.enableHighDemand(id));
+    }
+
+    @DeleteMapping("/{id}/high-demand")
+    @Authorize(Policy.ADMIN)
+    public ResponseEntity<EventDTO> disableHighDemand(@PathVariable Long id) {
+        return ResponseEntity.ok(eventService.disableHighDemand(id));
+    }
+}
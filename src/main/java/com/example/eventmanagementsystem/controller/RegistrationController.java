@@ -1,13 +1,26 @@
 package com.example.eventmanagementsystem.controller;
 
+import com.example.eventmanagementsystem.config.IdempotencyFilter;
+import com.example.eventmanagementsystem.dto.BulkRegistrationRequest;
+import com.example.eventmanagementsystem.dto.BulkRegistrationResultDTO;
+import com.example.eventmanagementsystem.dto.QueueTicketDTO;
 import com.example.eventmanagementsystem.dto.RegistrationDTO;
+import com.example.eventmanagementsystem.dto.RegistrationRequestDTO;
+import com.example.eventmanagementsystem.security.Authorize;
+import com.example.eventmanagementsystem.security.Policy;
+import com.example.eventmanagementsystem.service.RegistrationPipeline;
 import com.example.eventmanagementsystem.service.RegistrationService;
+import com.example.eventmanagementsystem.service.WaitingRoom;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.net.URI;
 import java.util.List;
 
 @RestController
@@ -16,41 +29,105 @@ import java.util.List;
 public class RegistrationController {
 
     private final RegistrationService registrationService;
+    private final WaitingRoom waitingRoom;
+    private final RegistrationPipeline registrationPipeline;
+    private final CursorPagination pagination;
+    private final StreamingExport streamingExport;
 
     @GetMapping
-    @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<RegistrationDTO>> getAllRegistrations() {
-        return ResponseEntity.ok(registrationService.findAllRegistrations());
+    @Authorize(Policy.ADMIN)
+    public ResponseEntity<List<RegistrationDTO>> getAllRegistrations(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
+        return pagination.ok(registrationService.findAllRegistrations(cursor, pagination.limit(limit)));
+    }
+
+    // Every registration in one response, streamed as it is read; NDJSON when the client accepts application/x-ndjson
+    @GetMapping("/export")
+    @Authorize(Policy.ADMIN)
+    public ResponseEntity<StreamingResponseBody> exportRegistrations(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return streamingExport.stream(accept, RegistrationDTO.class, registrationService::exportRegistrations);
     }
 
     @GetMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN') or @registrationSecurity.isUserOrEventOrganizer(#id, principal)")
+    @Authorize(Policy.REGISTRATION_PARTY_OR_ADMIN)
     public ResponseEntity<RegistrationDTO> getRegistrationById(@PathVariable Long id) {
         return ResponseEntity.ok(registrationService.findRegistrationById(id));
     }
 
     @GetMapping("/user/{userId}")
-    @PreAuthorize("hasRole('ADMIN') or @userSecurity.isSameUser(#userId, principal)")
-    public ResponseEntity<List<RegistrationDTO>> getRegistrationsByUser(@PathVariable Long userId) {
-        return ResponseEntity.ok(registrationService.findRegistrationsByUser(userId));
+    @Authorize(value = Policy.SAME_USER_OR_ADMIN, resource = "userId")
+    public ResponseEntity<List<RegistrationDTO>> getRegistrationsByUser(
+            @PathVariable Long userId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
+        return pagination.ok(registrationService.findRegistrationsByUser(userId, cursor, pagination.limit(limit)));
     }
 
     @GetMapping("/event/{eventId}")
-    @PreAuthorize("hasRole('ADMIN') or @eventSecurity.isOrganizerOrAdmin(#eventId, principal)")
-    public ResponseEntity<List<RegistrationDTO>> getRegistrationsByEvent(@PathVariable Long eventId) {
-        return ResponseEntity.ok(registrationService.findRegistrationsByEvent(eventId));
+    @Authorize(value = Policy.EVENT_ORGANIZER_OR_ADMIN, resource = "eventId")
+    public ResponseEntity<List<RegistrationDTO>> getRegistrationsByEvent(
+            @PathVariable Long eventId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
+        return pagination.ok(registrationService.findRegistrationsByEvent(eventId, cursor, pagination.limit(limit)));
     }
 
     @PostMapping("/user/{userId}/event/{eventId}")
-    @PreAuthorize("hasRole('ADMIN') or @userSecurity.isSameUser(#userId, principal)")
-    public ResponseEntity<RegistrationDTO> registerForEvent(
+    @Authorize(value = Policy.SAME_USER_OR_ADMIN, resource = "userId")
+    public ResponseEntity<?> registerForEvent(
             @PathVariable Long userId,
-            @PathVariable Long eventId) {
-        return new ResponseEntity<>(registrationService.registerForEvent(userId, eventId), HttpStatus.CREATED);
+            @PathVariable Long eventId,
+            HttpServletRequest httpRequest) {
+        if (!waitingRoom.isGated(eventId)) {
+            if (registrationPipeline.isEnabled()) {
+                // Registered in the background; callers poll the request for the outcome
+                RegistrationRequestDTO request = registrationPipeline.submit(userId, eventId);
+                return ResponseEntity.accepted()
+                        .location(URI.create("/api/registrations/requests/" + request.getRequestId()))
+                        .header(HttpHeaders.RETRY_AFTER, "1")
+                        .body(request);
+            }
+            return new ResponseEntity<>(registrationService.registerForEvent(userId, eventId), HttpStatus.CREATED);
+        }
+
+        // High-demand events admit registrations through the waiting room; queued callers retry after the hint
+        QueueTicketDTO ticket = waitingRoom.enter(userId, eventId);
+        if (!WaitingRoom.ADMITTED.equals(ticket.getStatus())) {
+            // The retry is the next attempt to get in, so it must not replay this ticket
+            httpRequest.setAttribute(IdempotencyFilter.RETRY_EXPECTED, true);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/registrations/queue/" + ticket.getTicketId()))
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ticket.getEstimatedWaitSeconds())))
+                    .body(ticket);
+        }
+        return new ResponseEntity<>(waitingRoom.registerAdmitted(ticket.getTicketId(),
+                () -> registrationService.registerForEvent(userId, eventId)), HttpStatus.CREATED);
+    }
+
+    @PostMapping("/event/{eventId}/bulk")
+    @Authorize(Policy.ADMIN)
+    public ResponseEntity<List<BulkRegistrationResultDTO>> registerUsersForEvent(
+            @PathVariable Long eventId,
+            @Valid @RequestBody BulkRegistrationRequest request) {
+        return ResponseEntity.ok(registrationService.registerUsersForEvent(eventId, request.getUserIds()));
+    }
+
+    // The ticket id is unguessable, so holding it is enough to read its position
+    @GetMapping("/queue/{ticketId}")
+    public ResponseEntity<QueueTicketDTO> getQueueTicket(@PathVariable String ticketId) {
+        return ResponseEntity.ok(waitingRoom.getTicket(ticketId));
+    }
+
+    // Request ids are unguessable too
+    @GetMapping("/requests/{requestId}")
+    public ResponseEntity<RegistrationRequestDTO> getRegistrationRequest(@PathVariable String requestId) {
+        return ResponseEntity.ok(registrationPipeline.getStatus(requestId));
     }
 
     @PatchMapping("/user/{userId}/event/{eventId}/cancel")
-    @PreAuthorize("hasRole('ADMIN') or @userSecurity.isSameUser(#userId, principal)")
+    @Authorize(value = Policy.SAME_USER_OR_ADMIN, resource = "userId")
     public ResponseEntity<RegistrationDTO> cancelRegistration(
             @PathVariable Long userId,
             @PathVariable Long eventId) {
@@ -58,7 +135,7 @@ public class RegistrationController {
     }
 
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN')")
+    @Authorize(Policy.ADMIN)
     public ResponseEntity<Void> deleteRegistration(@PathVariable Long id) {
         registrationService.deleteRegistration(id);
         return ResponseEntity.noContent().build();
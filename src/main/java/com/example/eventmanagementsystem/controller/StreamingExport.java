@@ -0,0 +1,60 @@
+package com.example.eventmanagementsystem.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Writes export endpoints straight to the response while the rows are read, as a JSON array or, when the
+ * client accepts {@code application/x-ndjson}, as one JSON document per line. Nothing is buffered beyond the
+ * servlet output buffer, so a response of any size needs constant memory.
+ */
+@Component
+@RequiredArgsConstructor
+public class StreamingExport {
+
+    private final ObjectMapper objectMapper;
+
+    // The source runs on the async request thread and calls the sink once per row
+    public <T> ResponseEntity<StreamingResponseBody> stream(String accept, Class<T> type, Consumer<Consumer<T>> source) {
+        boolean ndjson = accept != null && MediaType.parseMediaTypes(accept).stream()
+                .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+        // Flushing after every row would send one network packet per row
+        ObjectWriter writer = objectMapper.writerFor(type).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody body = out -> {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+            generator.setRootValueSeparator(null);
+            if (!ndjson) {
+                generator.writeStartArray();
+            }
+            source.accept(row -> {
+                try {
+                    writer.writeValue(generator, row);
+                    if (ndjson) {
+                        generator.writeRaw('\n');
+                    }
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+            if (!ndjson) {
+                generator.writeEndArray();
+            }
+            generator.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+}
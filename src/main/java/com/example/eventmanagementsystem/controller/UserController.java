@@ -1,13 +1,16 @@
 package com.example.eventmanagementsystem.controller;
 
 import com.example.eventmanagementsystem.dto.UserDTO;
+import com.example.eventmanagementsystem.security.Authorize;
+import com.example.eventmanagementsystem.security.Policy;
 import com.example.eventmanagementsystem.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -17,15 +20,27 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final CursorPagination pagination;
+    private final StreamingExport streamingExport;
 
     @GetMapping
-    @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<UserDTO>> getAllUsers() {
-        return ResponseEntity.ok(userService.findAllUsers());
+    @Authorize(Policy.ADMIN)
+    public ResponseEntity<List<UserDTO>> getAllUsers(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
+        return pagination.ok(userService.findAllUsers(cursor, pagination.limit(limit)));
+    }
+
+    // Every user in one response, streamed as it is read; NDJSON when the client accepts application/x-ndjson
+    @GetMapping("/export")
+    @Authorize(Policy.ADMIN)
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return streamingExport.stream(accept, UserDTO.class, userService::exportUsers);
     }
 
     @GetMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN') or @userSecurity.isSameUser(#id, principal)")
+    @Authorize(Policy.SAME_USER_OR_ADMIN)
     public ResponseEntity<UserDTO> getUserById(@PathVariable Long id) {
         return ResponseEntity.ok(userService.findUserById(id));
     }
@@ -41,7 +56,7 @@ public class UserController {
     }
 
     @PutMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN') or @userSecurity.isSameUser(#id, principal)")
+    @Authorize(Policy.SAME_USER_OR_ADMIN)
     public ResponseEntity<UserDTO> updateUser(
             @PathVariable Long id,
             @Valid @RequestBody UserDTO userDTO) {
@@ -49,7 +64,7 @@ public class UserController {
     }
 
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN') or @userSecurity.isSameUser(#id, principal)")
+    @Authorize(Policy.SAME_USER_OR_ADMIN)
     public ResponseEntity<Void> deleteUser(@PathVariable Long id) {
         userService.deleteUser(id);
         return ResponseEntity.noContent().build();
@@ -0,0 +1,22 @@
+package com.example.eventmanagementsystem.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkRegistrationRequest {
+
+    @NotEmpty(message = "At least one user id is required")
+    @Size(max = 500, message = "At most 500 users can be registered at once")
+    private List<@NotNull Long> userIds;
+}
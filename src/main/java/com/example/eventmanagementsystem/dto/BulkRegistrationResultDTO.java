@@ -0,0 +1,20 @@
+package com.example.eventmanagementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkRegistrationResultDTO {
+
+    private Long userId;
+
+    // Null unless a registration was created
+    private Long registrationId;
+
+    private String status; // CONFIRMED, WAITLISTED, ALREADY_REGISTERED, USER_NOT_FOUND
+}
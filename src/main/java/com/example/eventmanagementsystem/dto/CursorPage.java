@@ -0,0 +1,18 @@
+package com.example.eventmanagementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private List<T> items;
+
+    // Opaque token for the page after this one; null on the last page
+    private String nextCursor;
+}
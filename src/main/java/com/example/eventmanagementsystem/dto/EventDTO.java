@@ -41,6 +41,8 @@ public class EventDTO {
 
     private boolean published;
 
+    private boolean highDemand;
+
     private Long organizerId;
 
     private String organizerName;
@@ -13,6 +13,7 @@ public class JwtAuthResponse {
     private String accessToken;
     @Builder.Default
     private String tokenType = "Bearer";
+    private String refreshToken;
     private Long userId;
     private String username;
     private String email;
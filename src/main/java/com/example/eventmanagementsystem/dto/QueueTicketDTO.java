@@ -0,0 +1,26 @@
+package com.example.eventmanagementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QueueTicketDTO {
+
+    private String ticketId;
+
+    private Long userId;
+
+    private Long eventId;
+
+    private String status; // WAITING, ADMITTED
+
+    // Tickets ahead of this one plus one; 0 once admitted
+    private long position;
+
+    private long estimatedWaitSeconds;
+}
@@ -0,0 +1,27 @@
+package com.example.eventmanagementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegistrationRequestDTO {
+
+    private String requestId;
+
+    private Long userId;
+
+    private Long eventId;
+
+    private String status; // PENDING, CONFIRMED, WAITLISTED, FAILED
+
+    // Set once the registration is written
+    private Long registrationId;
+
+    // Why a FAILED request was rejected
+    private String message;
+}
@@ -11,7 +11,13 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "events")
+@Table(name = "events", indexes = {
+        // Keyset pages are read in (start_time, id) order; the primary key is implicit in the index
+        @Index(name = "idx_events_start_time", columnList = "start_time"),
+        // Searches always filter on published and usually on category, then range over or order by start_time
+        @Index(name = "idx_events_published_category_start_time", columnList = "published, category, start_time"),
+        @Index(name = "idx_events_organizer_id", columnList = "organizer_id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -19,7 +25,8 @@ import java.util.List;
 public class Event {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_seq")
+    @SequenceGenerator(name = "events_seq", sequenceName = "events_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -42,6 +49,14 @@ public class Event {
 
     private boolean published = false;
 
+    // Number of CONFIRMED registrations. Maintained only by atomic UPDATEs in EventRepository, so saving a
+    // loaded Event never writes back a stale value.
+    @Column(nullable = false, updatable = false)
+    private int confirmedCount;
+
+    // Flash-sale mode: seats are handed out from an in-memory counter (see SeatInventory)
+    private boolean highDemand;
+
     @Version
     private Long version;
 
@@ -64,7 +79,7 @@ public class Event {
     }
 
     public int getAvailableSpots() {
-        return capacity - registrations.size();
+        return capacity - confirmedCount;
     }
 
     public boolean hasAvailableSpots() {
@@ -0,0 +1,41 @@
+package com.example.eventmanagementsystem.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "idempotency_keys")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+
+    // SHA-256 (hex) of the caller, method, URI and Idempotency-Key header
+    @Id
+    @Column(length = 64)
+    private String id;
+
+    // HTTP status of the stored response; 0 while the first request is still running
+    @Column(nullable = false)
+    private int status;
+
+    private String contentType;
+
+    private String location;
+
+    @Lob
+    @Column(length = 1_048_576)
+    private byte[] body;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
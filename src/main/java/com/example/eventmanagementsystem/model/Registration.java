@@ -11,6 +11,9 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "registrations", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"user_id", "event_id"})
+}, indexes = {
+        // Serves the waitlist head lookup without scanning the event's waitlist
+        @Index(name = "idx_registrations_event_status_time", columnList = "event_id, registration_status, registration_time")
 })
 @Data
 @Builder
@@ -18,8 +21,11 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class Registration {
 
+    // Ids come from a pooled sequence (a one-row table on MySQL), 50 per round trip, so Hibernate can
+    // batch inserts; IDENTITY needs each row's generated key before the next insert
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "registrations_seq")
+    @SequenceGenerator(name = "registrations_seq", sequenceName = "registrations_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
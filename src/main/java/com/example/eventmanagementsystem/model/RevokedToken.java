@@ -0,0 +1,35 @@
+package com.example.eventmanagementsystem.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "revoked_tokens")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokedToken {
+
+    // The access token's jti claim
+    @Id
+    @Column(length = 36)
+    private String tokenId;
+
+    // When the token would have expired anyway; after that the row can be dropped
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false)
+    private LocalDateTime revokedAt;
+
+    @PrePersist
+    public void onCreate() {
+        revokedAt = LocalDateTime.now();
+    }
+}
@@ -1,32 +1,145 @@
 package com.example.eventmanagementsystem.repository;
 
 import com.example.eventmanagementsystem.model.Event;
+import com.example.eventmanagementsystem.repository.projection.EventOwnershipView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.FluentQuery;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface EventRepository extends JpaRepository<Event, Long> {
+public interface EventRepository extends JpaRepository<Event, Long>, JpaSpecificationExecutor<Event> {
 
+    // List queries fetch the organizer with the events so building DTOs needs no further queries
+
+    @Override
+    @EntityGraph(attributePaths = "organizer")
+    List<Event> findAll();
+
+    @EntityGraph(attributePaths = "organizer")
     List<Event> findByPublishedTrue();
 
+    @EntityGraph(attributePaths = "organizer")
     List<Event> findByOrganizerId(Long organizerId);
 
-    @Query("SELECT e FROM Event e WHERE e.published = true AND " +
-            "(:keyword IS NULL OR LOWER(e.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(e.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
-            "(:category IS NULL OR e.category = :category) AND " +
-            "(:date IS NULL OR CAST(e.startTime AS LocalDate) = :date)")
-    List<Event> searchEvents(
-            @Param("keyword") String keyword,
-            @Param("category") String category,
-            @Param("date") LocalDate date);
+    // Keyset pages: each call continues after the sort keys of the previous page's last row
+
+    @EntityGraph(attributePaths = "organizer")
+    Window<Event> findBy(ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph(attributePaths = "organizer")
+    Window<Event> findByPublishedTrue(ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph(attributePaths = "organizer")
+    Window<Event> findByOrganizerId(Long organizerId, ScrollPosition position, Sort sort, Limit limit);
+
+    // Published events in (startTime, id) order; pass the last row's keys to continue after it, or nulls for
+    // the first page. Null filters are left out of the query rather than compared against NULL.
+    default List<Event> searchEvents(String keyword, String category, LocalDate date,
+                                     LocalDateTime afterStartTime, Long afterId, Limit limit) {
+        Specification<Event> spec = Specification.where(EventSpecifications.published())
+                .and(EventSpecifications.fetchOrganizer());
+        if (category != null) {
+            spec = spec.and(EventSpecifications.inCategory(category));
+        }
+        if (date != null) {
+            spec = spec.and(EventSpecifications.startsOn(date));
+        }
+        if (keyword != null) {
+            spec = spec.and(EventSpecifications.matchesKeyword(keyword));
+        }
+        if (afterId != null) {
+            spec = spec.and(EventSpecifications.after(afterStartTime, afterId));
+        }
+        return findBy(spec, query -> {
+            FluentQuery.FetchableFluentQuery<Event> ordered = query.sortBy(Sort.by("startTime", "id"));
+            return limit.isLimited() ? ordered.limit(limit.max()).all() : ordered.all();
+        });
+    }
+
+    // Forward-only read for exports: rows arrive in fetch-size chunks and are not tracked for changes
+    @Query("SELECT e FROM Event e JOIN FETCH e.organizer ORDER BY e.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Event> streamAll();
+
+    // Published events for building the search index; the organizer is not loaded, only its id is read
+    @Query("SELECT e FROM Event e WHERE e.published = true ORDER BY e.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Event> streamPublished();
+
+    @EntityGraph(attributePaths = "organizer")
+    List<Event> findByIdIn(Collection<Long> ids);
 
     List<Event> findByStartTimeBetween(LocalDateTime start, LocalDateTime end);
 
     List<Event> findByCapacityGreaterThan(int minimumCapacity);
-}
\ No newline at end of file
+
+    @Query("SELECT o.id AS organizerId, o.username AS organizerUsername " +
+            "FROM Event e JOIN e.organizer o WHERE e.id = :eventId")
+    Optional<EventOwnershipView> findOwnershipById(@Param("eventId") Long eventId);
+
+    List<Event> findByHighDemandTrue();
+
+    @Query("SELECT e.id FROM Event e WHERE e.organizer.id = :organizerId AND e.highDemand = true")
+    List<Long> findHighDemandIdsByOrganizerId(@Param("organizerId") Long organizerId);
+
+    @Query("SELECT e.capacity - e.confirmedCount FROM Event e WHERE e.id = :eventId")
+    Optional<Integer> findRemainingSeatsById(@Param("eventId") Long eventId);
+
+    @Query("SELECT e.confirmedCount FROM Event e WHERE e.id = :eventId")
+    Optional<Integer> findConfirmedCountById(@Param("eventId") Long eventId);
+
+    // Confirmed-registration counter; each statement is a single atomic read-modify-write in the database
+
+    // Takes a seat only while one is free: returns 0 when the event is full. The row lock taken by the
+    // UPDATE serializes concurrent reservations for the same event until the transaction ends.
+    @Modifying
+    @Query("UPDATE Event e SET e.confirmedCount = e.confirmedCount + 1 " +
+            "WHERE e.id = :eventId AND e.confirmedCount < e.capacity")
+    int reserveSeat(@Param("eventId") Long eventId);
+
+    // All-or-nothing version of reserveSeat for a group
+    @Modifying
+    @Query("UPDATE Event e SET e.confirmedCount = e.confirmedCount + :seats " +
+            "WHERE e.id = :eventId AND e.confirmedCount + :seats <= e.capacity")
+    int reserveSeats(@Param("eventId") Long eventId, @Param("seats") int seats);
+
+    @Modifying
+    @Query("UPDATE Event e SET e.confirmedCount = e.confirmedCount - 1 WHERE e.id = :eventId AND e.confirmedCount > 0")
+    int decrementConfirmedCount(@Param("eventId") Long eventId);
+
+    @Query("SELECT e.id FROM Event e LEFT JOIN e.registrations r ON r.registrationStatus = 'CONFIRMED' " +
+            "GROUP BY e.id, e.confirmedCount HAVING COUNT(r) <> e.confirmedCount")
+    List<Long> findIdsWithConfirmedCountDrift();
+
+    @Modifying
+    @Query("UPDATE Event e SET e.confirmedCount = " +
+            "(SELECT COUNT(r) FROM Registration r WHERE r.event.id = e.id AND r.registrationStatus = 'CONFIRMED') " +
+            "WHERE e.id IN :eventIds")
+    int recountConfirmed(@Param("eventIds") Collection<Long> eventIds);
+}
@@ -0,0 +1,60 @@
+package com.example.eventmanagementsystem.repository;
+
+import com.example.eventmanagementsystem.model.Event;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Predicates for event searches. Each filter is added to the query only when it is used, so the database
+ * plans every combination on its own instead of one plan full of {@code :param IS NULL OR ...} branches, and
+ * the remaining predicates compare bare columns that the {@code events} indexes can serve.
+ */
+public final class EventSpecifications {
+
+    private EventSpecifications() {
+    }
+
+    public static Specification<Event> published() {
+        return (root, query, cb) -> cb.isTrue(root.get("published"));
+    }
+
+    public static Specification<Event> inCategory(String category) {
+        return (root, query, cb) -> cb.equal(root.get("category"), category);
+    }
+
+    // Half-open range [date, date + 1 day) on the raw column instead of casting every row's start time
+    public static Specification<Event> startsOn(LocalDate date) {
+        return (root, query, cb) -> cb.and(
+                cb.greaterThanOrEqualTo(root.get("startTime"), date.atStartOfDay()),
+                cb.lessThan(root.get("startTime"), date.plusDays(1).atStartOfDay()));
+    }
+
+    // A leading wildcard cannot use an index; this is applied to the rows the other predicates leave
+    public static Specification<Event> matchesKeyword(String keyword) {
+        return (root, query, cb) -> {
+            String pattern = "%" + keyword.toLowerCase() + "%";
+            return cb.or(
+                    cb.like(cb.lower(root.get("name")), pattern),
+                    cb.like(cb.lower(root.get("description")), pattern));
+        };
+    }
+
+    // Keyset position in (startTime, id) order
+    public static Specification<Event> after(LocalDateTime startTime, Long id) {
+        return (root, query, cb) -> cb.or(
+                cb.greaterThan(root.get("startTime"), startTime),
+                cb.and(cb.equal(root.get("startTime"), startTime), cb.greaterThan(root.get("id"), id)));
+    }
+
+    // Loads the organizer in the same query; count queries cannot fetch
+    public static Specification<Event> fetchOrganizer() {
+        return (root, query, cb) -> {
+            if (query.getResultType() != Long.class && query.getResultType() != long.class) {
+                root.fetch("organizer");
+            }
+            return null;
+        };
+    }
+}
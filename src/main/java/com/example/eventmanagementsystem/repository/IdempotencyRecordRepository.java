@@ -0,0 +1,44 @@
+package com.example.eventmanagementsystem.repository;
+
+import com.example.eventmanagementsystem.model.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    // A plain INSERT, so a key that is already taken fails on the primary key instead of being merged
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO idempotency_keys (id, status, created_at, expires_at) " +
+            "VALUES (:id, 0, :createdAt, :expiresAt)", nativeQuery = true)
+    int insertInProgress(@Param("id") String id,
+                         @Param("createdAt") LocalDateTime createdAt,
+                         @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE IdempotencyRecord r SET r.status = :status, r.contentType = :contentType, " +
+            "r.location = :location, r.body = :body WHERE r.id = :id")
+    int complete(@Param("id") String id,
+                 @Param("status") int status,
+                 @Param("contentType") String contentType,
+                 @Param("location") String location,
+                 @Param("body") byte[] body);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.id = :id AND r.status = 0")
+    int deleteInProgress(@Param("id") String id);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
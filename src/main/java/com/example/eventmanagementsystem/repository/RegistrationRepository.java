@@ -1,11 +1,25 @@
 package com.example.eventmanagementsystem.repository;
 
 import com.example.eventmanagementsystem.model.Registration;
+import com.example.eventmanagementsystem.repository.projection.RegistrationOwnershipView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface RegistrationRepository extends JpaRepository<Registration, Long> {
@@ -14,9 +28,51 @@ public interface RegistrationRepository extends JpaRepository<Registration, Long
 
     List<Registration> findByEventId(Long eventId);
 
+    // Keyset pages: each call continues after the sort keys of the previous page's last row. The user and
+    // event are fetched with the registrations so building DTOs needs no further queries
+
+    @EntityGraph(attributePaths = {"user", "event"})
+    Window<Registration> findBy(ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph(attributePaths = {"user", "event"})
+    Window<Registration> findByUserId(Long userId, ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph(attributePaths = {"user", "event"})
+    Window<Registration> findByEventId(Long eventId, ScrollPosition position, Sort sort, Limit limit);
+
+    // Forward-only read for exports: rows arrive in fetch-size chunks and are not tracked for changes
+    @Query("SELECT r FROM Registration r JOIN FETCH r.user JOIN FETCH r.event ORDER BY r.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Registration> streamAll();
+
     Optional<Registration> findByUserIdAndEventId(Long userId, Long eventId);
 
     boolean existsByUserIdAndEventId(Long userId, Long eventId);
 
     int countByEventId(Long eventId);
+
+    @Query("SELECT r.user.id FROM Registration r WHERE r.event.id = :eventId AND r.user.id IN :userIds")
+    List<Long> findRegisteredUserIds(@Param("eventId") Long eventId, @Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT r.event.id FROM Registration r WHERE r.user.id = :userId AND r.registrationStatus = 'CONFIRMED'")
+    List<Long> findConfirmedEventIdsByUserId(@Param("userId") Long userId);
+
+    // Oldest waitlisted registration; an index range scan on (event_id, registration_status, registration_time)
+    @Query("SELECT r.id FROM Registration r WHERE r.event.id = :eventId AND r.registrationStatus = 'WAITLISTED' " +
+            "ORDER BY r.registrationTime, r.id LIMIT 1")
+    Optional<Long> findWaitlistHead(@Param("eventId") Long eventId);
+
+    // Returns 0 when the registration is no longer waitlisted, e.g. it was cancelled or promoted concurrently
+    @Modifying
+    @Query("UPDATE Registration r SET r.registrationStatus = 'CONFIRMED' " +
+            "WHERE r.id = :registrationId AND r.registrationStatus = 'WAITLISTED'")
+    int confirmWaitlisted(@Param("registrationId") Long registrationId);
+
+    @Query("SELECT u.id AS userId, u.username AS username, e.id AS eventId, " +
+            "o.id AS organizerId, o.username AS organizerUsername " +
+            "FROM Registration r JOIN r.user u JOIN r.event e JOIN e.organizer o WHERE r.id = :registrationId")
+    Optional<RegistrationOwnershipView> findOwnershipById(@Param("registrationId") Long registrationId);
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.example.eventmanagementsystem.repository.projection;
+
+/**
+ * Organizer of an event, read as scalars for authorization checks.
+ */
+public interface EventOwnershipView {
+
+    Long getOrganizerId();
+
+    String getOrganizerUsername();
+}
@@ -0,0 +1,17 @@
+package com.example.eventmanagementsystem.repository.projection;
+
+/**
+ * Who made a registration and who organizes its event, read as scalars for authorization checks.
+ */
+public interface RegistrationOwnershipView {
+
+    Long getUserId();
+
+    String getUsername();
+
+    Long getEventId();
+
+    Long getOrganizerId();
+
+    String getOrganizerUsername();
+}
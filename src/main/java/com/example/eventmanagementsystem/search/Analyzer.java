@@ -0,0 +1,32 @@
+package com.example.eventmanagementsystem.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Turns text into index terms: splits on anything that is not a letter or digit, lowercases and stems each
+ * word. Documents and queries go through the same steps, so "Concerts" in a query finds "concert" in a name.
+ */
+final class Analyzer {
+
+    private Analyzer() {
+    }
+
+    static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                word.append(Character.toLowerCase(c));
+            } else if (!word.isEmpty()) {
+                terms.add(Stemmer.stem(word.toString()));
+                word.setLength(0);
+            }
+        }
+        return terms;
+    }
+}
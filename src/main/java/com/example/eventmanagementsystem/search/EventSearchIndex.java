@@ -0,0 +1,566 @@
+package com.example.eventmanagementsystem.search;
+
+import com.example.eventmanagementsystem.model.Event;
+import com.example.eventmanagementsystem.repository.EventRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory inverted index over the published events, used for keyword search.
+ * <p>
+ * The name, description, location and category are split into stemmed, lowercase terms (see {@link Analyzer}).
+ * Each term maps to a posting list of document numbers and term frequencies held in {@code int} arrays, sorted
+ * by document number. A query matches the events containing every query term. It walks the shortest posting
+ * list and seeks into the others, and ranks matches with BM25, counting name matches three times and location
+ * and category matches twice. Category and date filters are checked per document, so no database query is
+ * involved until the page of results is loaded.
+ * <p>
+ * The index is built when the application is ready and kept current by the services, which call the
+ * {@code on*} methods whenever an event is published, unpublished, updated or deleted. As in
+ * {@link com.example.eventmanagementsystem.security.OwnershipIndex}, additions are applied after commit and
+ * removals immediately and again after commit. A changed event gets a new document number; the old one is
+ * marked dead and skipped, and dead documents are compacted away once they outnumber the live ones. Until the
+ * first build completes {@link #isReady()} is false and callers should search the database instead.
+ * <p>
+ * Only changes made through this instance reach the {@code on*} methods. Events changed by other instances or
+ * directly in the database are picked up when the index is rebuilt every {@code search.index.rebuild-interval},
+ * so with several instances each one's results can be that far behind. A rebuild loads the events without
+ * blocking searches and replays the updates that arrived meanwhile before swapping the new contents in.
+ * <p>
+ * {@link #fuzzySearch} tolerates misspellings: names and locations are also indexed by trigram (see
+ * {@link TrigramIndex}), and events whose name or location, or a single word of either, is at least
+ * {@code search.fuzzy.threshold} similar to the keyword are returned, most similar first.
+ * <p>
+ * Publishes {@code search.index.events}, {@code search.index.terms} and {@code search.index.trigrams}.
+ */
+@Slf4j
+@Component
+public class EventSearchIndex implements MeterBinder {
+
+    private static final int NAME_WEIGHT = 3;
+    private static final int LOCATION_WEIGHT = 2;
+    private static final int CATEGORY_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    // BM25 term-frequency saturation and length normalization
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    private static final int ANY = Integer.MIN_VALUE;
+    private static final int NO_CATEGORY = -1;
+    private static final int LOAD_CHUNK_SIZE = 500;
+    private static final int MIN_DEAD_TO_COMPACT = 1024;
+
+    // Best match first; equal scores in event id order, so pages can continue after a (score, id) position
+    private static final Comparator<Hit> RANKING = (a, b) -> a.score() != b.score()
+            ? Float.compare(b.score(), a.score())
+            : Long.compare(a.eventId(), b.eventId());
+
+    private final EventRepository eventRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final float fuzzyThreshold;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> docsByEvent = new HashMap<>();
+    private final Map<String, Integer> categoryIds = new HashMap<>();
+    private final TrigramIndex trigrams = new TrigramIndex();
+    private BitSet live = new BitSet();
+    private long[] eventIds = new long[0];
+    private long[] organizerIds = new long[0];
+    private int[] startDays = new int[0];
+    private int[] categories = new int[0];
+    private int[] lengths = new int[0];
+    private int docCount;
+    private int liveCount;
+    private long liveLength;
+    // Events added (or removed, as null) while a rebuild is loading; null when no rebuild is running
+    private Map<Long, Document> changedDuringLoad;
+    private volatile boolean ready;
+
+    public EventSearchIndex(EventRepository eventRepository, EntityManager entityManager,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${search.index.enabled:true}") boolean enabled,
+                            @Value("${search.fuzzy.threshold:0.3}") float fuzzyThreshold) {
+        this.eventRepository = eventRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.enabled = enabled;
+        this.fuzzyThreshold = fuzzyThreshold;
+    }
+
+    // Runs after the CommandLineRunners, so events seeded at startup are included, and then periodically to pick up
+    // changes made by other instances or directly in the database
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${search.index.rebuild-interval:3600000}",
+            initialDelayString = "${search.index.rebuild-interval:3600000}")
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        // Loaded without holding the lock so searches carry on; updates made meanwhile are replayed afterwards
+        write(() -> changedDuringLoad = new HashMap<>());
+        List<Document> documents = new ArrayList<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<Event> events = eventRepository.streamPublished()) {
+                    for (Iterator<Event> it = events.iterator(); it.hasNext(); ) {
+                        documents.add(Document.of(it.next()));
+                        if (documents.size() % LOAD_CHUNK_SIZE == 0) {
+                            entityManager.clear();
+                        }
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            write(() -> changedDuringLoad = null);
+            throw e;
+        }
+        write(() -> {
+            Map<Long, Document> changed = changedDuringLoad;
+            changedDuringLoad = null;
+            clear();
+            documents.forEach(this::add);
+            changed.forEach((eventId, document) -> {
+                if (document == null) {
+                    removeDoc(eventId);
+                } else {
+                    add(document);
+                }
+            });
+            ready = true;
+            log.info("Search index built: {} events, {} terms", liveCount, postings.size());
+        });
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Published events containing every term of the keyword, best match first, optionally limited to one
+     * category and one start date. {@code after} is the last hit of the previous page, or null for the first.
+     */
+    public List<Hit> search(String keyword, String category, LocalDate date, Hit after, int limit) {
+        List<String> terms = Analyzer.terms(keyword).stream().distinct().toList();
+        if (terms.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Postings[] lists = new Postings[terms.size()];
+            for (int t = 0; t < lists.length; t++) {
+                lists[t] = postings.get(terms.get(t));
+                if (lists[t] == null) {
+                    return List.of();
+                }
+            }
+            int categoryId = category == null ? ANY : categoryIds.getOrDefault(category, NO_CATEGORY);
+            if (categoryId == NO_CATEGORY) {
+                return List.of();
+            }
+            int day = date == null ? ANY : (int) date.toEpochDay();
+            return rank(lists, categoryId, day, after, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Published events whose name or location, or a word of either, is similar to the keyword, most similar
+     * first, with the same filters and paging as {@link #search}. Scores are trigram similarities between 0 and 1.
+     */
+    public List<Hit> fuzzySearch(String keyword, String category, LocalDate date, Hit after, int limit) {
+        long[] query = Trigrams.of(keyword);
+        if (query.length == 0 || limit < 1) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            int categoryId = category == null ? ANY : categoryIds.getOrDefault(category, NO_CATEGORY);
+            if (categoryId == NO_CATEGORY) {
+                return List.of();
+            }
+            int day = date == null ? ANY : (int) date.toEpochDay();
+            TopHits top = new TopHits(after, limit);
+            trigrams.match(query, fuzzyThreshold, doc -> accepts(doc, categoryId, day),
+                    (doc, similarity) -> top.offer(eventIds[doc], similarity));
+            return top.sorted();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Updates
+
+    // Indexes a published event, replacing any earlier version; an unpublished one is removed
+    public void onEventChanged(Event event) {
+        if (!enabled) {
+            return;
+        }
+        Long eventId = event.getId();
+        if (!event.isPublished()) {
+            nowAndAfterCommit(() -> remove(eventId));
+            return;
+        }
+        Document document = Document.of(event);
+        afterCommit(() -> write(() -> add(document)));
+    }
+
+    public void onEventDeleted(Long eventId) {
+        if (enabled) {
+            nowAndAfterCommit(() -> remove(eventId));
+        }
+    }
+
+    // Deleting a user cascades to the events they organize
+    public void onUserDeleted(Long userId) {
+        if (enabled) {
+            nowAndAfterCommit(() -> write(() -> {
+                // Collected first: a removal can compact and renumber the documents
+                List<Long> organized = new ArrayList<>();
+                for (int doc = live.nextSetBit(0); doc >= 0; doc = live.nextSetBit(doc + 1)) {
+                    if (organizerIds[doc] == userId) {
+                        organized.add(eventIds[doc]);
+                    }
+                }
+                organized.forEach(this::removeDoc);
+            }));
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("search.index.events", this, index -> index.liveCount)
+                .description("Published events in the keyword search index")
+                .register(registry);
+        Gauge.builder("search.index.terms", postings, Map::size)
+                .description("Distinct terms in the keyword search index")
+                .register(registry);
+        Gauge.builder("search.index.trigrams", trigrams, TrigramIndex::trigrams)
+                .description("Distinct name and location trigrams in the fuzzy search index")
+                .register(registry);
+    }
+
+    // Helper methods
+    private List<Hit> rank(Postings[] lists, int categoryId, int day, Hit after, int limit) {
+        // Walk the rarest term and seek into the others
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+        float[] idf = new float[lists.length];
+        for (int t = 0; t < lists.length; t++) {
+            // Dead documents still count towards a list's size until compaction; close enough for ranking
+            float df = Math.min(lists[t].size, liveCount);
+            idf[t] = (float) Math.log(1 + (liveCount - df + 0.5) / (df + 0.5));
+        }
+        float averageLength = liveCount == 0 ? 1 : (float) liveLength / liveCount;
+        float normBase = K1 * (1 - B);
+        float normPerTerm = K1 * B / averageLength;
+        int[] positions = new int[lists.length];
+        TopHits top = new TopHits(after, limit);
+
+        Postings rarest = lists[0];
+        candidates:
+        for (int i = 0; i < rarest.size; i++) {
+            int doc = rarest.docs[i];
+            if (!accepts(doc, categoryId, day)) {
+                continue;
+            }
+            float norm = normBase + normPerTerm * lengths[doc];
+            float score = idf[0] * saturate(rarest.freqs[i], norm);
+            for (int t = 1; t < lists.length; t++) {
+                int position = lists[t].seek(doc, positions[t]);
+                positions[t] = position;
+                if (position == lists[t].size || lists[t].docs[position] != doc) {
+                    continue candidates;
+                }
+                score += idf[t] * saturate(lists[t].freqs[position], norm);
+            }
+            top.offer(eventIds[doc], score);
+        }
+        return top.sorted();
+    }
+
+    private boolean accepts(int doc, int categoryId, int day) {
+        return live.get(doc)
+                && (categoryId == ANY || categories[doc] == categoryId)
+                && (day == ANY || startDays[doc] == day);
+    }
+
+    private static float saturate(int frequency, float norm) {
+        return frequency * (K1 + 1) / (frequency + norm);
+    }
+
+    private void add(Document document) {
+        removeDoc(document.eventId());
+        int doc = docCount++;
+        if (doc == eventIds.length) {
+            int capacity = Math.max(1024, doc + (doc >> 1));
+            eventIds = Arrays.copyOf(eventIds, capacity);
+            organizerIds = Arrays.copyOf(organizerIds, capacity);
+            startDays = Arrays.copyOf(startDays, capacity);
+            categories = Arrays.copyOf(categories, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+        }
+        eventIds[doc] = document.eventId();
+        organizerIds[doc] = document.organizerId();
+        startDays[doc] = document.startDay();
+        categories[doc] = document.category() == null
+                ? NO_CATEGORY
+                : categoryIds.computeIfAbsent(document.category(), name -> categoryIds.size());
+        lengths[doc] = document.length();
+        document.frequencies().forEach((term, frequency) ->
+                postings.computeIfAbsent(term, key -> new Postings()).add(doc, frequency));
+        trigrams.add(doc, document.trigrams());
+        docsByEvent.put(document.eventId(), doc);
+        live.set(doc);
+        liveCount++;
+        liveLength += document.length();
+        if (changedDuringLoad != null) {
+            changedDuringLoad.put(document.eventId(), document);
+        }
+    }
+
+    private void remove(Long eventId) {
+        write(() -> removeDoc(eventId));
+    }
+
+    private void removeDoc(long eventId) {
+        if (changedDuringLoad != null) {
+            changedDuringLoad.put(eventId, null);
+        }
+        Integer doc = docsByEvent.remove(eventId);
+        if (doc == null) {
+            return;
+        }
+        live.clear(doc);
+        liveCount--;
+        liveLength -= lengths[doc];
+        int dead = docCount - liveCount;
+        if (dead >= MIN_DEAD_TO_COMPACT && dead > liveCount) {
+            compact();
+        }
+    }
+
+    // Renumbers the live documents in their current order, so every posting list stays sorted
+    private void compact() {
+        int[] renumbered = new int[docCount];
+        int next = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (live.get(doc)) {
+                renumbered[doc] = next;
+                eventIds[next] = eventIds[doc];
+                organizerIds[next] = organizerIds[doc];
+                startDays[next] = startDays[doc];
+                categories[next] = categories[doc];
+                lengths[next] = lengths[doc];
+                next++;
+            } else {
+                renumbered[doc] = -1;
+            }
+        }
+        postings.values().removeIf(list -> list.retain(renumbered) == 0);
+        trigrams.retain(renumbered);
+        docsByEvent.replaceAll((eventId, doc) -> renumbered[doc]);
+        live = new BitSet(next);
+        live.set(0, next);
+        docCount = next;
+    }
+
+    private void clear() {
+        postings.clear();
+        docsByEvent.clear();
+        categoryIds.clear();
+        trigrams.clear();
+        live = new BitSet();
+        docCount = 0;
+        liveCount = 0;
+        liveLength = 0;
+    }
+
+    private void write(Runnable update) {
+        lock.writeLock().lock();
+        try {
+            update.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static void nowAndAfterCommit(Runnable action) {
+        action.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            afterCommit(action);
+        }
+    }
+
+    public record Hit(long eventId, float score) {
+    }
+
+    // The best `limit` hits ranked after `after`, kept in a heap whose head is the worst of them
+    private static final class TopHits {
+
+        private final Hit after;
+        private final int limit;
+        private final PriorityQueue<Hit> heap;
+
+        TopHits(Hit after, int limit) {
+            this.after = after;
+            this.limit = limit;
+            this.heap = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        }
+
+        void offer(long eventId, float score) {
+            // Most matches of a common term rank below the current page; skip them before allocating a hit
+            if ((after != null && !ranksBefore(after.score(), after.eventId(), score, eventId))
+                    || (heap.size() == limit && !ranksBefore(score, eventId, heap.peek().score(), heap.peek().eventId()))) {
+                return;
+            }
+            heap.add(new Hit(eventId, score));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        List<Hit> sorted() {
+            List<Hit> hits = new ArrayList<>(heap);
+            hits.sort(RANKING);
+            return hits;
+        }
+
+        private static boolean ranksBefore(float score, long eventId, float otherScore, long otherEventId) {
+            return score > otherScore || (score == otherScore && eventId < otherEventId);
+        }
+    }
+
+    // The indexed form of an event, taken when it changes so the entity is not read after commit
+    private record Document(long eventId, long organizerId, int startDay, String category,
+                            Map<String, Integer> frequencies, int length, List<long[]> trigrams) {
+
+        static Document of(Event event) {
+            Map<String, Integer> frequencies = new HashMap<>();
+            addTerms(frequencies, event.getName(), NAME_WEIGHT);
+            addTerms(frequencies, event.getDescription(), DESCRIPTION_WEIGHT);
+            addTerms(frequencies, event.getLocation(), LOCATION_WEIGHT);
+            addTerms(frequencies, event.getCategory(), CATEGORY_WEIGHT);
+            int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+            return new Document(event.getId(), event.getOrganizer().getId(),
+                    (int) event.getStartTime().toLocalDate().toEpochDay(), event.getCategory(), frequencies, length,
+                    trigrams(event.getName(), event.getLocation()));
+        }
+
+        private static void addTerms(Map<String, Integer> frequencies, String text, int weight) {
+            for (String term : Analyzer.terms(text)) {
+                frequencies.merge(term, weight, Integer::sum);
+            }
+        }
+
+        private static List<long[]> trigrams(String name, String location) {
+            List<long[]> trigrams = new ArrayList<>(Trigrams.ofTextAndWords(name));
+            trigrams.addAll(Trigrams.ofTextAndWords(location));
+            return trigrams;
+        }
+    }
+
+    // Document numbers in ascending order with their weighted term frequencies
+    private static final class Postings {
+
+        private int[] docs = new int[2];
+        private int[] freqs = new int[2];
+        private int size;
+
+        void add(int doc, int frequency) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size + (size >> 1) + 1);
+                freqs = Arrays.copyOf(freqs, docs.length);
+            }
+            docs[size] = doc;
+            freqs[size] = frequency;
+            size++;
+        }
+
+        // First position at or after `from` whose document is not before `doc`
+        int seek(int doc, int from) {
+            if (from >= size || docs[from] >= doc) {
+                return from;
+            }
+            // Gallop ahead first: successive seeks usually land close to the previous position
+            int low = from;
+            int step = 1;
+            while (low + step < size && docs[low + step] < doc) {
+                low += step;
+                step <<= 1;
+            }
+            int high = Math.min(low + step, size);
+            low++;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (docs[mid] < doc) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        int retain(int[] renumbered) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int doc = renumbered[docs[i]];
+                if (doc >= 0) {
+                    docs[kept] = doc;
+                    freqs[kept] = freqs[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            if (docs.length > 2 * size + 2) {
+                docs = Arrays.copyOf(docs, size);
+                freqs = Arrays.copyOf(freqs, size);
+            }
+            return size;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.eventmanagementsystem.search;
+
+/**
+ * Step 1 of the Porter stemmer: strips plurals, {@code -ed} and {@code -ing} and turns a final {@code y} into
+ * {@code i}, so "concerts", "concerting" and "concerted" all become "concert". The later Porter steps, which
+ * fold derivational suffixes such as {@code -ational}, are left out; they rarely matter for event titles and
+ * occasionally merge unrelated words.
+ */
+final class Stemmer {
+
+    private Stemmer() {
+    }
+
+    // Expects a lowercase word; words with digits and very short words are returned unchanged
+    static String stem(String word) {
+        if (word.length() <= 2 || !isAlphabetic(word)) {
+            return word;
+        }
+        StringBuilder b = new StringBuilder(word);
+        step1a(b);
+        step1b(b);
+        step1c(b);
+        return b.toString();
+    }
+
+    // Helper methods
+    private static void step1a(StringBuilder b) {
+        if (endsWith(b, "sses") || endsWith(b, "ies")) {
+            b.setLength(b.length() - 2);
+        } else if (endsWith(b, "s") && !endsWith(b, "ss")) {
+            b.setLength(b.length() - 1);
+        }
+    }
+
+    private static void step1b(StringBuilder b) {
+        if (endsWith(b, "eed")) {
+            if (measure(b, b.length() - 3) > 0) {
+                b.setLength(b.length() - 1);
+            }
+            return;
+        }
+        int stem;
+        if (endsWith(b, "ed")) {
+            stem = b.length() - 2;
+        } else if (endsWith(b, "ing")) {
+            stem = b.length() - 3;
+        } else {
+            return;
+        }
+        if (!hasVowel(b, stem)) {
+            return;
+        }
+        b.setLength(stem);
+        if (endsWith(b, "at") || endsWith(b, "bl") || endsWith(b, "iz")) {
+            b.append('e');
+        } else if (endsWithDoubleConsonant(b)) {
+            char last = b.charAt(b.length() - 1);
+            if (last != 'l' && last != 's' && last != 'z') {
+                b.setLength(b.length() - 1);
+            }
+        } else if (measure(b, b.length()) == 1 && endsWithCvc(b)) {
+            b.append('e');
+        }
+    }
+
+    private static void step1c(StringBuilder b) {
+        if (endsWith(b, "y") && hasVowel(b, b.length() - 1)) {
+            b.setCharAt(b.length() - 1, 'i');
+        }
+    }
+
+    private static boolean isAlphabetic(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c < 'a' || c > 'z') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean endsWith(StringBuilder b, String suffix) {
+        int start = b.length() - suffix.length();
+        return start >= 0 && b.indexOf(suffix, start) == start;
+    }
+
+    private static boolean isConsonant(StringBuilder b, int i) {
+        return switch (b.charAt(i)) {
+            case 'a', 'e', 'i', 'o', 'u' -> false;
+            case 'y' -> i == 0 || !isConsonant(b, i - 1);
+            default -> true;
+        };
+    }
+
+    private static boolean hasVowel(StringBuilder b, int end) {
+        for (int i = 0; i < end; i++) {
+            if (!isConsonant(b, i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Number of vowel-consonant sequences in the first `end` letters: [C](VC){m}[V]
+    private static int measure(StringBuilder b, int end) {
+        int m = 0;
+        boolean vowelSeen = false;
+        for (int i = 0; i < end; i++) {
+            if (!isConsonant(b, i)) {
+                vowelSeen = true;
+            } else if (vowelSeen) {
+                m++;
+                vowelSeen = false;
+            }
+        }
+        return m;
+    }
+
+    private static boolean endsWithDoubleConsonant(StringBuilder b) {
+        int n = b.length();
+        return n >= 2 && b.charAt(n - 1) == b.charAt(n - 2) && isConsonant(b, n - 1);
+    }
+
+    // Consonant-vowel-consonant where the last consonant is not w, x or y, as in "hop" (hoping -> hope)
+    private static boolean endsWithCvc(StringBuilder b) {
+        int n = b.length();
+        if (n < 3 || !isConsonant(b, n - 1) || isConsonant(b, n - 2) || !isConsonant(b, n - 3)) {
+            return false;
+        }
+        char last = b.charAt(n - 1);
+        return last != 'w' && last != 'x' && last != 'y';
+    }
+}
@@ -0,0 +1,277 @@
+package com.example.eventmanagementsystem.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+/**
+ * Trigram posting lists over the name and location of each document, for {@link EventSearchIndex}.
+ * <p>
+ * Each field is indexed under a slot of its own, so a misspelt venue is compared with the location alone
+ * instead of being diluted by the name. A field of several words also gets one slot per distinct word, so
+ * "Wembly" is compared with "Wembley" rather than all of "Wembley Stadium", much like pg_trgm's
+ * {@code strict_word_similarity}. A document's slots are numbered consecutively in document order; each
+ * trigram maps to an ascending {@code int[]} of slots, and the document and number of distinct trigrams of
+ * each slot are kept alongside. Similarity is pg_trgm's: shared trigrams divided by the trigrams in either the
+ * query or the slot, and a document scores its best slot. Not thread-safe; the owning index guards it with its
+ * lock.
+ */
+final class TrigramIndex {
+
+    // Posting entries merged per slot counted, about the ratio of a merge step to a counter increment
+    private static final int MERGE_COST = 16;
+
+    private final Map<Long, Slots> postings = new HashMap<>();
+    private int[] docs = new int[0];
+    private int[] sizes = new int[0];
+    private int slotCount;
+
+    @FunctionalInterface
+    interface Match {
+        void accept(int doc, float similarity);
+    }
+
+    // Documents must be added in ascending order; empty trigram sets are skipped
+    void add(int doc, List<long[]> fields) {
+        for (long[] trigrams : fields) {
+            if (trigrams.length > 0) {
+                addSlot(doc, trigrams);
+            }
+        }
+    }
+
+    /**
+     * Calls {@code match} once per accepted document, in document order, with a slot that reaches
+     * {@code threshold} similarity with the query, passing the best similarity of its slots.
+     * <p>
+     * A slot reaches the threshold only if it shares at least {@code ceil(threshold * |query|)} trigrams with
+     * the query, and every such slot appears in at least one of the shortest {@code |query| - shared + 1}
+     * posting lists. When those lists are short, only they are merged and the longer ones, usually the common
+     * trigrams, are probed for the slots found. When they are long, merging costs more than counting, so every
+     * list is counted into one byte per slot instead.
+     */
+    void match(long[] query, float threshold, IntPredicate accept, Match match) {
+        List<Slots> found = new ArrayList<>(query.length);
+        for (long trigram : query) {
+            Slots slots = postings.get(trigram);
+            if (slots != null) {
+                found.add(slots);
+            }
+        }
+        int minShared = Math.max(1, (int) Math.ceil(threshold * query.length));
+        if (found.size() < minShared) {
+            return;
+        }
+        Slots[] lists = found.toArray(new Slots[0]);
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+        int merged = lists.length - minShared + 1;
+        long merging = 0;
+        for (int i = 0; i < merged; i++) {
+            merging += lists[i].size;
+        }
+
+        Collector collector = new Collector(query.length, threshold, accept, match);
+        if (lists.length <= 255 && merging * MERGE_COST > slotCount) {
+            count(lists, minShared, collector);
+        } else {
+            merge(lists, merged, minShared, collector);
+        }
+        collector.finish();
+    }
+
+    // Applies a document renumbering from EventSearchIndex; -1 drops the document
+    void retain(int[] renumbered) {
+        // Slots keep their order, as the documents do
+        int[] renumberedSlots = new int[slotCount];
+        int next = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            int target = renumbered[docs[slot]];
+            if (target >= 0) {
+                renumberedSlots[slot] = next;
+                docs[next] = target;
+                sizes[next] = sizes[slot];
+                next++;
+            } else {
+                renumberedSlots[slot] = -1;
+            }
+        }
+        slotCount = next;
+        postings.values().removeIf(list -> list.retain(renumberedSlots) == 0);
+    }
+
+    void clear() {
+        postings.clear();
+        docs = new int[0];
+        sizes = new int[0];
+        slotCount = 0;
+    }
+
+    int trigrams() {
+        return postings.size();
+    }
+
+    // Helper methods
+    private void merge(Slots[] lists, int merged, int minShared, Collector collector) {
+        int[] positions = new int[lists.length];
+        while (true) {
+            int slot = Integer.MAX_VALUE;
+            for (int i = 0; i < merged; i++) {
+                if (positions[i] < lists[i].size) {
+                    slot = Math.min(slot, lists[i].slots[positions[i]]);
+                }
+            }
+            if (slot == Integer.MAX_VALUE) {
+                return;
+            }
+            int shared = 0;
+            for (int i = 0; i < merged; i++) {
+                if (positions[i] < lists[i].size && lists[i].slots[positions[i]] == slot) {
+                    positions[i]++;
+                    shared++;
+                }
+            }
+            for (int i = merged; i < lists.length && shared + lists.length - i >= minShared; i++) {
+                positions[i] = lists[i].seek(slot, positions[i]);
+                if (positions[i] < lists[i].size && lists[i].slots[positions[i]] == slot) {
+                    shared++;
+                }
+            }
+            if (shared >= minShared) {
+                collector.offer(slot, shared);
+            }
+        }
+    }
+
+    // A slot appears at most once per list, so with at most 255 lists an unsigned byte holds its count
+    private void count(Slots[] lists, int minShared, Collector collector) {
+        byte[] counts = new byte[slotCount];
+        int first = Integer.MAX_VALUE;
+        int last = -1;
+        for (Slots list : lists) {
+            int[] slots = list.slots;
+            for (int i = 0; i < list.size; i++) {
+                counts[slots[i]]++;
+            }
+            first = Math.min(first, slots[0]);
+            last = Math.max(last, slots[list.size - 1]);
+        }
+        for (int slot = first; slot <= last; slot++) {
+            int shared = counts[slot] & 0xFF;
+            if (shared >= minShared) {
+                collector.offer(slot, shared);
+            }
+        }
+    }
+
+    private void addSlot(int doc, long[] trigrams) {
+        int slot = slotCount++;
+        if (slot == sizes.length) {
+            int capacity = Math.max(4096, slot + (slot >> 1));
+            docs = Arrays.copyOf(docs, capacity);
+            sizes = Arrays.copyOf(sizes, capacity);
+        }
+        docs[slot] = doc;
+        sizes[slot] = trigrams.length;
+        for (long trigram : trigrams) {
+            postings.computeIfAbsent(trigram, key -> new Slots()).add(slot);
+        }
+    }
+
+    // Turns slots with enough shared trigrams into per-document matches, in slot order
+    private final class Collector {
+
+        private final int queryLength;
+        private final float threshold;
+        private final IntPredicate accept;
+        private final Match match;
+        private int pendingDoc = -1;
+        private float pendingSimilarity;
+
+        Collector(int queryLength, float threshold, IntPredicate accept, Match match) {
+            this.queryLength = queryLength;
+            this.threshold = threshold;
+            this.accept = accept;
+            this.match = match;
+        }
+
+        void offer(int slot, int shared) {
+            float similarity = (float) shared / (queryLength + sizes[slot] - shared);
+            int doc = docs[slot];
+            if (similarity < threshold || !accept.test(doc)) {
+                return;
+            }
+            // The slots of a document are adjacent
+            if (doc == pendingDoc) {
+                pendingSimilarity = Math.max(pendingSimilarity, similarity);
+                return;
+            }
+            finish();
+            pendingDoc = doc;
+            pendingSimilarity = similarity;
+        }
+
+        void finish() {
+            if (pendingDoc >= 0) {
+                match.accept(pendingDoc, pendingSimilarity);
+                pendingDoc = -1;
+            }
+        }
+    }
+
+    private static final class Slots {
+
+        private int[] slots = new int[2];
+        private int size;
+
+        void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size + (size >> 1) + 1);
+            }
+            slots[size++] = slot;
+        }
+
+        // First position at or after `from` whose slot is not before `slot`
+        int seek(int slot, int from) {
+            if (from >= size || slots[from] >= slot) {
+                return from;
+            }
+            // Gallop ahead first: successive seeks usually land close to the previous position
+            int low = from;
+            int step = 1;
+            while (low + step < size && slots[low + step] < slot) {
+                low += step;
+                step <<= 1;
+            }
+            int high = Math.min(low + step, size);
+            low++;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (slots[mid] < slot) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        int retain(int[] renumbered) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int slot = renumbered[slots[i]];
+                if (slot >= 0) {
+                    slots[kept++] = slot;
+                }
+            }
+            size = kept;
+            if (slots.length > 2 * size + 2) {
+                slots = Arrays.copyOf(slots, size);
+            }
+            return size;
+        }
+    }
+}
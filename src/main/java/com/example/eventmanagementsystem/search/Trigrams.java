@@ -0,0 +1,89 @@
+package com.example.eventmanagementsystem.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Trigram sets for typo-tolerant matching, built the way PostgreSQL's pg_trgm does: each lowercase word is
+ * padded with two spaces in front and one behind, and every run of three characters is a trigram, so
+ * "rock" gives {@code "  r", " ro", "roc", "ock", "ck "}. A trigram is packed into a {@code long}, one
+ * 16-bit character each.
+ */
+final class Trigrams {
+
+    private static final long[] NONE = new long[0];
+
+    private Trigrams() {
+    }
+
+    // Distinct trigrams of the text in ascending order
+    static long[] of(String text) {
+        if (text == null) {
+            return NONE;
+        }
+        long[] trigrams = new long[text.length() * 3 + 3];
+        int count = 0;
+        char previous = ' ';
+        char beforePrevious = ' ';
+        boolean inWord = false;
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                if (!inWord) {
+                    beforePrevious = ' ';
+                    previous = ' ';
+                    inWord = true;
+                }
+                c = Character.toLowerCase(c);
+            } else if (inWord) {
+                c = ' ';
+                inWord = false;
+            } else {
+                continue;
+            }
+            trigrams[count++] = ((long) beforePrevious << 32) | ((long) previous << 16) | c;
+            beforePrevious = previous;
+            previous = c;
+        }
+        if (count == 0) {
+            return NONE;
+        }
+        Arrays.sort(trigrams, 0, count);
+        int distinct = 1;
+        for (int i = 1; i < count; i++) {
+            if (trigrams[i] != trigrams[distinct - 1]) {
+                trigrams[distinct++] = trigrams[i];
+            }
+        }
+        return Arrays.copyOf(trigrams, distinct);
+    }
+
+    // The trigrams of the whole text, then of each distinct word when there is more than one; empty for no words
+    static List<long[]> ofTextAndWords(String text) {
+        long[] whole = of(text);
+        if (whole.length == 0) {
+            return List.of();
+        }
+        Set<String> words = new LinkedHashSet<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean inWord = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (inWord && start < 0) {
+                start = i;
+            } else if (!inWord && start >= 0) {
+                words.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        List<long[]> trigrams = new ArrayList<>(words.size() + 1);
+        trigrams.add(whole);
+        if (words.size() > 1) {
+            words.forEach(word -> trigrams.add(of(word)));
+        }
+        return trigrams;
+    }
+}
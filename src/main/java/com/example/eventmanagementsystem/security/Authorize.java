@@ -0,0 +1,25 @@
+package com.example.eventmanagementsystem.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the authorization policy of a controller method. Enforced by {@link PolicyInterceptor}
+ * before the handler runs; a denied request fails with an AccessDeniedException (403).
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Authorize {
+
+    Policy value();
+
+    /**
+     * Path variable holding the id a resource-scoped policy is checked against.
+     * Ignored by role-only policies.
+     */
+    String resource() default "id";
+}
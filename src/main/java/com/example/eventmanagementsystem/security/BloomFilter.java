@@ -0,0 +1,90 @@
+package com.example.eventmanagementsystem.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter over strings, safe for concurrent adds and lookups.
+ * {@link #mightContain} never returns false for an added value; it returns true for a value that was
+ * not added with roughly the false-positive probability the filter was sized for.
+ * <p>
+ * Uses Kirsch–Mitzenmacher double hashing: the k probe positions are derived from two 64-bit hashes of the
+ * value's UTF-8 bytes, so a lookup costs two passes over the value plus k bit tests.
+ */
+public final class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    private BloomFilter(long bitCount, int hashCount) {
+        this.words = new AtomicLongArray((int) ((bitCount + 63) / 64));
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * Creates a filter sized for the expected number of values and the target false-positive probability.
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveProbability) {
+        long n = Math.max(1, expectedInsertions);
+        long bits = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveProbability) / (LN2 * LN2)));
+        int hashes = Math.max(1, (int) Math.round((double) bits / n * LN2));
+        return new BloomFilter(bits, hashes);
+    }
+
+    public void put(String value) {
+        long[] hashes = hash(value);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = index(hashes, i);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = words.get(word);
+            while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+                current = words.get(word);
+            }
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long[] hashes = hash(value);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = index(hashes, i);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long bitSize() {
+        return bitCount;
+    }
+
+    public int hashFunctions() {
+        return hashCount;
+    }
+
+    // Helper methods
+    private long index(long[] hashes, int i) {
+        return Math.floorMod(hashes[0] + i * hashes[1], bitCount);
+    }
+
+    // FNV-1a and a murmur-finalized variant of it: independent enough for double hashing
+    private static long[] hash(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        long h1 = 0xcbf29ce484222325L;
+        long h2 = 0x9e3779b97f4a7c15L;
+        for (byte b : bytes) {
+            h1 = (h1 ^ (b & 0xff)) * 0x100000001b3L;
+            h2 = (h2 + (b & 0xff)) * 0xc6a4a7935bd1e995L;
+            h2 ^= h2 >>> 47;
+        }
+        h2 ^= h2 >>> 33;
+        h2 *= 0xff51afd7ed558ccdL;
+        h2 ^= h2 >>> 33;
+        return new long[]{h1, h2 | 1};
+    }
+}
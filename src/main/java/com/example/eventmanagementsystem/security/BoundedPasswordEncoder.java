@@ -0,0 +1,128 @@
+package com.example.eventmanagementsystem.security;
+
+import com.example.eventmanagementsystem.exception.ApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs a CPU-heavy {@link PasswordEncoder} (BCrypt) on a small dedicated pool with a bounded queue,
+ * so a burst of logins or sign-ups cannot tie up every request thread.
+ * When the pool and its queue are full the call fails at once with a 503 instead of waiting.
+ * <p>
+ * Publishes {@code password.hashing} timers (tagged {@code operation=encode|matches}) for the time spent
+ * hashing, {@code password.hashing.rejected} for saturated calls, and the pool's {@code executor.*}
+ * metrics (including queue depth) under {@code name=password-hashing}.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, MeterBinder, DisposableBean {
+
+    static final String EXECUTOR_NAME = "password-hashing";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+
+    private volatile Timer encodeTimer;
+    private volatile Timer matchesTimer;
+    private volatile Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity) {
+        this.delegate = delegate;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, EXECUTOR_NAME + "-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> record(encodeTimer, () -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> record(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        encodeTimer = hashingTimer(registry, "encode");
+        matchesTimer = hashingTimer(registry, "matches");
+        rejectedCounter = Counter.builder("password.hashing.rejected")
+                .description("Password hashing calls rejected because the pool was saturated")
+                .register(registry);
+        new ExecutorServiceMetrics(executor, EXECUTOR_NAME, List.of()).bindTo(registry);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    // Helper methods
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            Counter counter = rejectedCounter;
+            if (counter != null) {
+                counter.increment();
+            }
+            throw new ApiException(HttpStatus.SERVICE_UNAVAILABLE, "Too many sign-in requests, please try again shortly");
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ApiException(HttpStatus.SERVICE_UNAVAILABLE, "Password hashing was interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static <T> T record(Timer timer, Callable<T> hashing) throws Exception {
+        return timer != null ? timer.recordCallable(hashing) : hashing.call();
+    }
+
+    private static Timer hashingTimer(MeterRegistry registry, String operation) {
+        return Timer.builder("password.hashing")
+                .description("Time spent hashing or verifying a password")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
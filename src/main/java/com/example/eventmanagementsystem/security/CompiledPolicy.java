@@ -0,0 +1,62 @@
+package com.example.eventmanagementsystem.security;
+
+import lombok.Getter;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link Policy} bound to one endpoint: the resolved access rule, the path variable it reads
+ * and the allow/deny counters for that endpoint.
+ */
+@Getter
+public final class CompiledPolicy {
+
+    private final String endpoint;
+    private final Policy policy;
+    private final String resourceVariable;
+    private final AccessRule rule;
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder denied = new LongAdder();
+
+    public CompiledPolicy(String endpoint, Policy policy, String resourceVariable, AccessRule rule) {
+        this.endpoint = endpoint;
+        this.policy = policy;
+        this.resourceVariable = policy.isResourceScoped() ? resourceVariable : null;
+        this.rule = rule;
+    }
+
+    /**
+     * Evaluates the rule for the caller and the request's path variables. Anonymous callers and
+     * non-numeric resource ids are denied.
+     */
+    public boolean check(UserDetails principal, Map<String, String> pathVariables) {
+        boolean granted = principal != null && rule.test(principal, resourceId(pathVariables));
+        (granted ? allowed : denied).increment();
+        return granted;
+    }
+
+    private Long resourceId(Map<String, String> pathVariables) {
+        if (resourceVariable == null || pathVariables == null) {
+            return null;
+        }
+        String value = pathVariables.get(resourceVariable);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @FunctionalInterface
+    public interface AccessRule {
+
+        // resourceId is null for role-only policies and for missing or malformed path variables
+        boolean test(UserDetails principal, Long resourceId);
+    }
+}
@@ -3,38 +3,41 @@ package com.example.eventmanagementsystem.security;
 import com.example.eventmanagementsystem.model.User;
 import com.example.eventmanagementsystem.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collection;
-import java.util.stream.Collectors;
-
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
+    public static final String USER_DETAILS_CACHE = "userDetails";
+
     private final UserRepository userRepository;
 
+    // Used by logins, which need the password hash; not cached, so the hash never outlives the login
     @Override
     @Transactional
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
+        return UserPrincipal.fromUser(getUserOrThrow(username));
+    }
 
-        return new org.springframework.security.core.userdetails.User(
-                user.getUsername(),
-                user.getPassword(),
-                mapRolesToAuthorities(user.getRoles())
-        );
+    // Used by the JWT filter and cached by username, without the password hash, which token checks never need.
+    // UserService evicts entries when a user's username, password or roles change
+    @Cacheable(USER_DETAILS_CACHE)
+    @Transactional
+    public UserPrincipal loadPrincipalByUsername(String username) throws UsernameNotFoundException {
+        UserPrincipal principal = UserPrincipal.fromUser(getUserOrThrow(username));
+        principal.eraseCredentials();
+        return principal;
     }
 
-    private Collection<SimpleGrantedAuthority> mapRolesToAuthorities(Collection<String> roles) {
-        return roles.stream()
-                .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
-                .collect(Collectors.toList());
+    // Helper methods
+    private User getUserOrThrow(String username) {
+        return userRepository.findByUsername(username)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
     }
-}
\ No newline at end of file
+}
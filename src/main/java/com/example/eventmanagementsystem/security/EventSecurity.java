@@ -1,7 +1,5 @@
 package com.example.eventmanagementsystem.security;
 
-import com.example.eventmanagementsystem.model.Event;
-import com.example.eventmanagementsystem.repository.EventRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
@@ -10,21 +8,20 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class EventSecurity {
 
-    private final EventRepository eventRepository;
+    private final OwnershipIndex ownershipIndex;
 
     public boolean isOrganizerOrAdmin(Long eventId, UserDetails userDetails) {
-        Event event = eventRepository.findById(eventId).orElse(null);
-        if (event == null) {
-            return false;
-        }
-
-        // Check if user is admin
-        if (userDetails.getAuthorities().stream()
-                .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"))) {
+        // Check if user is admin (no lookup needed)
+        if (isAdmin(userDetails)) {
             return true;
         }
 
         // Check if user is the organizer
-        return event.getOrganizer().getUsername().equals(userDetails.getUsername());
+        return ownershipIndex.isUser(ownershipIndex.findOrganizer(eventId), userDetails);
+    }
+
+    static boolean isAdmin(UserDetails userDetails) {
+        return userDetails.getAuthorities().stream()
+                .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"));
     }
-}
\ No newline at end of file
+}
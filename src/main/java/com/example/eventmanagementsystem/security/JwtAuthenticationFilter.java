@@ -8,7 +8,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -21,7 +20,9 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
-    private final UserDetailsService userDetailsService;
+    private final CustomUserDetailsService userDetailsService;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -31,15 +32,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // Get JWT from request
             String jwt = getJwtFromRequest(request);
 
-            // Validate token
             if (StringUtils.hasText(jwt)) {
-                String username = tokenProvider.getUsernameFromToken(jwt);
+                // Verify signature and expiry once, then build the principal from the claims
+                ParsedToken token = tokenProvider.parseToken(jwt);
+                UserPrincipal principal = token.toPrincipal();
 
-                // Load user details
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                // Only go to the database when the token version is not known to be current
+                // Individually revoked tokens are rejected; almost all tokens are cleared by the in-memory filter
+                UserDetails userDetails;
+                if (tokenRevocationService.isRevoked(token)) {
+                    userDetails = null;
+                } else {
+                    userDetails = tokenVersionRegistry.isCurrent(principal)
+                            ? principal
+                            : reloadIfStillCurrent(principal);
+                }
 
-                // Validate token
-                if (tokenProvider.validateToken(jwt, userDetails)) {
+                if (userDetails != null) {
                     // Create authentication
                     UsernamePasswordAuthenticationToken authentication =
                             new UsernamePasswordAuthenticationToken(
@@ -58,6 +67,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // Load the user and accept the token only if it was issued for the user's current token version.
+    // The fresh authorities from the database are used, and the version is remembered for later requests.
+    private UserDetails reloadIfStillCurrent(UserPrincipal tokenPrincipal) {
+        UserPrincipal current = userDetailsService.loadPrincipalByUsername(tokenPrincipal.getUsername());
+
+        if (tokenPrincipal.getId() != null && !tokenPrincipal.getId().equals(current.getId())) {
+            return null;
+        }
+        if (current.getTokenVersion() != tokenPrincipal.getTokenVersion()) {
+            return null;
+        }
+        tokenVersionRegistry.update(current.getId(), current.getTokenVersion());
+
+        return current;
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -65,4 +90,4 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         return null;
     }
-}
\ No newline at end of file
+}
@@ -1,28 +1,51 @@
 package com.example.eventmanagementsystem.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.time.Instant;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Component
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    static final String CLAIM_USER_ID = "uid";
+    static final String CLAIM_ROLES = "roles";
+    static final String CLAIM_TOKEN_VERSION = "ver";
 
-    @Value("${jwt.expiration}")
-    private long jwtExpirationInMs;
+    private final long jwtExpirationInMs;
+
+    // Built once: the HMAC key and the parser are immutable and thread-safe
+    private final Key signingKey;
+    private final JwtParser jwtParser;
+
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    public JwtTokenProvider(@Value("${jwt.secret}") String jwtSecret,
+                            @Value("${jwt.expiration}") long jwtExpirationInMs,
+                            VerifiedTokenCache verifiedTokenCache) {
+        this.jwtExpirationInMs = jwtExpirationInMs;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
 
     // Generate token
     public String generateToken(Authentication authentication) {
@@ -32,54 +55,69 @@ public class JwtTokenProvider {
         Date expiryDate = new Date(now.getTime() + jwtExpirationInMs);
 
         Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_ROLES, userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList()));
+        if (userDetails instanceof UserPrincipal principal) {
+            claims.put(CLAIM_USER_ID, principal.getId());
+            claims.put(CLAIM_TOKEN_VERSION, principal.getTokenVersion());
+        }
+
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
+    // Verify the signature and expiry once and extract everything the request path needs.
+    // Throws a JwtException when the token is malformed, tampered with or expired.
+    // Repeat calls with the same token are served from the verified-token cache until it expires.
+    public ParsedToken parseToken(String token) {
+        return verifiedTokenCache.get(token, this::verifyToken);
+    }
+
+    // Tokens issued before the user claims were added carry no user id and are treated as version 0.
+    @SuppressWarnings("unchecked")
+    private ParsedToken verifyToken(String token) {
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+
+        Number userId = claims.get(CLAIM_USER_ID, Number.class);
+        Number tokenVersion = claims.get(CLAIM_TOKEN_VERSION, Number.class);
+        List<String> roles = claims.get(CLAIM_ROLES, List.class);
+
+        return new ParsedToken(
+                claims.getId(),
+                claims.getSubject(),
+                userId != null ? userId.longValue() : null,
+                tokenVersion != null ? tokenVersion.intValue() : 0,
+                roles != null ? roles : Collections.emptyList(),
+                toInstant(claims.getIssuedAt()),
+                toInstant(claims.getExpiration())
+        );
+    }
+
     // Get username from token
     public String getUsernameFromToken(String token) {
-        return getClaimFromToken(token, Claims::getSubject);
+        return parseToken(token).getUsername();
     }
 
     // Validate token
     public boolean validateToken(String token, UserDetails userDetails) {
-        final String username = getUsernameFromToken(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        ParsedToken parsedToken = parseToken(token);
+        return parsedToken.getUsername().equals(userDetails.getUsername())
+                && !parsedToken.isExpired(Instant.now());
     }
 
     // Get expiration date from token
     public Date getExpirationDateFromToken(String token) {
-        return getClaimFromToken(token, Claims::getExpiration);
-    }
-
-    // Check if token has expired
-    private Boolean isTokenExpired(String token) {
-        final Date expiration = getExpirationDateFromToken(token);
-        return expiration.before(new Date());
-    }
-
-    // Get claim from token
-    private <T> T getClaimFromToken(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = getAllClaimsFromToken(token);
-        return claimsResolver.apply(claims);
-    }
-
-    // Get all claims from token
-    private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return Date.from(parseToken(token).getExpiration());
     }
 
-    // Generate signing key
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    private static Instant toInstant(Date date) {
+        return date != null ? date.toInstant() : null;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,197 @@
+package com.example.eventmanagementsystem.security;
+
+import com.example.eventmanagementsystem.model.Event;
+import com.example.eventmanagementsystem.model.Registration;
+import com.example.eventmanagementsystem.model.User;
+import com.example.eventmanagementsystem.repository.EventRepository;
+import com.example.eventmanagementsystem.repository.RegistrationRepository;
+import com.example.eventmanagementsystem.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * In-memory index of who owns what, used by the method-security beans so authorization checks
+ * resolve in O(1) without loading entities:
+ * eventId → organizer, userId → username and registrationId → (user, eventId, organizer).
+ * <p>
+ * Misses are loaded with a single scalar projection query each and remembered. The services call the {@code on*} methods
+ * whenever events, users or registrations are created, deleted or reassigned; removals are applied
+ * immediately and again after commit, additions only after commit.
+ */
+@Component
+public class OwnershipIndex implements MeterBinder {
+
+    private final EventRepository eventRepository;
+    private final UserRepository userRepository;
+    private final RegistrationRepository registrationRepository;
+
+    private final Cache<Long, Owner> eventOrganizers;
+    private final Cache<Long, String> usernames;
+    private final Cache<Long, RegistrationOwner> registrationOwners;
+
+    public OwnershipIndex(EventRepository eventRepository,
+                          UserRepository userRepository,
+                          RegistrationRepository registrationRepository,
+                          @Value("${security.ownership-index.maximum-size:100000}") long maximumSize) {
+        this.eventRepository = eventRepository;
+        this.userRepository = userRepository;
+        this.registrationRepository = registrationRepository;
+        this.eventOrganizers = Caffeine.newBuilder().maximumSize(maximumSize).recordStats().build();
+        this.usernames = Caffeine.newBuilder().maximumSize(maximumSize).recordStats().build();
+        this.registrationOwners = Caffeine.newBuilder().maximumSize(maximumSize).recordStats().build();
+    }
+
+    // Lookups (null when the resource does not exist)
+
+    public Owner findOrganizer(Long eventId) {
+        return eventOrganizers.get(eventId, id -> eventRepository.findOwnershipById(id)
+                .map(view -> new Owner(view.getOrganizerId(), view.getOrganizerUsername()))
+                .orElse(null));
+    }
+
+    public String findUsername(Long userId) {
+        return usernames.get(userId, id -> userRepository.findUsernameById(id).orElse(null));
+    }
+
+    public RegistrationOwner findRegistrationOwner(Long registrationId) {
+        return registrationOwners.get(registrationId, id -> registrationRepository.findOwnershipById(id)
+                .map(view -> new RegistrationOwner(
+                        new Owner(view.getUserId(), view.getUsername()),
+                        view.getEventId(),
+                        new Owner(view.getOrganizerId(), view.getOrganizerUsername())))
+                .orElse(null));
+    }
+
+    /**
+     * True when the principal is the user with the given id. Principals built from JWT claims carry
+     * their id, so this is a plain comparison; other principals are matched by username.
+     */
+    public boolean isUser(Long userId, UserDetails principal) {
+        if (userId == null || principal == null) {
+            return false;
+        }
+        if (principal instanceof UserPrincipal userPrincipal && userPrincipal.getId() != null) {
+            return userId.equals(userPrincipal.getId());
+        }
+        return principal.getUsername().equals(findUsername(userId));
+    }
+
+    // Same as isUser(Long, UserDetails), but the owner's username is already at hand
+    public boolean isUser(Owner owner, UserDetails principal) {
+        if (owner == null || principal == null) {
+            return false;
+        }
+        if (principal instanceof UserPrincipal userPrincipal && userPrincipal.getId() != null) {
+            return owner.userId().equals(userPrincipal.getId());
+        }
+        return principal.getUsername().equals(owner.username());
+    }
+
+    // Invalidation
+
+    public void onEventCreated(Event event) {
+        Owner organizer = Owner.of(event.getOrganizer());
+        Long eventId = event.getId();
+        afterCommit(() -> eventOrganizers.put(eventId, organizer));
+    }
+
+    public void onEventDeleted(Long eventId) {
+        nowAndAfterCommit(() -> {
+            eventOrganizers.invalidate(eventId);
+            registrationOwners.asMap().values().removeIf(owner -> owner.eventId().equals(eventId));
+        });
+    }
+
+    // Owners are cached together with their username, so every entry naming the user is dropped
+    public void onUserRenamed(Long userId) {
+        nowAndAfterCommit(() -> {
+            usernames.invalidate(userId);
+            eventOrganizers.asMap().values().removeIf(organizer -> organizer.userId().equals(userId));
+            registrationOwners.asMap().values().removeIf(owner -> owner.involves(userId));
+        });
+    }
+
+    // Deleting a user cascades to the events they organize and the registrations on both sides
+    public void onUserDeleted(Long userId) {
+        nowAndAfterCommit(() -> {
+            usernames.invalidate(userId);
+
+            Set<Long> organizedEventIds = new HashSet<>();
+            eventOrganizers.asMap().forEach((eventId, organizer) -> {
+                if (organizer.userId().equals(userId)) {
+                    organizedEventIds.add(eventId);
+                }
+            });
+            eventOrganizers.invalidateAll(organizedEventIds);
+
+            registrationOwners.asMap().values().removeIf(owner ->
+                    owner.involves(userId) || organizedEventIds.contains(owner.eventId()));
+        });
+    }
+
+    public void onRegistrationCreated(Registration registration) {
+        RegistrationOwner owner = new RegistrationOwner(
+                Owner.of(registration.getUser()),
+                registration.getEvent().getId(),
+                Owner.of(registration.getEvent().getOrganizer()));
+        Long registrationId = registration.getId();
+        afterCommit(() -> registrationOwners.put(registrationId, owner));
+    }
+
+    public void onRegistrationDeleted(Long registrationId) {
+        nowAndAfterCommit(() -> registrationOwners.invalidate(registrationId));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, eventOrganizers, "ownership.event-organizers");
+        CaffeineCacheMetrics.monitor(registry, usernames, "ownership.usernames");
+        CaffeineCacheMetrics.monitor(registry, registrationOwners, "ownership.registration-owners");
+    }
+
+    // Helper methods
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static void nowAndAfterCommit(Runnable action) {
+        action.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            afterCommit(action);
+        }
+    }
+
+    public record Owner(Long userId, String username) {
+
+        static Owner of(User user) {
+            return new Owner(user.getId(), user.getUsername());
+        }
+    }
+
+    public record RegistrationOwner(Owner user, Long eventId, Owner organizer) {
+
+        boolean involves(Long userId) {
+            return user.userId().equals(userId) || organizer.userId().equals(userId);
+        }
+    }
+}
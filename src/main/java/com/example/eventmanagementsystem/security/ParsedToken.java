@@ -0,0 +1,41 @@
+package com.example.eventmanagementsystem.security;
+
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Immutable result of verifying a JWT once: everything the request path needs, extracted in a single parse.
+ */
+@Value
+public class ParsedToken {
+
+    // The jti claim; null for tokens issued before revocation support
+    String tokenId;
+    String username;
+    Long userId;
+    int tokenVersion;
+    List<String> authorities;
+    Instant issuedAt;
+    Instant expiration;
+
+    public ParsedToken(String tokenId, String username, Long userId, int tokenVersion, List<String> authorities,
+                       Instant issuedAt, Instant expiration) {
+        this.tokenId = tokenId;
+        this.username = username;
+        this.userId = userId;
+        this.tokenVersion = tokenVersion;
+        this.authorities = List.copyOf(authorities);
+        this.issuedAt = issuedAt;
+        this.expiration = expiration;
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiration != null && expiration.isBefore(now);
+    }
+
+    public UserPrincipal toPrincipal() {
+        return UserPrincipal.fromClaims(userId, username, tokenVersion, authorities);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.eventmanagementsystem.security;
+
+/**
+ * Authorization policies that controller methods declare with {@link Authorize}.
+ * {@link PolicyEngine} compiles each one into a plain Java check at startup; the comment on each
+ * constant is the SpEL expression it replaces.
+ */
+public enum Policy {
+
+    /** {@code hasRole('ADMIN')} */
+    ADMIN(false),
+
+    /** {@code hasRole('ORGANIZER') or hasRole('ADMIN')} */
+    ORGANIZER_OR_ADMIN(false),
+
+    /** {@code @eventSecurity.isOrganizerOrAdmin(#id, principal)} */
+    EVENT_ORGANIZER_OR_ADMIN(true),
+
+    /** {@code hasRole('ADMIN') or @userSecurity.isSameUser(#id, principal)} */
+    SAME_USER_OR_ADMIN(true),
+
+    /** {@code hasRole('ADMIN') or @registrationSecurity.isUserOrEventOrganizer(#id, principal)} */
+    REGISTRATION_PARTY_OR_ADMIN(true);
+
+    private final boolean resourceScoped;
+
+    Policy(boolean resourceScoped) {
+        this.resourceScoped = resourceScoped;
+    }
+
+    // True when the policy checks the caller against the resource named by a path variable
+    public boolean isResourceScoped() {
+        return resourceScoped;
+    }
+}
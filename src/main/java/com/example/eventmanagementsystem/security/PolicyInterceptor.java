@@ -0,0 +1,58 @@
+package com.example.eventmanagementsystem.security;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * Enforces the compiled {@link Authorize} policy of the matched handler before it is invoked.
+ */
+@RequiredArgsConstructor
+public class PolicyInterceptor implements HandlerInterceptor {
+
+    private final PolicyEngine policyEngine;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+
+        // Streaming responses finish on an async dispatch of a request that was already authorized, and the
+        // stateless security context is not carried over to it
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+
+        CompiledPolicy policy = policyEngine.policyFor(handlerMethod.getMethod());
+        if (policy == null) {
+            return true;
+        }
+
+        Map<String, String> pathVariables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (!policy.check(currentPrincipal(), pathVariables)) {
+            throw new AccessDeniedException("Access Denied");
+        }
+        return true;
+    }
+
+    private static UserDetails currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserDetails userDetails) {
+            return userDetails;
+        }
+        return null;
+    }
+}
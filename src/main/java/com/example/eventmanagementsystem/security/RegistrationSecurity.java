@@ -1,7 +1,5 @@
 package com.example.eventmanagementsystem.security;
 
-import com.example.eventmanagementsystem.model.Registration;
-import com.example.eventmanagementsystem.repository.RegistrationRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
@@ -10,31 +8,27 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class RegistrationSecurity {
 
-    private final RegistrationRepository registrationRepository;
-    private final UserSecurity userSecurity;
-    private final EventSecurity eventSecurity;
+    private final OwnershipIndex ownershipIndex;
 
     /**
      * Checks if the current user is either:
-     * 1. The user who made the registration
-     * 2. The organizer of the event being registered for
-     * 3. An admin (checked by eventSecurity's isOrganizerOrAdmin method)
+     * 1. An admin (checked first, without a lookup)
+     * 2. The user who made the registration
+     * 3. The organizer of the event being registered for
+     * The registrant and organizer are resolved together in at most one query.
      */
     public boolean isUserOrEventOrganizer(Long registrationId, UserDetails userDetails) {
-        Registration registration = registrationRepository.findById(registrationId).orElse(null);
-
-        if (registration == null) {
-            return false;
+        if (EventSecurity.isAdmin(userDetails)) {
+            return true;
         }
 
-        // Check if the user is the one who made the registration
-        boolean isRegisteredUser = userSecurity.isSameUser(
-                registration.getUser().getId(), userDetails);
+        OwnershipIndex.RegistrationOwner owner = ownershipIndex.findRegistrationOwner(registrationId);
 
-        // Check if the user is the organizer of the event or an admin
-        boolean isOrganizerOrAdmin = eventSecurity.isOrganizerOrAdmin(
-                registration.getEvent().getId(), userDetails);
+        if (owner == null) {
+            return false;
+        }
 
-        return isRegisteredUser || isOrganizerOrAdmin;
+        return ownershipIndex.isUser(owner.user(), userDetails)
+                || ownershipIndex.isUser(owner.organizer(), userDetails);
     }
-}
\ No newline at end of file
+}
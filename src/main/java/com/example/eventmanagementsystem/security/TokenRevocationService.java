@@ -0,0 +1,135 @@
+package com.example.eventmanagementsystem.security;
+
+import com.example.eventmanagementsystem.model.RevokedToken;
+import com.example.eventmanagementsystem.repository.RevokedTokenRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Revocation of individual access tokens by their {@code jti} claim.
+ * <p>
+ * Revoked ids live in the {@code revoked_tokens} table until the token would have expired. A Bloom filter
+ * over those ids answers the common "not revoked" case in memory; only probable hits are confirmed with a
+ * primary-key lookup. The filter is rebuilt from the table on a schedule, which also drops expired rows and
+ * lets other instances pick up revocations made elsewhere. Revocations made on this instance apply at once.
+ * <p>
+ * Outcomes are published as {@code jwt.revocation.checks} tagged {@code result=negative|false_positive|revoked}.
+ */
+@Slf4j
+@Component
+public class TokenRevocationService implements InitializingBean, MeterBinder {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+
+    private volatile BloomFilter filter;
+    private final AtomicLong filterEntries = new AtomicLong();
+    // Revoked since the last rebuild started; re-added after the swap so none slip through
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder negatives = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private final LongAdder revokedHits = new LongAdder();
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                  @Value("${jwt.revocation.expected-insertions:10000}") long expectedInsertions,
+                                  @Value("${jwt.revocation.false-positive-probability:0.01}") double falsePositiveProbability) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.filter = BloomFilter.create(expectedInsertions, falsePositiveProbability);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        rebuild();
+    }
+
+    public boolean isRevoked(ParsedToken token) {
+        String tokenId = token.getTokenId();
+        if (tokenId == null) {
+            return false;
+        }
+        if (!filter.mightContain(tokenId)) {
+            negatives.increment();
+            return false;
+        }
+
+        boolean revoked = revokedTokenRepository.existsById(tokenId);
+        (revoked ? revokedHits : falsePositives).increment();
+        return revoked;
+    }
+
+    // Tokens without a jti or already expired need no entry
+    public void revoke(ParsedToken token) {
+        String tokenId = token.getTokenId();
+        Instant expiration = token.getExpiration();
+        if (tokenId == null || expiration == null || token.isExpired(Instant.now())) {
+            return;
+        }
+
+        revokedTokenRepository.save(RevokedToken.builder()
+                .tokenId(tokenId)
+                .expiresAt(LocalDateTime.ofInstant(expiration, ZoneId.systemDefault()))
+                .build());
+        pending.add(tokenId);
+        filter.put(tokenId);
+        filterEntries.incrementAndGet();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval:300000}",
+            initialDelayString = "${jwt.revocation.rebuild-interval:300000}")
+    public void rebuild() {
+        Set<String> alreadyPending = Set.copyOf(pending);
+
+        LocalDateTime now = LocalDateTime.now();
+        revokedTokenRepository.deleteExpired(now);
+        List<String> tokenIds = revokedTokenRepository.findActiveTokenIds(now);
+
+        BloomFilter rebuilt = BloomFilter.create(
+                Math.max(expectedInsertions, tokenIds.size() * 2L), falsePositiveProbability);
+        tokenIds.forEach(rebuilt::put);
+        filter = rebuilt;
+
+        pending.forEach(rebuilt::put);
+        pending.removeAll(alreadyPending);
+        filterEntries.set(tokenIds.size() + (long) pending.size());
+
+        log.debug("Rebuilt token revocation filter with {} entries ({} bits, {} hashes)",
+                tokenIds.size(), rebuilt.bitSize(), rebuilt.hashFunctions());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        registerChecks(registry, "negative", negatives);
+        registerChecks(registry, "false_positive", falsePositives);
+        registerChecks(registry, "revoked", revokedHits);
+        Gauge.builder("jwt.revocation.filter.entries", filterEntries, AtomicLong::get)
+                .description("Revoked token ids in the in-memory filter")
+                .register(registry);
+    }
+
+    private static void registerChecks(MeterRegistry registry, String result, LongAdder count) {
+        FunctionCounter.builder("jwt.revocation.checks", count, LongAdder::sum)
+                .description("Access token revocation checks by outcome")
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.eventmanagementsystem.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers the current token version of recently seen users so that JWT claims can be trusted
+ * without a database round trip. Entries are re-checked against the database after
+ * {@code jwt.version-check-interval} milliseconds, which bounds how long another instance can keep
+ * accepting a token after a credential or role change made elsewhere.
+ */
+@Component
+public class TokenVersionRegistry {
+
+    private final Map<Long, Entry> versions = new ConcurrentHashMap<>();
+
+    @Value("${jwt.version-check-interval:60000}")
+    private long checkIntervalInMs;
+
+    /**
+     * Returns true when the principal's token version is known to be current.
+     * False means the version is unknown, expired or stale and must be checked against the database.
+     */
+    public boolean isCurrent(UserPrincipal principal) {
+        if (principal.getId() == null) {
+            return false;
+        }
+        Entry entry = versions.get(principal.getId());
+        return entry != null
+                && entry.version == principal.getTokenVersion()
+                && System.currentTimeMillis() - entry.checkedAt < checkIntervalInMs;
+    }
+
+    public void update(Long userId, int version) {
+        versions.put(userId, new Entry(version, System.currentTimeMillis()));
+    }
+
+    public void evict(Long userId) {
+        versions.remove(userId);
+    }
+
+    private record Entry(int version, long checkedAt) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.eventmanagementsystem.security;
+
+import com.example.eventmanagementsystem.model.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Authenticated principal carrying the user id and token version alongside the username and authorities,
+ * so it can be rebuilt from JWT claims without loading the user from the database. The password hash is
+ * only present while a login is being checked; {@code ProviderManager} erases it afterwards.
+ */
+@Getter
+@AllArgsConstructor
+public class UserPrincipal implements UserDetails, CredentialsContainer {
+
+    private final Long id;
+    private final String username;
+    private String password;
+    private final int tokenVersion;
+    private final Collection<? extends GrantedAuthority> authorities;
+
+    public static UserPrincipal fromUser(User user) {
+        return new UserPrincipal(
+                user.getId(),
+                user.getUsername(),
+                user.getPassword(),
+                user.getTokenVersion(),
+                mapRolesToAuthorities(user.getRoles())
+        );
+    }
+
+    public static UserPrincipal fromClaims(Long id, String username, int tokenVersion, Collection<String> authorities) {
+        return new UserPrincipal(
+                id,
+                username,
+                null,
+                tokenVersion,
+                authorities.stream()
+                        .map(SimpleGrantedAuthority::new)
+                        .collect(Collectors.toList())
+        );
+    }
+
+    @Override
+    public void eraseCredentials() {
+        password = null;
+    }
+
+    private static List<SimpleGrantedAuthority> mapRolesToAuthorities(Collection<String> roles) {
+        return roles.stream()
+                .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                .collect(Collectors.toList());
+    }
+}
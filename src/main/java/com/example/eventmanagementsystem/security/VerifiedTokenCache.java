@@ -0,0 +1,117 @@
+package com.example.eventmanagementsystem.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Size-bounded cache of already verified access tokens, so repeat callers skip the HMAC-SHA512 check.
+ * Entries are keyed by a 64-bit FNV-1a digest of the token, keep the token itself to rule out digest
+ * collisions, and expire at the token's {@code exp}. Hit/miss statistics are published as
+ * {@code cache.*} metrics with {@code cache=jwt.verified-tokens}.
+ */
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+
+    static final String CACHE_NAME = "jwt.verified-tokens";
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final Cache<Long, Entry> cache;
+
+    public VerifiedTokenCache(@Value("${jwt.cache.enabled:true}") boolean enabled,
+                              @Value("${jwt.cache.maximum-size:10000}") long maximumSize) {
+        this.cache = enabled
+                ? Caffeine.newBuilder()
+                        .maximumSize(maximumSize)
+                        .expireAfter(new UntilTokenExpiry())
+                        .recordStats()
+                        .build()
+                : null;
+    }
+
+    /**
+     * Returns the cached verification result for the token, or verifies it and caches the result.
+     * Verification failures are never cached.
+     */
+    public ParsedToken get(String token, Function<String, ParsedToken> verifier) {
+        if (cache == null) {
+            return verifier.apply(token);
+        }
+
+        long key = digest(token);
+        Entry entry = cache.getIfPresent(key);
+        if (entry != null && entry.matches(token) && !entry.parsedToken.isExpired(Instant.now())) {
+            return entry.parsedToken;
+        }
+
+        ParsedToken parsedToken = verifier.apply(token);
+        cache.put(key, new Entry(token, parsedToken));
+        return parsedToken;
+    }
+
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (cache != null) {
+            CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+        }
+    }
+
+    static long digest(String token) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < token.length(); i++) {
+            hash ^= token.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private record Entry(String token, ParsedToken parsedToken) {
+
+        // Constant-time comparison, so the cache cannot be used as a timing oracle for valid tokens
+        boolean matches(String candidate) {
+            return MessageDigest.isEqual(
+                    token.getBytes(StandardCharsets.US_ASCII),
+                    candidate.getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
+    private static class UntilTokenExpiry implements Expiry<Long, Entry> {
+
+        @Override
+        public long expireAfterCreate(Long key, Entry entry, long currentTime) {
+            Instant expiration = entry.parsedToken.getExpiration();
+            if (expiration == null) {
+                return Long.MAX_VALUE;
+            }
+            long remainingInMs = expiration.toEpochMilli() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingInMs));
+        }
+
+        @Override
+        public long expireAfterUpdate(Long key, Entry entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.eventmanagementsystem.service;
+
+import com.example.eventmanagementsystem.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Checks the denormalized {@code events.confirmed_count} against the registrations table and recounts
+ * the events that drifted, e.g. after manual data changes or rows written before the column existed.
+ * Runs at startup and then on {@code registration.reconcile-interval}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ConfirmedCountReconciler {
+
+    private final EventRepository eventRepository;
+
+    // Returns the number of events that were repaired
+    @Scheduled(fixedDelayString = "${registration.reconcile-interval:3600000}")
+    @Transactional
+    public int reconcile() {
+        List<Long> driftedEventIds = eventRepository.findIdsWithConfirmedCountDrift();
+        if (driftedEventIds.isEmpty()) {
+            return 0;
+        }
+
+        // Recount in the UPDATE itself so registrations made since the check are included
+        int repaired = eventRepository.recountConfirmed(driftedEventIds);
+        log.warn("Repaired confirmed registration count for {} event(s): {}", repaired, driftedEventIds);
+        return repaired;
+    }
+}
@@ -1,6 +1,7 @@
 // src/main/java/com/example/eventmanagementsystem/service/EventService.java
 package com.example.eventmanagementsystem.service;
 
+import com.example.eventmanagementsystem.dto.CursorPage;
 import com.example.eventmanagementsystem.dto.EventDTO;
 import com.example.eventmanagementsystem.exception.ApiException;
 import com.example.eventmanagementsystem.exception.ResourceNotFoundException;
@@ -8,33 +9,56 @@ import com.example.eventmanagementsystem.model.Event;
 import com.example.eventmanagementsystem.model.User;
 import com.example.eventmanagementsystem.repository.EventRepository;
 import com.example.eventmanagementsystem.repository.UserRepository;
+import com.example.eventmanagementsystem.search.EventSearchIndex;
+import com.example.eventmanagementsystem.security.OwnershipIndex;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class EventService {
 
+    // Event lists are paged in start-time order; the id breaks ties between events starting together
+    private static final Sort EVENT_ORDER = Sort.by("startTime", "id");
+
     private final EventRepository eventRepository;
     private final UserRepository userRepository;
+    private final OwnershipIndex ownershipIndex;
+    private final SeatInventory seatInventory;
+    private final WaitlistService waitlistService;
+    private final EventSearchIndex searchIndex;
+    private final EntityManager entityManager;
+
+    public CursorPage<EventDTO> findAllEvents(String cursor, int limit) {
+        return Keyset.page(eventRepository.findBy(eventPosition(cursor), EVENT_ORDER, Limit.of(limit)),
+                this::convertToDTO, EventService::eventKeys);
+    }
 
-    public List<EventDTO> findAllEvents() {
-        return eventRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    public CursorPage<EventDTO> findAllPublishedEvents(String cursor, int limit) {
+        return Keyset.page(eventRepository.findByPublishedTrue(eventPosition(cursor), EVENT_ORDER, Limit.of(limit)),
+                this::convertToDTO, EventService::eventKeys);
     }
 
-    public List<EventDTO> findAllPublishedEvents() {
-        return eventRepository.findByPublishedTrue().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    // Hands every event to the sink as it is read, without building the full list
+    @Transactional(readOnly = true)
+    public void exportEvents(Consumer<EventDTO> sink) {
+        Exports.forEach(eventRepository.streamAll(), entityManager, this::convertToDTO, sink);
     }
 
     public EventDTO findEventById(Long id) {
@@ -62,6 +86,7 @@ public class EventService {
                 .build();
 
         Event savedEvent = eventRepository.save(event);
+        ownershipIndex.onEventCreated(savedEvent);
         return convertToDTO(savedEvent);
     }
 
@@ -72,6 +97,11 @@ public class EventService {
 
         Event event = getEventOrThrow(id);
 
+        // The in-memory seat counter is sized from the capacity when the mode is switched on
+        if (event.isHighDemand() && event.getCapacity() != eventDTO.getCapacity()) {
+            throw new ApiException(HttpStatus.CONFLICT, "Disable high-demand mode before changing capacity");
+        }
+
         // Update fields
         event.setName(eventDTO.getName());
         event.setDescription(eventDTO.getDescription());
@@ -79,9 +109,17 @@ public class EventService {
         event.setEndTime(eventDTO.getEndTime());
         event.setLocation(eventDTO.getLocation());
         event.setCategory(eventDTO.getCategory());
+        boolean capacityIncreased = eventDTO.getCapacity() > event.getCapacity();
         event.setCapacity(eventDTO.getCapacity());
 
         Event updatedEvent = eventRepository.save(event);
+        if (capacityIncreased) {
+            // The new seats go to the waitlist first; the counter column is written by UPDATE only,
+            // so the stored count is read back to report the right availability
+            waitlistService.promote(id);
+            eventRepository.findConfirmedCountById(id).ifPresent(updatedEvent::setConfirmedCount);
+        }
+        searchIndex.onEventChanged(updatedEvent);
         return convertToDTO(updatedEvent);
     }
 
@@ -89,6 +127,10 @@ public class EventService {
     public void deleteEvent(Long id) {
         Event event = getEventOrThrow(id);
         eventRepository.delete(event);
+        // Drops the event's in-memory seats, if it was in high-demand mode
+        afterCommit(() -> seatInventory.deactivate(id));
+        ownershipIndex.onEventDeleted(id);
+        searchIndex.onEventDeleted(id);
     }
 
     @Transactional
@@ -101,6 +143,7 @@ public class EventService {
 
         event.setPublished(true);
         Event updatedEvent = eventRepository.save(event);
+        searchIndex.onEventChanged(updatedEvent);
         return convertToDTO(updatedEvent);
     }
 
@@ -114,25 +157,85 @@ public class EventService {
 
         event.setPublished(false);
         Event updatedEvent = eventRepository.save(event);
+        searchIndex.onEventChanged(updatedEvent);
         return convertToDTO(updatedEvent);
     }
 
-    public List<EventDTO> searchEvents(String keyword, String category, LocalDate date) {
-        return eventRepository.searchEvents(keyword, category, date).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional
+    public EventDTO enableHighDemand(Long id) {
+        Event event = getEventOrThrow(id);
+
+        if (event.isHighDemand()) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "Event is already in high-demand mode");
+        }
+
+        event.setHighDemand(true);
+        Event updatedEvent = eventRepository.save(event);
+        afterCommit(() -> seatInventory.activate(id));
+        return convertToDTO(updatedEvent);
     }
 
-    public List<EventDTO> findEventsByOrganizer(Long organizerId) {
+    @Transactional
+    public EventDTO disableHighDemand(Long id) {
+        Event event = getEventOrThrow(id);
+
+        if (!event.isHighDemand()) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "Event is not in high-demand mode");
+        }
+
+        event.setHighDemand(false);
+        Event updatedEvent = eventRepository.save(event);
+        afterCommit(() -> seatInventory.deactivate(id));
+        return convertToDTO(updatedEvent);
+    }
+
+    // Keyword searches are ranked by relevance, or by similarity when fuzzy, once the in-memory index is ready;
+    // otherwise, and without a keyword, events come from the database in start-time order
+    public CursorPage<EventDTO> searchEvents(String keyword, String category, LocalDate date, boolean fuzzy,
+                                             String cursor, int limit) {
+        if (keyword != null && searchIndex.isReady()) {
+            return rankedSearch(keyword, category, date, fuzzy, cursor, limit);
+        }
+        Map<String, Object> after = eventPosition(cursor).getKeys();
+        List<Event> events = eventRepository.searchEvents(keyword, category, date,
+                (LocalDateTime) after.get("startTime"), (Long) after.get("id"), Limit.of(limit + 1));
+        return Keyset.page(events, limit, this::convertToDTO, EventService::eventKeys);
+    }
+
+    public CursorPage<EventDTO> findEventsByOrganizer(Long organizerId, String cursor, int limit) {
         // Check if organizer exists
         getUserOrThrow(organizerId);
 
-        return eventRepository.findByOrganizerId(organizerId).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return Keyset.page(eventRepository.findByOrganizerId(organizerId, eventPosition(cursor), EVENT_ORDER,
+                Limit.of(limit)), this::convertToDTO, EventService::eventKeys);
     }
 
     // Helper methods
+    private CursorPage<EventDTO> rankedSearch(String keyword, String category, LocalDate date, boolean fuzzy,
+                                              String cursor, int limit) {
+        Map<String, Object> after = Keyset.position(cursor, keys -> Map.of(
+                "score", Float.valueOf(keys.get(0)),
+                "id", Long.valueOf(keys.get(1)))).getKeys();
+        EventSearchIndex.Hit position = after.isEmpty()
+                ? null
+                : new EventSearchIndex.Hit((Long) after.get("id"), (Float) after.get("score"));
+        List<EventSearchIndex.Hit> hits = fuzzy
+                ? searchIndex.fuzzySearch(keyword, category, date, position, limit + 1)
+                : searchIndex.search(keyword, category, date, position, limit + 1);
+        List<EventSearchIndex.Hit> page = hits.size() > limit ? hits.subList(0, limit) : hits;
+
+        // One primary-key query for the page; events unpublished or deleted since the search are skipped
+        Map<Long, Event> events = eventRepository.findByIdIn(page.stream().map(EventSearchIndex.Hit::eventId).toList())
+                .stream()
+                .filter(Event::isPublished)
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+        List<EventDTO> found = page.stream()
+                .filter(hit -> events.containsKey(hit.eventId()))
+                .map(hit -> convertToDTO(events.get(hit.eventId())))
+                .toList();
+        return Keyset.page(page, hits.size() > limit, found, hit -> List.of(hit.score(), hit.eventId()));
+    }
+
     private Event getEventOrThrow(Long id) {
         return eventRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Event", "id", id));
@@ -143,6 +246,30 @@ public class EventService {
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
     }
 
+    private static KeysetScrollPosition eventPosition(String cursor) {
+        return Keyset.position(cursor, keys -> Map.of(
+                "startTime", LocalDateTime.parse(keys.get(0)),
+                "id", Long.valueOf(keys.get(1))));
+    }
+
+    private static List<?> eventKeys(Event event) {
+        return List.of(event.getStartTime(), event.getId());
+    }
+
+    // The seat counter is seeded from committed data, so switch modes only once the flag is stored
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
     private void validateEventDates(EventDTO eventDTO) {
         LocalDateTime now = LocalDateTime.now();
 
@@ -156,7 +283,7 @@ public class EventService {
     }
 
     private EventDTO convertToDTO(Event event) {
-        int registrationCount = (event.getRegistrations() != null) ? event.getRegistrations().size() : 0;
+        int registrationCount = event.getConfirmedCount();
 
         return EventDTO.builder()
                 .id(event.getId())
@@ -168,6 +295,7 @@ public class EventService {
                 .category(event.getCategory())
                 .capacity(event.getCapacity())
                 .published(event.isPublished())
+                .highDemand(event.isHighDemand())
                 .organizerId(event.getOrganizer().getId())
                 .organizerName(event.getOrganizer().getFullName())
                 .registrationCount(registrationCount)
@@ -0,0 +1,36 @@
+package com.example.eventmanagementsystem.service;
+
+import jakarta.persistence.EntityManager;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Feeds the rows of a repository stream to a consumer one at a time for exports. Together with a forward-only
+ * cursor and a JDBC fetch size, memory stays flat however large the table: no list of entities or DTOs is
+ * built, and the persistence context is cleared every {@link #CHUNK_SIZE} rows so written rows can be collected.
+ * Must run inside a transaction, which keeps the cursor open.
+ */
+final class Exports {
+
+    // Matches the fetch size hinted on the repository stream queries
+    static final int CHUNK_SIZE = 500;
+
+    private Exports() {
+    }
+
+    static <E, T> void forEach(Stream<E> rows, EntityManager entityManager, Function<E, T> converter, Consumer<T> sink) {
+        try (rows) {
+            Iterator<E> iterator = rows.iterator();
+            int count = 0;
+            while (iterator.hasNext()) {
+                sink.accept(converter.apply(iterator.next()));
+                if (++count % CHUNK_SIZE == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+}
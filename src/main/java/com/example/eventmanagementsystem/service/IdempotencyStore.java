@@ -0,0 +1,181 @@
+package com.example.eventmanagementsystem.service;
+
+import com.example.eventmanagementsystem.model.IdempotencyRecord;
+import com.example.eventmanagementsystem.repository.IdempotencyRecordRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers the responses of requests sent with an {@code Idempotency-Key} so retries can be answered without
+ * running them again.
+ * <p>
+ * The first request for a key claims it by inserting an in-progress row into {@code idempotency_keys}; the
+ * primary key makes the claim atomic across instances. When it finishes, its response is written to the row
+ * and to a bounded in-memory cache, so most retries are served without touching the database. A key whose
+ * request is still running is reported as a conflict. Keys are kept for {@code idempotency.ttl}; in-progress
+ * claims older than {@code idempotency.lock-timeout} are treated as abandoned.
+ * <p>
+ * Publishes {@code idempotency.requests} tagged {@code outcome=executed|replayed|conflict} and the
+ * {@code idempotency.responses} cache metrics.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore implements MeterBinder {
+
+    private final IdempotencyRecordRepository repository;
+    private final Duration ttl;
+    private final Duration lockTimeout;
+    private final Cache<String, StoredResponse> responses;
+
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+
+    public IdempotencyStore(IdempotencyRecordRepository repository,
+                            @Value("${idempotency.ttl:86400000}") long ttlMs,
+                            @Value("${idempotency.lock-timeout:60000}") long lockTimeoutMs,
+                            @Value("${idempotency.maximum-size:10000}") long maximumSize) {
+        this.repository = repository;
+        this.ttl = Duration.ofMillis(ttlMs);
+        this.lockTimeout = Duration.ofMillis(lockTimeoutMs);
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    // Digest of everything that identifies one logical request; the same key on another endpoint or for
+    // another caller is a different request
+    public static String scope(String caller, String method, String uri, String idempotencyKey) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            String scope = caller + '\n' + method + '\n' + uri + '\n' + idempotencyKey;
+            return HexFormat.of().formatHex(digest.digest(scope.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    public Claim claim(String scope) {
+        StoredResponse cached = responses.getIfPresent(scope);
+        if (cached != null) {
+            replayed.increment();
+            return Claim.replay(cached);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (tryInsert(scope, now)) {
+            executed.increment();
+            return Claim.acquired();
+        }
+
+        Optional<IdempotencyRecord> existing = repository.findById(scope);
+        if (existing.isPresent() && existing.get().getStatus() != 0 && existing.get().getExpiresAt().isAfter(now)) {
+            StoredResponse stored = StoredResponse.of(existing.get());
+            responses.put(scope, stored);
+            replayed.increment();
+            return Claim.replay(stored);
+        }
+
+        // Take over an expired key or an abandoned claim once; losing that race means someone else is running it
+        if (existing.isPresent() && isStale(existing.get(), now)) {
+            repository.deleteById(scope);
+            if (tryInsert(scope, now)) {
+                executed.increment();
+                return Claim.acquired();
+            }
+        }
+        conflicts.increment();
+        return Claim.conflict();
+    }
+
+    public void complete(String scope, StoredResponse response) {
+        repository.complete(scope, response.status(), response.contentType(), response.location(), response.body());
+        responses.put(scope, response);
+    }
+
+    // Gives the key back so the client can retry a request that did not produce a response worth keeping
+    public void release(String scope) {
+        repository.deleteInProgress(scope);
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval:3600000}")
+    public void purge() {
+        int purged = repository.deleteExpired(LocalDateTime.now());
+        log.debug("Purged {} expired idempotency keys", purged);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        counter(registry, executed, "executed");
+        counter(registry, replayed, "replayed");
+        counter(registry, conflicts, "conflict");
+        CaffeineCacheMetrics.monitor(registry, responses, "idempotency.responses");
+    }
+
+    // Helper methods
+    private boolean tryInsert(String scope, LocalDateTime now) {
+        try {
+            repository.insertInProgress(scope, now, now.plus(ttl));
+            return true;
+        } catch (DataIntegrityViolationException ex) {
+            return false;
+        }
+    }
+
+    private boolean isStale(IdempotencyRecord record, LocalDateTime now) {
+        return !record.getExpiresAt().isAfter(now)
+                || (record.getStatus() == 0 && record.getCreatedAt().plus(lockTimeout).isBefore(now));
+    }
+
+    private static void counter(MeterRegistry registry, LongAdder adder, String outcome) {
+        FunctionCounter.builder("idempotency.requests", adder, LongAdder::sum)
+                .description("Requests carrying an Idempotency-Key, by outcome")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    public record StoredResponse(int status, String contentType, String location, byte[] body) {
+
+        static StoredResponse of(IdempotencyRecord record) {
+            return new StoredResponse(record.getStatus(), record.getContentType(), record.getLocation(),
+                    record.getBody() == null ? new byte[0] : record.getBody());
+        }
+    }
+
+    public record Claim(State state, StoredResponse response) {
+
+        public enum State { ACQUIRED, REPLAY, CONFLICT }
+
+        static Claim acquired() {
+            return new Claim(State.ACQUIRED, null);
+        }
+
+        static Claim replay(StoredResponse response) {
+            return new Claim(State.REPLAY, response);
+        }
+
+        static Claim conflict() {
+            return new Claim(State.CONFLICT, null);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.eventmanagementsystem.service;
+
+import com.example.eventmanagementsystem.dto.CursorPage;
+import com.example.eventmanagementsystem.exception.ApiException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Cursors for keyset pagination. A cursor carries the sort keys of the last row of a page (for example its
+ * start time and id), so the next page is read with {@code WHERE (sortKey, id) > (?, ?)} from an index
+ * instead of skipping an offset; deep pages cost the same as the first one. Cursors are opaque to clients.
+ */
+final class Keyset {
+
+    private static final String SEPARATOR = "|";
+
+    private Keyset() {
+    }
+
+    // Position after the row the cursor was made from, or the start for no cursor
+    static KeysetScrollPosition position(String cursor, Function<List<String>, Map<String, ?>> keys) {
+        if (cursor == null) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return ScrollPosition.forward(keys.apply(Arrays.asList(decoded.split("\\" + SEPARATOR, -1))));
+        } catch (RuntimeException ex) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+
+    static <E, T> CursorPage<T> page(Window<E> window, Function<E, T> converter, Function<E, List<?>> keys) {
+        List<E> rows = window.getContent();
+        return page(rows, window.hasNext(), converter, keys);
+    }
+
+    // For queries that fetch one row more than the page to learn whether another page follows
+    static <E, T> CursorPage<T> page(List<E> rows, int limit, Function<E, T> converter, Function<E, List<?>> keys) {
+        return page(rows.size() > limit ? rows.subList(0, limit) : rows, rows.size() > limit, converter, keys);
+    }
+
+    static <E, T> CursorPage<T> page(List<E> rows, boolean hasNext, Function<E, T> converter,
+                                     Function<E, List<?>> keys) {
+        return page(rows, hasNext, rows.stream().map(converter).collect(Collectors.toList()), keys);
+    }
+
+    // For pages whose rows are filtered after reading: the cursor still follows the last row read, so the
+    // next page neither stops early nor reads the dropped rows again
+    static <E, T> CursorPage<T> page(List<E> rows, boolean hasNext, List<T> items, Function<E, List<?>> keys) {
+        String nextCursor = hasNext && !rows.isEmpty() ? cursor(keys.apply(rows.get(rows.size() - 1))) : null;
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    // Helper methods
+    private static String cursor(List<?> keys) {
+        String joined = keys.stream().map(String::valueOf).collect(Collectors.joining(SEPARATOR));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+    }
+}
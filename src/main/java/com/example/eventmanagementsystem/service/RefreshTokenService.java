@@ -0,0 +1,127 @@
+package com.example.eventmanagementsystem.service;
+
+import com.example.eventmanagementsystem.exception.ApiException;
+import com.example.eventmanagementsystem.model.RefreshToken;
+import com.example.eventmanagementsystem.model.User;
+import com.example.eventmanagementsystem.repository.RefreshTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Issues and rotates opaque refresh tokens, so clients can renew their access token without sending
+ * (and the server re-verifying) a password.
+ * <p>
+ * Tokens are 256 random bits; only their SHA-256 is stored, which is enough for a secret with that
+ * much entropy and keeps a refresh at one indexed lookup. Every refresh revokes the presented token and
+ * issues a new one in the same family. Presenting a token that was already rotated revokes the family.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final long refreshExpirationInMs;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               @Value("${jwt.refresh-expiration:1209600000}") long refreshExpirationInMs) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshExpirationInMs = refreshExpirationInMs;
+    }
+
+    // Starts a new token family, typically on login
+    @Transactional
+    public String issue(User user) {
+        return issue(user, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Exchanges a refresh token for its user and a replacement token.
+     * Fails with 401 when the token is unknown, expired or no longer active.
+     */
+    @Transactional(noRollbackFor = ApiException.class)
+    public Rotation rotate(String rawToken) {
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(RefreshTokenService::invalidToken);
+
+        // Reuse of a rotated token means it leaked: cut off every token derived from the same login
+        if (refreshToken.isRevoked() || refreshTokenRepository.revokeIfActive(refreshToken.getId()) == 0) {
+            refreshTokenRepository.revokeFamily(refreshToken.getFamilyId());
+            throw invalidToken();
+        }
+        if (refreshToken.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw invalidToken();
+        }
+
+        User user = refreshToken.getUser();
+        return new Rotation(user, issue(user, refreshToken.getFamilyId()));
+    }
+
+    // Logout: revokes the presented token and everything rotated from the same login
+    @Transactional
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(refreshToken -> refreshTokenRepository.revokeFamily(refreshToken.getFamilyId()));
+    }
+
+    @Transactional
+    public void revokeAllForUser(Long userId) {
+        refreshTokenRepository.revokeAllByUserId(userId);
+    }
+
+    @Transactional
+    public void deleteAllForUser(Long userId) {
+        refreshTokenRepository.deleteAllByUserId(userId);
+    }
+
+    // Expired tokens are useless for refresh and for reuse detection alike
+    @Scheduled(cron = "${jwt.refresh-purge-cron:0 0 3 * * *}")
+    @Transactional
+    public void purgeExpired() {
+        refreshTokenRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    // Helper methods
+    private String issue(User user, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .user(user)
+                .tokenHash(hash(rawToken))
+                .familyId(familyId)
+                .expiresAt(LocalDateTime.now().plusNanos(refreshExpirationInMs * 1_000_000))
+                .build());
+        return rawToken;
+    }
+
+    static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static ApiException invalidToken() {
+        return new ApiException(HttpStatus.UNAUTHORIZED, "Invalid or expired refresh token");
+    }
+
+    public record Rotation(User user, String refreshToken) {
+    }
+}
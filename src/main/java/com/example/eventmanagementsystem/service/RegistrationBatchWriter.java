@@ -0,0 +1,201 @@
+package com.example.eventmanagementsystem.service;
+
+import com.example.eventmanagementsystem.model.Registration;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.Generator;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Persists registrations accepted from an in-memory {@link SeatInventory} in the background.
+ * <p>
+ * Registrations get their id from Hibernate's pooled generator when they are accepted ({@link #assignId}), so the
+ * client is answered with it before the row exists. A single writer thread drains the queue into JDBC batches:
+ * the registrations are inserted with those ids and {@code confirmed_count} is incremented once per event,
+ * committed together. When a batch fails (for example a duplicate made through the regular path) its rows are
+ * retried one by one, and each row that still fails has its {@code onFailure} callback run so the seat goes back
+ * on sale.
+ * <p>
+ * Publishes {@code registration.batch.pending} and {@code registration.batch.rows} tagged
+ * {@code outcome=written|failed}.
+ */
+@Slf4j
+@Component
+public class RegistrationBatchWriter implements InitializingBean, DisposableBean, MeterBinder {
+
+    private static final String INSERT = "INSERT INTO registrations "
+            + "(id, user_id, event_id, registration_time, registration_status) VALUES (?, ?, ?, ?, ?)";
+    private static final String ADD_CONFIRMED = "UPDATE events SET confirmed_count = confirmed_count + ? WHERE id = ?";
+
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long flushIntervalMs;
+
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final Thread writerThread;
+    private volatile boolean running = true;
+
+    public RegistrationBatchWriter(EntityManager entityManager, JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                   @Value("${registration.high-demand.batch-size:500}") int batchSize,
+                                   @Value("${registration.high-demand.flush-interval:50}") long flushIntervalMs) {
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.writerThread = new Thread(this::run, "registration-batch-writer");
+        this.writerThread.setDaemon(true);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        writerThread.start();
+    }
+
+    // Takes the next id from the generator Hibernate uses for registrations; needs the caller's transaction
+    public void assignId(Registration registration) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        Generator generator = session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(Registration.class).getGenerator();
+        registration.setId((Long) ((BeforeExecutionGenerator) generator)
+                .generate(session, registration, null, EventType.INSERT));
+    }
+
+    public void enqueue(Registration registration, Runnable onFailure) {
+        queue.add(new Pending(registration, onFailure));
+    }
+
+    public int pending() {
+        return queue.size();
+    }
+
+    // Writes everything queued so far before returning
+    public synchronized void flush() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        // Let an in-flight batch finish; the thread stops at its next poll
+        running = false;
+        writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        flush();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("registration.batch.pending", queue, BlockingQueue::size)
+                .description("Accepted high-demand registrations waiting to be written")
+                .register(registry);
+        FunctionCounter.builder("registration.batch.rows", written, LongAdder::sum)
+                .description("High-demand registrations written in batches, by outcome")
+                .tag("outcome", "written")
+                .register(registry);
+        FunctionCounter.builder("registration.batch.rows", failed, LongAdder::sum)
+                .description("High-demand registrations written in batches, by outcome")
+                .tag("outcome", "failed")
+                .register(registry);
+    }
+
+    // Helper methods
+    private void run() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Pending first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                synchronized (this) {
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    write(batch);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.error("Registration batch writer failed", ex);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Pending> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(batch));
+            written.add(batch.size());
+        } catch (DataAccessException ex) {
+            log.warn("Registration batch of {} failed, retrying row by row: {}", batch.size(), ex.getMessage());
+            for (Pending pending : batch) {
+                writeOne(pending);
+            }
+        }
+    }
+
+    private void writeOne(Pending pending) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(List.of(pending)));
+            written.increment();
+        } catch (DataAccessException ex) {
+            Registration registration = pending.registration();
+            log.warn("Dropping high-demand registration of user {} for event {}: {}",
+                    registration.getUser().getId(), registration.getEvent().getId(), ex.getMessage());
+            failed.increment();
+            pending.onFailure().run();
+        }
+    }
+
+    private void insert(List<Pending> batch) {
+        jdbcTemplate.batchUpdate(INSERT, batch, batch.size(), (statement, pending) -> {
+            Registration registration = pending.registration();
+            statement.setLong(1, registration.getId());
+            statement.setLong(2, registration.getUser().getId());
+            statement.setLong(3, registration.getEvent().getId());
+            statement.setObject(4, registration.getRegistrationTime());
+            statement.setString(5, registration.getRegistrationStatus());
+        });
+
+        Map<Long, Long> perEvent = batch.stream().collect(Collectors.groupingBy(
+                pending -> pending.registration().getEvent().getId(), Collectors.counting()));
+        jdbcTemplate.batchUpdate(ADD_CONFIRMED, perEvent.entrySet(), perEvent.size(), (statement, entry) -> {
+            statement.setLong(1, entry.getValue());
+            statement.setLong(2, entry.getKey());
+        });
+    }
+
+    private record Pending(Registration registration, Runnable onFailure) {
+    }
+}
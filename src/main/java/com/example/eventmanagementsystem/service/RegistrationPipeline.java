@@ -0,0 +1,220 @@
+package com.example.eventmanagementsystem.service;
+
+import com.example.eventmanagementsystem.dto.RegistrationRequestDTO;
+import com.example.eventmanagementsystem.exception.ApiException;
+import com.example.eventmanagementsystem.exception.ResourceNotFoundException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Accepts registrations without waiting for the database: {@link #submit} queues the request and returns a
+ * PENDING request id at once, and the outcome is read back with {@link #getStatus}.
+ * <p>
+ * A single worker thread drains the bounded queue into micro-batches and registers each batch through
+ * {@link RegistrationService#registerQueued} in one transaction, so the batch shares a single commit and uses
+ * one pooled connection however large the burst. Requests that fail validation are reported individually;
+ * when the batch itself fails (for example a duplicate made through the regular path) its requests are retried
+ * one by one. Any other error reports the requests it left without an outcome as FAILED. A full queue rejects
+ * new requests with a 503. Outcomes are kept for {@code registration.async.retention}, up to
+ * {@code registration.async.maximum-size} of them.
+ * <p>
+ * Publishes {@code registration.async.pending} and {@code registration.async.requests} tagged
+ * {@code outcome=confirmed|waitlisted|failed|rejected}.
+ */
+@Slf4j
+@Component
+public class RegistrationPipeline implements InitializingBean, DisposableBean, MeterBinder {
+
+    public static final String PENDING = "PENDING";
+    public static final String FAILED = "FAILED";
+
+    private final RegistrationService registrationService;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalMs;
+
+    private final BlockingQueue<RegistrationRequestDTO> queue;
+    private final Cache<String, RegistrationRequestDTO> requests;
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+    private final LongAdder rejected = new LongAdder();
+    private final Thread workerThread;
+    private volatile boolean running = true;
+
+    public RegistrationPipeline(RegistrationService registrationService,
+                                @Value("${registration.async.enabled:false}") boolean enabled,
+                                @Value("${registration.async.queue-capacity:10000}") int queueCapacity,
+                                @Value("${registration.async.batch-size:100}") int batchSize,
+                                @Value("${registration.async.flush-interval:10}") long flushIntervalMs,
+                                @Value("${registration.async.retention:600000}") long retentionMs,
+                                @Value("${registration.async.maximum-size:100000}") long maximumSize) {
+        this.registrationService = registrationService;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.requests = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(retentionMs))
+                .build();
+        for (String outcome : List.of("CONFIRMED", "WAITLISTED", FAILED)) {
+            outcomes.put(outcome, new LongAdder());
+        }
+        this.workerThread = new Thread(this::run, "registration-pipeline");
+        this.workerThread.setDaemon(true);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (enabled) {
+            workerThread.start();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public RegistrationRequestDTO submit(Long userId, Long eventId) {
+        RegistrationRequestDTO request = RegistrationRequestDTO.builder()
+                .requestId(UUID.randomUUID().toString())
+                .userId(userId)
+                .eventId(eventId)
+                .status(PENDING)
+                .build();
+
+        // Record the request first so a poll that races the worker never sees a 404
+        requests.put(request.getRequestId(), request);
+        if (!queue.offer(request)) {
+            requests.invalidate(request.getRequestId());
+            rejected.increment();
+            throw new ApiException(HttpStatus.SERVICE_UNAVAILABLE, "Too many registrations in progress, please retry later");
+        }
+        return request;
+    }
+
+    public RegistrationRequestDTO getStatus(String requestId) {
+        RegistrationRequestDTO request = requests.getIfPresent(requestId);
+        if (request == null) {
+            throw new ResourceNotFoundException("Registration request", "id", requestId);
+        }
+        return request;
+    }
+
+    public int pending() {
+        return queue.size();
+    }
+
+    // Processes everything queued so far before returning
+    public synchronized void flush() {
+        List<RegistrationRequestDTO> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            process(batch);
+            batch.clear();
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        // Let an in-flight batch finish; the thread stops at its next poll
+        running = false;
+        workerThread.join(TimeUnit.SECONDS.toMillis(10));
+        flush();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("registration.async.pending", queue, BlockingQueue::size)
+                .description("Accepted registration requests waiting to be processed")
+                .register(registry);
+        outcomes.forEach((outcome, count) -> FunctionCounter.builder("registration.async.requests", count, LongAdder::sum)
+                .description("Asynchronous registration requests, by outcome")
+                .tag("outcome", outcome.toLowerCase())
+                .register(registry));
+        FunctionCounter.builder("registration.async.requests", rejected, LongAdder::sum)
+                .description("Asynchronous registration requests, by outcome")
+                .tag("outcome", "rejected")
+                .register(registry);
+    }
+
+    // Helper methods
+    private void run() {
+        List<RegistrationRequestDTO> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                RegistrationRequestDTO first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                synchronized (this) {
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    process(batch);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.error("Registration pipeline failed", ex);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void process(List<RegistrationRequestDTO> batch) {
+        List<RegistrationRequestDTO> results = new ArrayList<>(batch.size());
+        try {
+            try {
+                results.addAll(registrationService.registerQueued(batch));
+            } catch (DataAccessException | TransactionException ex) {
+                log.warn("Registration batch of {} failed, retrying one by one: {}", batch.size(), ex.getMessage());
+                for (RegistrationRequestDTO request : batch) {
+                    results.add(processOne(request));
+                }
+            }
+        } catch (RuntimeException ex) {
+            // Anything else is a bug rather than a bad request; fail whatever is left instead of leaving it PENDING
+            log.error("Registration batch of {} failed", batch.size(), ex);
+            for (RegistrationRequestDTO request : batch.subList(results.size(), batch.size())) {
+                results.add(request.toBuilder().status(FAILED).message("Registration could not be processed").build());
+            }
+        }
+        for (RegistrationRequestDTO result : results) {
+            requests.put(result.getRequestId(), result);
+            outcomes.get(result.getStatus()).increment();
+        }
+    }
+
+    private RegistrationRequestDTO processOne(RegistrationRequestDTO request) {
+        try {
+            return registrationService.registerQueued(List.of(request)).get(0);
+        } catch (DataAccessException | TransactionException ex) {
+            log.warn("Dropping registration request {} of user {} for event {}: {}",
+                    request.getRequestId(), request.getUserId(), request.getEventId(), ex.getMessage());
+            return request.toBuilder().status(FAILED).message("Registration could not be saved").build();
+        }
+    }
+}
@@ -1,7 +1,10 @@
 // src/main/java/com/example/eventmanagementsystem/service/RegistrationService.java
 package com.example.eventmanagementsystem.service;
 
+import com.example.eventmanagementsystem.dto.BulkRegistrationResultDTO;
+import com.example.eventmanagementsystem.dto.CursorPage;
 import com.example.eventmanagementsystem.dto.RegistrationDTO;
+import com.example.eventmanagementsystem.dto.RegistrationRequestDTO;
 import com.example.eventmanagementsystem.exception.ApiException;
 import com.example.eventmanagementsystem.exception.ResourceNotFoundException;
 import com.example.eventmanagementsystem.model.Event;
@@ -10,27 +13,53 @@ import com.example.eventmanagementsystem.model.User;
 import com.example.eventmanagementsystem.repository.EventRepository;
 import com.example.eventmanagementsystem.repository.RegistrationRepository;
 import com.example.eventmanagementsystem.repository.UserRepository;
+import com.example.eventmanagementsystem.security.OwnershipIndex;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class RegistrationService {
 
+    // Registration lists are paged in id order; with pooled ids that is only roughly the order they were made in
+    private static final Sort REGISTRATION_ORDER = Sort.by("id");
+
     private final RegistrationRepository registrationRepository;
     private final UserRepository userRepository;
     private final EventRepository eventRepository;
+    private final OwnershipIndex ownershipIndex;
+    private final SeatInventory seatInventory;
+    private final WaitlistService waitlistService;
+    private final EntityManager entityManager;
+
+    public CursorPage<RegistrationDTO> findAllRegistrations(String cursor, int limit) {
+        return Keyset.page(registrationRepository.findBy(registrationPosition(cursor), REGISTRATION_ORDER,
+                Limit.of(limit)), this::convertToDTO, RegistrationService::registrationKeys);
+    }
 
-    public List<RegistrationDTO> findAllRegistrations() {
-        return registrationRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    // Hands every registration to the sink as it is read, without building the full list
+    @Transactional(readOnly = true)
+    public void exportRegistrations(Consumer<RegistrationDTO> sink) {
+        Exports.forEach(registrationRepository.streamAll(), entityManager, this::convertToDTO, sink);
     }
 
     public RegistrationDTO findRegistrationById(Long id) {
@@ -38,59 +67,102 @@ public class RegistrationService {
         return convertToDTO(registration);
     }
 
-    public List<RegistrationDTO> findRegistrationsByUser(Long userId) {
+    public CursorPage<RegistrationDTO> findRegistrationsByUser(Long userId, String cursor, int limit) {
         // Check if user exists
         getUserOrThrow(userId);
 
-        return registrationRepository.findByUserId(userId).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return Keyset.page(registrationRepository.findByUserId(userId, registrationPosition(cursor),
+                REGISTRATION_ORDER, Limit.of(limit)), this::convertToDTO, RegistrationService::registrationKeys);
     }
 
-    public List<RegistrationDTO> findRegistrationsByEvent(Long eventId) {
+    public CursorPage<RegistrationDTO> findRegistrationsByEvent(Long eventId, String cursor, int limit) {
         // Check if event exists
         getEventOrThrow(eventId);
 
-        return registrationRepository.findByEventId(eventId).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return Keyset.page(registrationRepository.findByEventId(eventId, registrationPosition(cursor),
+                REGISTRATION_ORDER, Limit.of(limit)), this::convertToDTO, RegistrationService::registrationKeys);
     }
 
     @Transactional
     public RegistrationDTO registerForEvent(Long userId, Long eventId) {
-        User user = getUserOrThrow(userId);
-        Event event = getEventOrThrow(eventId);
+        return register(userId, eventId);
+    }
 
-        // Check if the event is published
-        if (!event.isPublished()) {
-            throw new ApiException(HttpStatus.BAD_REQUEST, "Cannot register for an unpublished event");
+    /**
+     * Registers a micro-batch of queued requests in one transaction, so the whole batch shares a single commit.
+     * Each request goes through the same checks as {@link #registerForEvent}; one that fails them is reported
+     * as FAILED without affecting the others.
+     */
+    @Transactional
+    public List<RegistrationRequestDTO> registerQueued(List<RegistrationRequestDTO> requests) {
+        List<RegistrationRequestDTO> results = new ArrayList<>(requests.size());
+        for (RegistrationRequestDTO request : requests) {
+            try {
+                RegistrationDTO registration = register(request.getUserId(), request.getEventId());
+                results.add(request.toBuilder()
+                        .status(registration.getRegistrationStatus())
+                        .registrationId(registration.getId())
+                        .build());
+            } catch (ApiException | ResourceNotFoundException ex) {
+                // Checks run before any write, so the rest of the batch can still commit
+                results.add(request.toBuilder().status("FAILED").message(ex.getMessage()).build());
+            }
         }
+        return results;
+    }
 
-        // Check if the user is already registered
-        if (registrationRepository.existsByUserIdAndEventId(userId, eventId)) {
-            throw new ApiException(HttpStatus.CONFLICT, "User is already registered for this event");
-        }
+    /**
+     * Registers a group of users for one event with a fixed number of queries: one lookup for the users,
+     * one for existing registrations, one seat reservation for the whole group and a batched insert.
+     * Users are seated in request order and the rest are waitlisted. Unknown and already registered users
+     * are reported per user instead of failing the group.
+     */
+    @Transactional
+    public List<BulkRegistrationResultDTO> registerUsersForEvent(Long eventId, List<Long> userIds) {
+        Event event = getEventOrThrow(eventId);
+        checkOpenForRegistration(event);
 
-        // Fix: Check if the event is at capacity using existing method
-        int registrationCount = (event.getRegistrations() != null) ? event.getRegistrations().size() : 0;
-        if (registrationCount >= event.getCapacity()) {
-            throw new ApiException(HttpStatus.BAD_REQUEST, "Event is at full capacity");
+        // High-demand events count seats in memory, one registration at a time
+        if (seatInventory.isActive(eventId)) {
+            throw new ApiException(HttpStatus.CONFLICT, "Bulk registration is not available for high-demand events");
         }
 
-        // Check if the event is in the past
-        if (event.getStartTime().isBefore(LocalDateTime.now())) {
-            throw new ApiException(HttpStatus.BAD_REQUEST, "Cannot register for past events");
+        Set<Long> requested = new LinkedHashSet<>(userIds);
+        Map<Long, User> users = userRepository.findAllById(requested).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Set<Long> alreadyRegistered = new HashSet<>(registrationRepository.findRegisteredUserIds(eventId, requested));
+
+        // Results keep the request order; registrants hold their slot until their row is written
+        Map<Long, BulkRegistrationResultDTO> results = new LinkedHashMap<>();
+        List<User> registrants = new ArrayList<>();
+        for (Long userId : requested) {
+            if (!users.containsKey(userId)) {
+                results.put(userId, bulkResult(userId, null, "USER_NOT_FOUND"));
+            } else if (alreadyRegistered.contains(userId)) {
+                results.put(userId, bulkResult(userId, null, "ALREADY_REGISTERED"));
+            } else {
+                results.put(userId, null);
+                registrants.add(users.get(userId));
+            }
         }
 
-        Registration registration = Registration.builder()
-                .user(user)
-                .event(event)
-                .registrationTime(LocalDateTime.now())
-                .registrationStatus("CONFIRMED")
-                .build();
+        int seats = reserveSeats(eventId, registrants.size());
+        List<Registration> registrations = new ArrayList<>(registrants.size());
+        for (int i = 0; i < registrants.size(); i++) {
+            registrations.add(Registration.builder()
+                    .user(registrants.get(i))
+                    .event(event)
+                    .registrationTime(LocalDateTime.now())
+                    .registrationStatus(i < seats ? "CONFIRMED" : "WAITLISTED")
+                    .build());
+        }
 
-        Registration savedRegistration = registrationRepository.save(registration);
-        return convertToDTO(savedRegistration);
+        for (Registration saved : registrationRepository.saveAll(registrations)) {
+            ownershipIndex.onRegistrationCreated(saved);
+            Long userId = saved.getUser().getId();
+            results.put(userId, bulkResult(userId, saved.getId(), saved.getRegistrationStatus()));
+        }
+        return new ArrayList<>(results.values());
     }
 
     @Transactional
@@ -103,18 +175,74 @@ public class RegistrationService {
             throw new ApiException(HttpStatus.BAD_REQUEST, "Cannot cancel registration for events that have already started");
         }
 
+        boolean wasConfirmed = isConfirmed(registration);
         registration.setRegistrationStatus("CANCELLED");
         Registration updatedRegistration = registrationRepository.save(registration);
+        if (wasConfirmed) {
+            releaseSeat(eventId);
+        }
         return convertToDTO(updatedRegistration);
     }
 
     @Transactional
     public void deleteRegistration(Long id) {
         Registration registration = getRegistrationOrThrow(id);
+        Long eventId = registration.getEvent().getId();
         registrationRepository.delete(registration);
+        if (isConfirmed(registration)) {
+            releaseSeat(eventId);
+        }
+        seatInventory.forget(eventId, registration.getUser().getId());
+        ownershipIndex.onRegistrationDeleted(id);
+    }
+
+    // Frees the seats of a user whose registrations are about to be deleted with them, promoting from each waitlist
+    @Transactional
+    public void releaseSeatsOfUser(Long userId) {
+        for (Long eventId : registrationRepository.findConfirmedEventIdsByUserId(userId)) {
+            releaseSeat(eventId);
+            seatInventory.forget(eventId, userId);
+        }
     }
 
     // Helper methods
+    private RegistrationDTO register(Long userId, Long eventId) {
+        User user = getUserOrThrow(userId);
+        Event event = getEventOrThrow(eventId);
+
+        checkOpenForRegistration(event);
+
+        // Check if the user is already registered
+        if (registrationRepository.existsByUserIdAndEventId(userId, eventId)) {
+            throw new ApiException(HttpStatus.CONFLICT, "User is already registered for this event");
+        }
+
+        // High-demand events take the seat in memory and write the registration in the background;
+        // when they are full the waitlisted registration is saved below like any other.
+        // Other events, including one switched out of the mode meanwhile, go through the database
+        Optional<Registration> reserved = seatInventory.reserve(user, event);
+        if (reserved.isPresent() && isConfirmed(reserved.get())) {
+            ownershipIndex.onRegistrationCreated(reserved.get());
+            return convertToDTO(reserved.get());
+        }
+
+        Registration registration = reserved.orElseGet(() -> {
+            // Reserve a seat with one conditional UPDATE; the insert below rolls it back if it fails.
+            // A full event puts the user on the waitlist instead
+            String status = eventRepository.reserveSeat(eventId) == 1 ? "CONFIRMED" : "WAITLISTED";
+            return Registration.builder()
+                    .user(user)
+                    .event(event)
+                    .registrationTime(LocalDateTime.now())
+                    .registrationStatus(status)
+                    .build();
+        });
+
+        Registration savedRegistration = registrationRepository.save(registration);
+        ownershipIndex.onRegistrationCreated(savedRegistration);
+        return convertToDTO(savedRegistration);
+    }
+
     private Registration getRegistrationOrThrow(Long id) {
         return registrationRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Registration", "id", id));
@@ -130,6 +258,62 @@ public class RegistrationService {
                 .orElseThrow(() -> new ResourceNotFoundException("Event", "id", id));
     }
 
+    private static KeysetScrollPosition registrationPosition(String cursor) {
+        return Keyset.position(cursor, keys -> Map.of("id", Long.valueOf(keys.get(0))));
+    }
+
+    private static List<?> registrationKeys(Registration registration) {
+        return List.of(registration.getId());
+    }
+
+    private static void checkOpenForRegistration(Event event) {
+        // Check if the event is published
+        if (!event.isPublished()) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "Cannot register for an unpublished event");
+        }
+
+        // Check if the event is in the past
+        if (event.getStartTime().isBefore(LocalDateTime.now())) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "Cannot register for past events");
+        }
+    }
+
+    // Takes as many of the wanted seats as are free in one conditional UPDATE; retries with a fresh
+    // count if a concurrent registration took a seat in between. Returns the seats taken.
+    private int reserveSeats(Long eventId, int wanted) {
+        while (wanted > 0) {
+            int seats = Math.min(wanted, Math.max(0, eventRepository.findRemainingSeatsById(eventId).orElse(0)));
+            if (seats == 0 || eventRepository.reserveSeats(eventId, seats) == 1) {
+                return seats;
+            }
+        }
+        return 0;
+    }
+
+    // Frees a confirmed seat and gives it to the head of the waitlist in the same transaction.
+    // High-demand events hand it back to the in-memory counter when nobody is waiting; only this one seat
+    // is promoted, since their confirmed_count lags the registrations still being written
+    private void releaseSeat(Long eventId) {
+        eventRepository.decrementConfirmedCount(eventId);
+        if (!seatInventory.isActive(eventId)) {
+            waitlistService.promote(eventId);
+        } else if (!waitlistService.promoteOne(eventId)) {
+            seatInventory.release(eventId);
+        }
+    }
+
+    private static boolean isConfirmed(Registration registration) {
+        return "CONFIRMED".equals(registration.getRegistrationStatus());
+    }
+
+    private static BulkRegistrationResultDTO bulkResult(Long userId, Long registrationId, String status) {
+        return BulkRegistrationResultDTO.builder()
+                .userId(userId)
+                .registrationId(registrationId)
+                .status(status)
+                .build();
+    }
+
     private RegistrationDTO convertToDTO(Registration registration) {
         return RegistrationDTO.builder()
                 .id(registration.getId())
@@ -0,0 +1,177 @@
+package com.example.eventmanagementsystem.service;
+
+import com.example.eventmanagementsystem.exception.ApiException;
+import com.example.eventmanagementsystem.model.Event;
+import com.example.eventmanagementsystem.model.Registration;
+import com.example.eventmanagementsystem.model.User;
+import com.example.eventmanagementsystem.repository.EventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Seat inventory for events in high-demand (flash-sale) mode.
+ * <p>
+ * For these events seats are taken from a {@link StripedSeatCounter} in memory instead of with a conditional
+ * UPDATE on the event row, so concurrent registrations no longer queue on one row lock. Accepted registrations
+ * are written asynchronously by the {@link RegistrationBatchWriter}, which also advances
+ * {@code confirmed_count}. Counters are seeded from the database when the application starts and when the mode
+ * is switched on. As in the regular mode, registrations beyond the last seat are waitlisted. Deleting a
+ * registration, its user or the event gives the seat and the user's claim on the event back once committed.
+ * <p>
+ * The counter lives in this process, so an event in this mode must be served by a single instance. Registrations
+ * accepted but not yet written are lost if the process dies; their seats are simply back on sale after restart.
+ */
+@Slf4j
+@Component
+public class SeatInventory implements SmartInitializingSingleton {
+
+    private final EventRepository eventRepository;
+    private final RegistrationBatchWriter batchWriter;
+    private final int stripes;
+
+    private final Map<Long, EventSeats> events = new ConcurrentHashMap<>();
+
+    public SeatInventory(EventRepository eventRepository, RegistrationBatchWriter batchWriter,
+                         @Value("${registration.high-demand.stripes:0}") int stripes) {
+        this.eventRepository = eventRepository;
+        this.batchWriter = batchWriter;
+        this.stripes = stripes > 0 ? stripes : Runtime.getRuntime().availableProcessors();
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (Event event : eventRepository.findByHighDemandTrue()) {
+            activate(event.getId());
+        }
+    }
+
+    public boolean isActive(Long eventId) {
+        return events.containsKey(eventId);
+    }
+
+    // Seeds the counter with the seats the database still has free
+    public void activate(Long eventId) {
+        int remaining = eventRepository.findRemainingSeatsById(eventId).orElse(0);
+        events.put(eventId, new EventSeats(new StripedSeatCounter(remaining, stripes)));
+        log.info("High-demand mode on for event {} with {} seats left", eventId, remaining);
+    }
+
+    // Writes everything already accepted, so confirmed_count is exact for the regular path again
+    public void deactivate(Long eventId) {
+        if (events.remove(eventId) != null) {
+            batchWriter.flush();
+            log.info("High-demand mode off for event {}", eventId);
+        }
+    }
+
+    /**
+     * Takes a seat for the user and queues the registration for writing once the surrounding transaction
+     * commits; a rollback puts the seat back on sale. The returned registration already has its id.
+     * When no seat is left, returns a WAITLISTED registration instead, which is not queued: the caller saves
+     * it in its own transaction, as for any other full event.
+     * Empty when the event is not in high-demand mode, which {@link #deactivate} may switch off at any time;
+     * the caller then registers through the database as usual.
+     */
+    public Optional<Registration> reserve(User user, Event event) {
+        EventSeats seats = events.get(event.getId());
+        if (seats == null) {
+            return Optional.empty();
+        }
+
+        // Registrations still in the write queue are not visible to the repository's duplicate check
+        if (!seats.claims().add(user.getId())) {
+            throw new ApiException(HttpStatus.CONFLICT, "User is already registered for this event");
+        }
+        Runnable dropClaim = () -> seats.claims().remove(user.getId());
+        if (!seats.counter().tryAcquire()) {
+            // The claim covers the waitlisted row until its transaction ends and the duplicate check can see it
+            afterCompletion(dropClaim, dropClaim);
+            return Optional.of(registration(user, event, "WAITLISTED"));
+        }
+
+        Registration registration = registration(user, event, "CONFIRMED");
+        batchWriter.assignId(registration);
+        Runnable giveBack = () -> {
+            seats.counter().release();
+            dropClaim.run();
+        };
+        afterCompletion(() -> batchWriter.enqueue(registration, giveBack), giveBack);
+        return Optional.of(registration);
+    }
+
+    // Puts a cancelled or deleted seat back on sale once the surrounding transaction commits
+    public void release(Long eventId) {
+        EventSeats seats = events.get(eventId);
+        if (seats == null) {
+            return;
+        }
+        afterCompletion(() -> seats.counter().release(), () -> {
+        });
+    }
+
+    // Lets the user register again once their deleted registration is gone; its seat is released separately
+    public void forget(Long eventId, Long userId) {
+        EventSeats seats = events.get(eventId);
+        if (seats == null) {
+            return;
+        }
+        afterCompletion(() -> seats.claims().remove(userId), () -> {
+        });
+    }
+
+    // Seats left in memory, or -1 when the event is not in high-demand mode
+    public int available(Long eventId) {
+        EventSeats seats = events.get(eventId);
+        return seats != null ? seats.counter().available() : -1;
+    }
+
+    // Helper methods
+    private static Registration registration(User user, Event event, String status) {
+        return Registration.builder()
+                .user(user)
+                .event(event)
+                .registrationTime(LocalDateTime.now())
+                .registrationStatus(status)
+                .build();
+    }
+
+    // Runs onCommit once the surrounding transaction commits, or right away outside a transaction,
+    // and onRollback if the transaction does not commit
+    private static void afterCompletion(Runnable onCommit, Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onCommit.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                onCommit.run();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    onRollback.run();
+                }
+            }
+        });
+    }
+
+    private record EventSeats(StripedSeatCounter counter, Set<Long> claims) {
+
+        EventSeats(StripedSeatCounter counter) {
+            this(counter, ConcurrentHashMap.newKeySet());
+        }
+    }
+}
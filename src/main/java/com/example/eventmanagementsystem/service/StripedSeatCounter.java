@@ -0,0 +1,64 @@
+package com.example.eventmanagementsystem.service;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Lock-free count of the seats left for one event, split across stripes so concurrent reservations
+ * mostly touch different cache lines instead of all contending on one value.
+ * <p>
+ * Each thread starts at its own stripe and takes a seat with a CAS that never drops a stripe below zero,
+ * moving on to the next stripe when its own is empty. The stripes always sum to the seats left, so seats are
+ * never handed out twice; {@link #tryAcquire} fails only after finding every stripe empty.
+ */
+public final class StripedSeatCounter {
+
+    // Ints per 64-byte cache line, so neighbouring stripes do not false-share
+    private static final int PADDING = 16;
+
+    private final AtomicIntegerArray cells;
+    private final int stripes;
+
+    public StripedSeatCounter(int seats, int stripes) {
+        this.stripes = Math.max(1, stripes);
+        this.cells = new AtomicIntegerArray(this.stripes * PADDING);
+
+        int remaining = Math.max(0, seats);
+        for (int i = 0; i < this.stripes; i++) {
+            int share = remaining / (this.stripes - i);
+            cells.set(i * PADDING, share);
+            remaining -= share;
+        }
+    }
+
+    public boolean tryAcquire() {
+        int start = home();
+        for (int i = 0; i < stripes; i++) {
+            int index = ((start + i) % stripes) * PADDING;
+            int seats = cells.get(index);
+            while (seats > 0) {
+                if (cells.compareAndSet(index, seats, seats - 1)) {
+                    return true;
+                }
+                seats = cells.get(index);
+            }
+        }
+        return false;
+    }
+
+    public void release() {
+        cells.incrementAndGet(home() * PADDING);
+    }
+
+    // A snapshot; exact only when no reservation is in flight
+    public int available() {
+        int sum = 0;
+        for (int i = 0; i < stripes; i++) {
+            sum += cells.get(i * PADDING);
+        }
+        return sum;
+    }
+
+    private int home() {
+        return (int) (Thread.currentThread().getId() % stripes);
+    }
+}
@@ -1,29 +1,58 @@
 package com.example.eventmanagementsystem.service;
 
+import com.example.eventmanagementsystem.dto.CursorPage;
 import com.example.eventmanagementsystem.dto.UserDTO;
 import com.example.eventmanagementsystem.exception.ResourceAlreadyExistsException;
 import com.example.eventmanagementsystem.exception.ResourceNotFoundException;
 import com.example.eventmanagementsystem.model.User;
+import com.example.eventmanagementsystem.repository.EventRepository;
 import com.example.eventmanagementsystem.repository.UserRepository;
+import com.example.eventmanagementsystem.search.EventSearchIndex;
+import com.example.eventmanagementsystem.security.CustomUserDetailsService;
+import com.example.eventmanagementsystem.security.OwnershipIndex;
+import com.example.eventmanagementsystem.security.TokenVersionRegistry;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
+    private final EventRepository eventRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final CacheManager cacheManager;
+    private final OwnershipIndex ownershipIndex;
+    private final RefreshTokenService refreshTokenService;
+    private final RegistrationService registrationService;
+    private final SeatInventory seatInventory;
+    private final EventSearchIndex searchIndex;
+    private final EntityManager entityManager;
+
+    public CursorPage<UserDTO> findAllUsers(String cursor, int limit) {
+        return Keyset.page(userRepository.findBy(idPosition(cursor), Sort.by("id"), Limit.of(limit)),
+                this::convertToDTO, user -> List.of(user.getId()));
+    }
 
-    public List<UserDTO> findAllUsers() {
-        return userRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    // Hands every user to the sink as it is read, without building the full list
+    @Transactional(readOnly = true)
+    public void exportUsers(Consumer<UserDTO> sink) {
+        Exports.forEach(userRepository.streamAll(), entityManager, this::convertToDTO, sink);
     }
 
     public UserDTO findUserById(Long id) {
@@ -77,6 +106,9 @@ public class UserService {
             throw new ResourceAlreadyExistsException("User", "email", userDTO.getEmail());
         }
 
+        String previousUsername = user.getUsername();
+        boolean credentialsChanged = !previousUsername.equals(userDTO.getUsername());
+
         // Update fields
         user.setUsername(userDTO.getUsername());
         user.setEmail(userDTO.getEmail());
@@ -85,29 +117,96 @@ public class UserService {
         // Only update password if it's provided
         if (userDTO.getPassword() != null && !userDTO.getPassword().isEmpty()) {
             user.setPassword(passwordEncoder.encode(userDTO.getPassword()));
+            credentialsChanged = true;
         }
 
         // Update roles if provided
-        if (userDTO.getRoles() != null) {
+        if (userDTO.getRoles() != null && !userDTO.getRoles().equals(user.getRoles())) {
             user.setRoles(userDTO.getRoles());
+            credentialsChanged = true;
+        }
+
+        // Invalidate tokens issued before the change
+        if (credentialsChanged) {
+            user.setTokenVersion(user.getTokenVersion() + 1);
         }
 
         User updatedUser = userRepository.save(user);
+        // Publish the new version only once it is stored; until then tokens are checked against the database
+        int tokenVersion = updatedUser.getTokenVersion();
+        tokenVersionRegistry.evict(id);
+        afterCommit(() -> tokenVersionRegistry.update(id, tokenVersion));
+        if (credentialsChanged) {
+            evictUserDetails(previousUsername, updatedUser.getUsername());
+            refreshTokenService.revokeAllForUser(id);
+        }
+        if (!previousUsername.equals(updatedUser.getUsername())) {
+            ownershipIndex.onUserRenamed(id);
+        }
         return convertToDTO(updatedUser);
     }
 
     @Transactional
     public void deleteUser(Long id) {
         User user = getUserOrThrow(id);
+        refreshTokenService.deleteAllForUser(id);
+        // The user's registrations are deleted with them; hand their seats to the waitlists first
+        registrationService.releaseSeatsOfUser(id);
+        // Their events go too; drop the in-memory seats of any in high-demand mode
+        List<Long> highDemandEventIds = eventRepository.findHighDemandIdsByOrganizerId(id);
+        afterCommit(() -> highDemandEventIds.forEach(seatInventory::deactivate));
         userRepository.delete(user);
+        // Only once the row is gone, so a concurrent request cannot re-cache the old version
+        afterCommit(() -> tokenVersionRegistry.evict(id));
+        evictUserDetails(user.getUsername());
+        ownershipIndex.onUserDeleted(id);
+        searchIndex.onUserDeleted(id);
     }
 
     // Helper methods
+    // Evict right away, and again after commit so a concurrent request cannot re-cache the old row
+    private void evictUserDetails(String... usernames) {
+        Cache cache = cacheManager.getCache(CustomUserDetailsService.USER_DETAILS_CACHE);
+        if (cache == null) {
+            return;
+        }
+
+        for (String username : usernames) {
+            cache.evict(username);
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            afterCommit(() -> {
+                for (String username : usernames) {
+                    cache.evict(username);
+                }
+            });
+        }
+    }
+
+    // Runs the action once the surrounding transaction commits, or right away outside a transaction
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
     private User getUserOrThrow(Long id) {
         return userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
     }
 
+    private static KeysetScrollPosition idPosition(String cursor) {
+        return Keyset.position(cursor, keys -> Map.of("id", Long.valueOf(keys.get(0))));
+    }
+
     private UserDTO convertToDTO(User user) {
         return UserDTO.builder()
                 .id(user.getId())
@@ -0,0 +1,245 @@
+package com.example.eventmanagementsystem.service;
+
+import com.example.eventmanagementsystem.dto.QueueTicketDTO;
+import com.example.eventmanagementsystem.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Admission queue in front of registration for events in high-demand mode.
+ * <p>
+ * A registration attempt for such an event first takes a ticket. Tickets are admitted in order at an overall
+ * rate shared between the queued events; until then the client polls the ticket's status and retries.
+ * Admitted tickets stay valid for {@code registration.waiting-room.admission-window} and are used up by one
+ * registration attempt.
+ * <p>
+ * The rate adapts to how fast registrations actually complete: when admitted registrations take longer than
+ * {@code target-latency} on average the rate is cut by a quarter, otherwise it grows by {@code rate-step}
+ * per second while people are waiting (bounded by {@code min-rate} and {@code max-rate}).
+ * <p>
+ * Queues live in this process, like the {@link SeatInventory} counters they protect.
+ */
+@Slf4j
+@Component
+public class WaitingRoom implements MeterBinder {
+
+    public static final String WAITING = "WAITING";
+    public static final String ADMITTED = "ADMITTED";
+
+    private final SeatInventory seatInventory;
+    private final boolean enabled;
+    private final double minRate;
+    private final double maxRate;
+    private final double rateStep;
+    private final long targetLatencyNanos;
+    private final long admissionWindowNanos;
+
+    private final Map<Long, EventQueue> queues = new ConcurrentHashMap<>();
+    private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+
+    private volatile double rate;
+    private long lastAdmitNanos;
+    private long lastAdjustNanos;
+    private final LongAdder completedNanos = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+
+    public WaitingRoom(SeatInventory seatInventory,
+                       @Value("${registration.waiting-room.enabled:true}") boolean enabled,
+                       @Value("${registration.waiting-room.initial-rate:50}") double initialRate,
+                       @Value("${registration.waiting-room.min-rate:5}") double minRate,
+                       @Value("${registration.waiting-room.max-rate:1000}") double maxRate,
+                       @Value("${registration.waiting-room.rate-step:10}") double rateStep,
+                       @Value("${registration.waiting-room.target-latency:250}") long targetLatencyMs,
+                       @Value("${registration.waiting-room.admission-window:120000}") long admissionWindowMs) {
+        this.seatInventory = seatInventory;
+        this.enabled = enabled;
+        this.rate = initialRate;
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.rateStep = rateStep;
+        this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos(targetLatencyMs);
+        this.admissionWindowNanos = TimeUnit.MILLISECONDS.toNanos(admissionWindowMs);
+        this.lastAdmitNanos = System.nanoTime();
+        this.lastAdjustNanos = lastAdmitNanos;
+    }
+
+    public boolean isGated(Long eventId) {
+        return enabled && seatInventory.isActive(eventId);
+    }
+
+    // Returns the user's ticket for the event, joining the back of the queue if they have none
+    public QueueTicketDTO enter(Long userId, Long eventId) {
+        EventQueue queue = queues.computeIfAbsent(eventId, id -> new EventQueue());
+        Ticket ticket = queue.byUser.computeIfAbsent(userId, id -> {
+            Ticket issued = new Ticket(UUID.randomUUID().toString(), userId, eventId, queue.issued.incrementAndGet());
+            tickets.put(issued.id, issued);
+            queue.waiting.add(issued);
+            return issued;
+        });
+        return toDTO(ticket, queue);
+    }
+
+    public QueueTicketDTO getTicket(String ticketId) {
+        Ticket ticket = tickets.get(ticketId);
+        if (ticket == null) {
+            throw new ResourceNotFoundException("Queue ticket", "id", ticketId);
+        }
+        return toDTO(ticket, queues.get(ticket.eventId));
+    }
+
+    /**
+     * Runs the registration for an admitted ticket, then retires the ticket whatever the outcome.
+     * The time taken feeds the admission rate.
+     */
+    public <T> T registerAdmitted(String ticketId, Supplier<T> registration) {
+        long start = System.nanoTime();
+        try {
+            return registration.get();
+        } finally {
+            completedNanos.add(System.nanoTime() - start);
+            completed.increment();
+            retire(tickets.get(ticketId));
+        }
+    }
+
+    @Scheduled(fixedRateString = "${registration.waiting-room.tick:100}")
+    public void admit() {
+        admit(System.nanoTime());
+    }
+
+    // Admits the tickets the current rate allows since the last tick and drops expired admissions
+    synchronized void admit(long now) {
+        double elapsedSeconds = (now - lastAdmitNanos) / 1e9;
+        lastAdmitNanos = now;
+
+        long activeQueues = queues.values().stream().filter(queue -> !queue.waiting.isEmpty()).count();
+        adjustRate(now, activeQueues > 0);
+
+        for (Map.Entry<Long, EventQueue> entry : queues.entrySet()) {
+            EventQueue queue = entry.getValue();
+            if (!queue.waiting.isEmpty()) {
+                queue.credit += rate * elapsedSeconds / activeQueues;
+                while (queue.credit >= 1 && !queue.waiting.isEmpty()) {
+                    Ticket ticket = queue.waiting.poll();
+                    ticket.admittedAt = now;
+                    queue.admittedThrough = Math.max(queue.admittedThrough, ticket.sequence);
+                    queue.admitted.add(ticket);
+                    queue.credit--;
+                }
+            } else {
+                queue.credit = 0;
+            }
+
+            Ticket oldest;
+            while ((oldest = queue.admitted.peek()) != null && now - oldest.admittedAt > admissionWindowNanos) {
+                queue.admitted.poll();
+                retire(oldest);
+            }
+
+            if (queue.byUser.isEmpty() && !isGated(entry.getKey())) {
+                queues.remove(entry.getKey());
+            }
+        }
+    }
+
+    public double getRate() {
+        return rate;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("registration.waiting_room.waiting", queues,
+                        q -> q.values().stream().mapToInt(queue -> queue.waiting.size()).sum())
+                .description("Tickets waiting for admission across all events")
+                .register(registry);
+        Gauge.builder("registration.waiting_room.admission_rate", this, WaitingRoom::getRate)
+                .description("Current admissions per second across all events")
+                .register(registry);
+    }
+
+    // Helper methods
+    // Once a second: multiplicative decrease when registrations are slow, additive increase while people wait
+    private void adjustRate(long now, boolean demand) {
+        double elapsedSeconds = (now - lastAdjustNanos) / 1e9;
+        if (elapsedSeconds < 1) {
+            return;
+        }
+        lastAdjustNanos = now;
+
+        long samples = completed.sumThenReset();
+        long totalNanos = completedNanos.sumThenReset();
+        if (samples > 0 && totalNanos / samples > targetLatencyNanos) {
+            rate = Math.max(minRate, rate * 0.75);
+            log.debug("Registrations averaging {} ms; admission rate lowered to {}/s",
+                    TimeUnit.NANOSECONDS.toMillis(totalNanos / samples), rate);
+        } else if (demand) {
+            rate = Math.min(maxRate, rate + rateStep * elapsedSeconds);
+        }
+    }
+
+    private void retire(Ticket ticket) {
+        if (ticket == null) {
+            return;
+        }
+        tickets.remove(ticket.id);
+        EventQueue queue = queues.get(ticket.eventId);
+        if (queue != null) {
+            queue.byUser.remove(ticket.userId, ticket);
+        }
+    }
+
+    private QueueTicketDTO toDTO(Ticket ticket, EventQueue queue) {
+        boolean admitted = ticket.admittedAt != 0;
+        long position = admitted || queue == null ? 0 : Math.max(1, ticket.sequence - queue.admittedThrough);
+        long activeQueues = Math.max(1, queues.values().stream().filter(q -> !q.waiting.isEmpty()).count());
+        return QueueTicketDTO.builder()
+                .ticketId(ticket.id)
+                .userId(ticket.userId)
+                .eventId(ticket.eventId)
+                .status(admitted ? ADMITTED : WAITING)
+                .position(position)
+                .estimatedWaitSeconds((long) Math.ceil(position * activeQueues / rate))
+                .build();
+    }
+
+    private static final class EventQueue {
+        final AtomicLong issued = new AtomicLong();
+        final Queue<Ticket> waiting = new ConcurrentLinkedQueue<>();
+        final Queue<Ticket> admitted = new ConcurrentLinkedQueue<>();
+        final Map<Long, Ticket> byUser = new ConcurrentHashMap<>();
+        volatile long admittedThrough;
+        // Fractional admissions carried over between ticks; only touched by admit()
+        double credit;
+    }
+
+    private static final class Ticket {
+        final String id;
+        final Long userId;
+        final Long eventId;
+        final long sequence;
+        // System.nanoTime() of admission; 0 while waiting
+        volatile long admittedAt;
+
+        Ticket(String id, Long userId, Long eventId, long sequence) {
+            this.id = id;
+            this.userId = userId;
+            this.eventId = eventId;
+            this.sequence = sequence;
+        }
+    }
+}
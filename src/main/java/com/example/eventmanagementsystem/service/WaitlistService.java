@@ -0,0 +1,61 @@
+package com.example.eventmanagementsystem.service;
+
+import com.example.eventmanagementsystem.repository.EventRepository;
+import com.example.eventmanagementsystem.repository.RegistrationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Moves waitlisted registrations into free seats, oldest first.
+ * <p>
+ * Runs in the caller's transaction, so a cancellation or capacity increase and the promotions it allows
+ * commit together. Each promotion takes the seat with the same conditional UPDATE as a new registration,
+ * then confirms the head of the waitlist found through the (event_id, registration_status,
+ * registration_time) index.
+ */
+@Service
+@RequiredArgsConstructor
+public class WaitlistService {
+
+    private final RegistrationRepository registrationRepository;
+    private final EventRepository eventRepository;
+
+    // Returns how many registrations were promoted
+    @Transactional
+    public int promote(Long eventId) {
+        int promoted = 0;
+        while (promoteOne(eventId)) {
+            promoted++;
+        }
+        return promoted;
+    }
+
+    // Gives one free seat to the head of the waitlist; false when no seat is free or nobody is waiting
+    @Transactional
+    public boolean promoteOne(Long eventId) {
+        if (eventRepository.reserveSeat(eventId) != 1) {
+            return false;
+        }
+        if (!confirmHead(eventId)) {
+            // Nobody left to promote; hand the seat back
+            eventRepository.decrementConfirmedCount(eventId);
+            return false;
+        }
+        return true;
+    }
+
+    // Helper methods
+    private boolean confirmHead(Long eventId) {
+        Optional<Long> head;
+        while ((head = registrationRepository.findWaitlistHead(eventId)).isPresent()) {
+            // Lost the row to a concurrent cancellation or promotion; the next lookup skips it
+            if (registrationRepository.confirmWaitlisted(head.get()) == 1) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
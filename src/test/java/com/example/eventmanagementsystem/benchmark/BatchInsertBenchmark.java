@@ -0,0 +1,125 @@
+package com.example.eventmanagementsystem.benchmark;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Insert throughput of one transaction writing {@code rows} registration-shaped rows, with the id strategy
+ * the entities used before ({@code IDENTITY}) and the pooled sequence they use now.
+ * <p>
+ * Both run with the application's Hibernate settings ({@code hibernate.jdbc.batch_size=50}) against the test
+ * profile's in-memory H2 database. IDENTITY makes Hibernate insert each row on {@code persist} to read its
+ * generated key; the sequence hands out 50 ids per call and the rows go out in JDBC batches at flush. A
+ * networked MySQL server pays a round trip per statement, so the gap there is larger than in-process H2 shows.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark test -Dbenchmark=BatchInsertBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BatchInsertBenchmark {
+
+    @Param({"500"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private EntityManagerFactory entityManagerFactory;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = new SpringApplicationBuilder(InsertContext.class)
+                .profiles("test")
+                .web(WebApplicationType.NONE)
+                .run("--logging.level.root=WARN");
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void closeContext() {
+        context.close();
+    }
+
+    // Operations are transactions of `rows` inserts; multiply the score by `rows` for rows per second
+    @Benchmark
+    public void identityIds() {
+        insert(IdentityRow::new);
+    }
+
+    @Benchmark
+    public void sequenceIds() {
+        insert(SequenceRow::new);
+    }
+
+    private void insert(Supplier<Row> factory) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            LocalDateTime now = LocalDateTime.now();
+            for (int i = 0; i < rows; i++) {
+                Row row = factory.get();
+                row.userId = (long) i;
+                row.eventId = 1L;
+                row.registrationTime = now;
+                row.registrationStatus = "CONFIRMED";
+                entityManager.persist(row);
+            }
+            entityManager.getTransaction().commit();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @MappedSuperclass
+    public abstract static class Row {
+        Long userId;
+        Long eventId;
+        LocalDateTime registrationTime;
+        String registrationStatus;
+    }
+
+    @Entity
+    @Table(name = "benchmark_identity_rows")
+    public static class IdentityRow extends Row {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+    }
+
+    @Entity
+    @Table(name = "benchmark_sequence_rows")
+    public static class SequenceRow extends Row {
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "benchmark_sequence_rows_seq")
+        @SequenceGenerator(name = "benchmark_sequence_rows_seq", allocationSize = 50)
+        Long id;
+    }
+
+    @Configuration
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class})
+    @EntityScan(basePackageClasses = BatchInsertBenchmark.class)
+    static class InsertContext {
+    }
+}
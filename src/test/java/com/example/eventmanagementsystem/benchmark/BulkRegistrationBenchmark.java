@@ -0,0 +1,130 @@
+package com.example.eventmanagementsystem.benchmark;
+
+import com.example.eventmanagementsystem.model.Event;
+import com.example.eventmanagementsystem.model.User;
+import com.example.eventmanagementsystem.repository.EventRepository;
+import com.example.eventmanagementsystem.repository.UserRepository;
+import com.example.eventmanagementsystem.security.OwnershipIndex;
+import com.example.eventmanagementsystem.service.RegistrationBatchWriter;
+import com.example.eventmanagementsystem.service.RegistrationService;
+import com.example.eventmanagementsystem.service.SeatInventory;
+import com.example.eventmanagementsystem.service.WaitlistService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Time to register a group of users for one event against the test profile's in-memory H2 database.
+ * <p>
+ * {@code singleRequests} calls {@link RegistrationService#registerForEvent} once per user, as a client
+ * looping over the single-registration endpoint would: each call loads the user and event, checks for an
+ * existing registration, reserves a seat and inserts a row. {@code bulkRequest} registers the same group
+ * with {@link RegistrationService#registerUsersForEvent}. Every invocation gets a fresh event with one seat
+ * per user. Divide {@code groupSize} by the time per operation for registrations per millisecond.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark test -Dbenchmark=BulkRegistrationBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BulkRegistrationBenchmark {
+
+    @Param({"50", "500"})
+    public int groupSize;
+
+    private ConfigurableApplicationContext context;
+    private RegistrationService registrationService;
+    private EventRepository eventRepository;
+    private User organizer;
+    private List<Long> userIds;
+    private Long eventId;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = new SpringApplicationBuilder(RegistrationContext.class)
+                .profiles("test")
+                .web(WebApplicationType.NONE)
+                .run("--logging.level.root=WARN");
+        registrationService = context.getBean(RegistrationService.class);
+        eventRepository = context.getBean(EventRepository.class);
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        organizer = userRepository.save(user("organizer"));
+        userIds = userRepository.saveAll(IntStream.range(0, groupSize).mapToObj(i -> user("user" + i)).toList())
+                .stream().map(User::getId).toList();
+    }
+
+    @Setup(Level.Invocation)
+    public void createEvent() {
+        eventId = eventRepository.save(Event.builder()
+                .name("Benchmark Event")
+                .startTime(LocalDateTime.now().plusDays(1))
+                .endTime(LocalDateTime.now().plusDays(1).plusHours(2))
+                .capacity(groupSize)
+                .published(true)
+                .organizer(organizer)
+                .build()).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void closeContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public int singleRequests() {
+        int registered = 0;
+        for (Long userId : userIds) {
+            registrationService.registerForEvent(userId, eventId);
+            registered++;
+        }
+        return registered;
+    }
+
+    @Benchmark
+    public int bulkRequest() {
+        return registrationService.registerUsersForEvent(eventId, userIds).size();
+    }
+
+    private static User user(String username) {
+        return User.builder()
+                .username(username)
+                .password("password")
+                .email(username + "@example.com")
+                .fullName(username)
+                .roles(new HashSet<>(Set.of("USER")))
+                .build();
+    }
+
+    // Just the persistence layer and the registration services; no web, security or scheduling
+    @Configuration
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, DataSourceTransactionManagerAutoConfiguration.class,
+            JdbcTemplateAutoConfiguration.class, HibernateJpaAutoConfiguration.class, TransactionAutoConfiguration.class})
+    @EntityScan(basePackageClasses = Event.class)
+    @EnableJpaRepositories(basePackageClasses = EventRepository.class)
+    @Import({RegistrationService.class, WaitlistService.class, OwnershipIndex.class, SeatInventory.class,
+            RegistrationBatchWriter.class})
+    static class RegistrationContext {
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.eventmanagementsystem.benchmark;
+
+import com.example.eventmanagementsystem.model.Event;
+import com.example.eventmanagementsystem.model.User;
+import com.example.eventmanagementsystem.repository.EventRepository;
+import com.example.eventmanagementsystem.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of the first page (51 rows) of a published-event search over {@code events} rows, with the query
+ * {@code searchEvents} used before ({@code legacy}) and the one it builds now ({@code current}).
+ * <p>
+ * The legacy query casts every start time to a date and keeps each unused filter as a
+ * {@code :param IS NULL OR ...} branch, so it reads the whole table; the current one sends only the filters
+ * in use and a half-open {@code start_time} range that the {@code events} indexes serve. {@code filter} picks
+ * the search: one day, one category on one day, or one category with no date. Rows are spread over ten
+ * categories and two years, nine in ten published. Runs against the test profile's in-memory H2 database;
+ * MySQL plans differ, but a full scan stays a full scan.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark test -Dbenchmark=EventSearchBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class EventSearchBenchmark {
+
+    private static final String LEGACY_QUERY = "SELECT e FROM Event e JOIN FETCH e.organizer WHERE e.published = true AND " +
+            "(:keyword IS NULL OR LOWER(e.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(e.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
+            "(:category IS NULL OR e.category = :category) AND " +
+            "(:date IS NULL OR CAST(e.startTime AS LocalDate) = :date) " +
+            "ORDER BY e.startTime, e.id";
+    private static final int PAGE = 51;
+    private static final int CATEGORIES = 10;
+    private static final int INSERT_BATCH = 10_000;
+    private static final LocalDateTime FIRST_START = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Param({"1000000"})
+    public int events;
+
+    @Param({"date", "categoryAndDate", "category"})
+    public String filter;
+
+    private ConfigurableApplicationContext context;
+    private EntityManagerFactory entityManagerFactory;
+    private EventRepository eventRepository;
+    private TransactionTemplate transactionTemplate;
+    private String category;
+    private LocalDate date;
+
+    @Setup(Level.Trial)
+    public void loadEvents() {
+        context = new SpringApplicationBuilder(SearchContext.class)
+                .profiles("test")
+                .web(WebApplicationType.NONE)
+                .run("--logging.level.root=WARN");
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        eventRepository = context.getBean(EventRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+
+        User organizer = context.getBean(UserRepository.class).save(User.builder()
+                .username("organizer")
+                .password("password")
+                .email("organizer@example.com")
+                .fullName("Event Organizer")
+                .roles(new HashSet<>(Set.of("ORGANIZER")))
+                .build());
+        insertEvents(context.getBean(JdbcTemplate.class), organizer.getId());
+
+        LocalDate midpoint = FIRST_START.plusDays(365).toLocalDate();
+        switch (filter) {
+            case "date" -> date = midpoint;
+            case "categoryAndDate" -> {
+                category = "Category 3";
+                date = midpoint;
+            }
+            default -> category = "Category 3";
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void closeContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Event> legacy() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.createQuery(LEGACY_QUERY, Event.class)
+                    .setParameter("keyword", null)
+                    .setParameter("category", category)
+                    .setParameter("date", date)
+                    .setMaxResults(PAGE)
+                    .getResultList();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Benchmark
+    public List<Event> current() {
+        return transactionTemplate.execute(status ->
+                eventRepository.searchEvents(null, category, date, null, null, Limit.of(PAGE)));
+    }
+
+    // Plain JDBC batches: saving a million entities through the persistence context would dominate setup
+    private void insertEvents(JdbcTemplate jdbcTemplate, Long organizerId) {
+        String sql = "INSERT INTO events (id, name, description, start_time, end_time, location, category, capacity, " +
+                "published, confirmed_count, high_demand, version, organizer_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0, false, 0, ?)";
+        long minutesPerEvent = TimeUnit.DAYS.toMinutes(2 * 365) / events;
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+        for (int i = 1; i <= events; i++) {
+            LocalDateTime start = FIRST_START.plusMinutes(i * minutesPerEvent);
+            batch.add(new Object[]{(long) i, "Event " + i, "Description of event " + i,
+                    Timestamp.valueOf(start), Timestamp.valueOf(start.plusHours(2)), "Hall " + (i % 50),
+                    "Category " + (i % CATEGORIES), 100, i % 10 != 0, organizerId});
+            if (batch.size() == INSERT_BATCH) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+
+    // Not a @Configuration, so the application's component scan in other tests does not register its repositories twice
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, DataSourceTransactionManagerAutoConfiguration.class,
+            JdbcTemplateAutoConfiguration.class, HibernateJpaAutoConfiguration.class, TransactionAutoConfiguration.class})
+    @EntityScan(basePackageClasses = Event.class)
+    @EnableJpaRepositories(basePackageClasses = EventRepository.class)
+    static class SearchContext {
+    }
+}
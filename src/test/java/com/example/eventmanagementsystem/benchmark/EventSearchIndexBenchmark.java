@@ -0,0 +1,133 @@
+package com.example.eventmanagementsystem.benchmark;
+
+import com.example.eventmanagementsystem.model.Event;
+import com.example.eventmanagementsystem.model.User;
+import com.example.eventmanagementsystem.search.EventSearchIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of a ranked keyword search for the first page (51 hits) in {@link EventSearchIndex} holding
+ * {@code events} published events, without the primary-key query that loads the page.
+ * <p>
+ * Names, descriptions and locations are drawn from fixed vocabularies, so a query's terms match roughly the
+ * share of events given in its name: {@code rareTerm} one in 5000, {@code twoTerms} a rare and a common term,
+ * {@code commonTermOnDate} one in 20 restricted to a single day, and {@code commonTerm} one in 20 ranked in full,
+ * the worst case. Rare words and venues are generated from random syllables, so their trigrams spread the way
+ * real names do. The {@code fuzzy*} benchmarks search the name and location trigrams with a misspelt name, a
+ * misspelt venue, and a short misspelling of a common word.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark test -Dbenchmark=EventSearchIndexBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class EventSearchIndexBenchmark {
+
+    private static final int PAGE = 51;
+    private static final int RARE_WORDS = 5000;
+    private static final String[] COMMON_WORDS = {"concert", "festival", "workshop", "conference", "meetup",
+            "exhibition", "tournament", "seminar", "party", "screening", "tasting", "lecture", "market", "race",
+            "show", "gala", "fair", "class", "hackathon", "retreat"};
+    private static final String[] SYLLABLES = {"ka", "lo", "mi", "ren", "to", "sa", "vel", "du", "ni", "bor",
+            "ga", "tre", "po", "lin", "fa", "che", "mar", "so", "ki", "ber"};
+    private static final String[] VENUE_KINDS = {"Hall", "Arena", "Park", "Theatre", "Club", "Stadium",
+            "Gallery", "Centre"};
+    private static final LocalDateTime FIRST_START = LocalDateTime.of(2030, 1, 1, 9, 0);
+
+    @Param({"1000000"})
+    public int events;
+
+    private EventSearchIndex searchIndex;
+    private LocalDate day;
+    private String[] rareWords;
+    private String[] venues;
+
+    @Setup(Level.Trial)
+    public void buildIndex() {
+        searchIndex = new EventSearchIndex(null, null, null, true, 0.3f);
+        User organizer = User.builder().id(1L).build();
+        Random random = new Random(42);
+        rareWords = new String[RARE_WORDS];
+        for (int i = 0; i < RARE_WORDS; i++) {
+            rareWords[i] = pseudoWord(random, 3);
+        }
+        venues = new String[1000];
+        for (int i = 0; i < venues.length; i++) {
+            venues[i] = pseudoWord(random, 2) + " " + VENUE_KINDS[random.nextInt(VENUE_KINDS.length)];
+        }
+        for (long id = 1; id <= events; id++) {
+            String common = COMMON_WORDS[random.nextInt(COMMON_WORDS.length)];
+            searchIndex.onEventChanged(Event.builder()
+                    .id(id)
+                    .name(rareWords[random.nextInt(RARE_WORDS)] + " " + common)
+                    .description("An evening of " + COMMON_WORDS[random.nextInt(COMMON_WORDS.length)]
+                            + " and " + rareWords[random.nextInt(RARE_WORDS)] + " for everyone who likes "
+                            + COMMON_WORDS[random.nextInt(COMMON_WORDS.length)])
+                    .location(venues[random.nextInt(venues.length)])
+                    .category("Category" + random.nextInt(10))
+                    .startTime(FIRST_START.plusMinutes(id % (2 * 365 * 24 * 60)))
+                    .published(true)
+                    .organizer(organizer)
+                    .build());
+        }
+        day = FIRST_START.plusDays(100).toLocalDate();
+    }
+
+    @Benchmark
+    public List<EventSearchIndex.Hit> rareTerm() {
+        return searchIndex.search(rareWords[1234], null, null, null, PAGE);
+    }
+
+    @Benchmark
+    public List<EventSearchIndex.Hit> twoTerms() {
+        return searchIndex.search(rareWords[1234] + " concerts", null, null, null, PAGE);
+    }
+
+    @Benchmark
+    public List<EventSearchIndex.Hit> commonTermOnDate() {
+        return searchIndex.search("festival", null, day, null, PAGE);
+    }
+
+    @Benchmark
+    public List<EventSearchIndex.Hit> commonTerm() {
+        return searchIndex.search("festival", null, null, null, PAGE);
+    }
+
+    @Benchmark
+    public List<EventSearchIndex.Hit> fuzzyName() {
+        return searchIndex.fuzzySearch(typo(rareWords[1234]) + " concrt", null, null, null, PAGE);
+    }
+
+    @Benchmark
+    public List<EventSearchIndex.Hit> fuzzyVenue() {
+        return searchIndex.fuzzySearch(typo(venues[123]), null, null, null, PAGE);
+    }
+
+    @Benchmark
+    public List<EventSearchIndex.Hit> fuzzyCommonWord() {
+        return searchIndex.fuzzySearch("festivl", null, null, null, PAGE);
+    }
+
+    // Helper methods
+    private static String pseudoWord(Random random, int maxSyllables) {
+        StringBuilder word = new StringBuilder();
+        for (int i = random.nextInt(maxSyllables) + 2; i > 0; i--) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+
+    // Drops the second letter, as in "Wembly" for "Wembley"
+    private static String typo(String text) {
+        return text.charAt(0) + text.substring(2);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.eventmanagementsystem.benchmark;
+
+import com.example.eventmanagementsystem.security.JwtTokenProvider;
+import com.example.eventmanagementsystem.security.ParsedToken;
+import com.example.eventmanagementsystem.security.UserPrincipal;
+import com.example.eventmanagementsystem.security.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request CPU cost of verifying an access token.
+ * <p>
+ * {@code legacyThreeParses} reproduces the old request path: getUsernameFromToken followed by validateToken,
+ * each parse building a new HMAC key and JwtParser. {@code parseOnce} verifies once with the shared parser,
+ * and {@code parseOnceCached} is a repeat caller served from the verified-token cache.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark test -Dbenchmark=JwtVerificationBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "a10541558b8038ed4adcf16d0e6b3c34a703ace7bcfcc29f96a0484ea02eb400";
+
+    private JwtTokenProvider tokenProvider;
+    private JwtTokenProvider cachingTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider(SECRET, 3600000, new VerifiedTokenCache(false, 0));
+        cachingTokenProvider = new JwtTokenProvider(SECRET, 3600000, new VerifiedTokenCache(true, 10000));
+
+        UserPrincipal principal = new UserPrincipal(1L, "user", null, 0,
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        token = tokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @Benchmark
+    public boolean legacyThreeParses() {
+        String username = legacyClaims().getSubject();
+        boolean sameUser = legacyClaims().getSubject().equals(username);
+        return sameUser && !legacyClaims().getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public ParsedToken parseOnce() {
+        return tokenProvider.parseToken(token);
+    }
+
+    @Benchmark
+    public ParsedToken parseOnceCached() {
+        return cachingTokenProvider.parseToken(token);
+    }
+
+    private Claims legacyClaims() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.eventmanagementsystem.benchmark;
+
+import com.example.eventmanagementsystem.security.CompiledPolicy;
+import com.example.eventmanagementsystem.security.OwnershipIndex;
+import com.example.eventmanagementsystem.security.Policy;
+import com.example.eventmanagementsystem.security.PolicyEngine;
+import com.example.eventmanagementsystem.security.UserPrincipal;
+import com.example.eventmanagementsystem.security.UserSecurity;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.expression.BeanResolver;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.security.access.expression.SecurityExpressionRoot;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of authorizing {@code GET /api/users/{id}} for its owner.
+ * <p>
+ * {@code spelExpression} evaluates the former {@code @PreAuthorize} string the way method security did:
+ * a fresh evaluation context per call, a bean lookup for {@code @userSecurity} and reflective method calls.
+ * {@code compiledPolicy} runs the {@link PolicyEngine} rule for the same policy, including path-variable
+ * parsing and the decision counters. Ownership is resolved from the principal's id in both cases.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark test -Dbenchmark=PolicyEvaluationBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PolicyEvaluationBenchmark {
+
+    private static final String EXPRESSION = "hasRole('ADMIN') or @userSecurity.isSameUser(#id, principal)";
+
+    private Authentication authentication;
+    private UserPrincipal principal;
+    private BeanResolver beanResolver;
+    private Expression expression;
+    private CompiledPolicy compiledPolicy;
+    private Map<String, String> pathVariables;
+
+    @Setup
+    public void setUp() {
+        principal = UserPrincipal.fromClaims(1L, "user", 0, List.of("ROLE_USER"));
+        authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+
+        UserSecurity userSecurity = new UserSecurity(new OwnershipIndex(null, null, null, 1000));
+        beanResolver = (context, beanName) -> userSecurity;
+        expression = new SpelExpressionParser().parseExpression(EXPRESSION);
+
+        PolicyEngine policyEngine = new PolicyEngine(null, userSecurity, null, null, null);
+        compiledPolicy = new CompiledPolicy("UserController.getUserById", Policy.SAME_USER_OR_ADMIN, "id",
+                policyEngine.compile(Policy.SAME_USER_OR_ADMIN));
+        pathVariables = Map.of("id", "1");
+    }
+
+    @Benchmark
+    public Boolean spelExpression() {
+        StandardEvaluationContext context = new StandardEvaluationContext(
+                new SecurityExpressionRoot(authentication) {
+                });
+        context.setBeanResolver(beanResolver);
+        context.setVariable("id", 1L);
+        return expression.getValue(context, Boolean.class);
+    }
+
+    @Benchmark
+    public boolean compiledPolicy() {
+        return compiledPolicy.check(principal, pathVariables);
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.eventmanagementsystem.benchmark;
+
+import com.example.eventmanagementsystem.service.StripedSeatCounter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Throughput of taking (and giving back) one seat of a single hot event, on one thread and on every core.
+ * <p>
+ * {@code rowLock} stands in for the conditional UPDATE: every reservation serializes on one lock, as they do
+ * on the event's row. {@code singleCounter} is an in-memory counter with one CAS target, and
+ * {@code stripedCounter} is the {@link StripedSeatCounter} used in high-demand mode. Each operation releases
+ * the seat again so the event never sells out mid-measurement. Compare the {@code OneThread} and
+ * {@code AllCores} results: only the striped counter should gain with more cores.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark test -Dbenchmark=SeatReservationBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SeatReservationBenchmark {
+
+    private static final int SEATS = 1_000_000;
+
+    private final Object row = new Object();
+    private int rowSeats;
+    private AtomicInteger singleCounter;
+    private StripedSeatCounter stripedCounter;
+
+    @Setup
+    public void setUp() {
+        rowSeats = SEATS;
+        singleCounter = new AtomicInteger(SEATS);
+        stripedCounter = new StripedSeatCounter(SEATS, Runtime.getRuntime().availableProcessors());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean rowLockOneThread() {
+        return rowLock();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public boolean rowLockAllCores() {
+        return rowLock();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean singleCounterOneThread() {
+        return singleCounter();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public boolean singleCounterAllCores() {
+        return singleCounter();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean stripedCounterOneThread() {
+        return stripedCounter();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public boolean stripedCounterAllCores() {
+        return stripedCounter();
+    }
+
+    private boolean rowLock() {
+        synchronized (row) {
+            if (rowSeats == 0) {
+                return false;
+            }
+            rowSeats--;
+        }
+        synchronized (row) {
+            rowSeats++;
+        }
+        return true;
+    }
+
+    private boolean singleCounter() {
+        int seats = singleCounter.get();
+        while (seats > 0) {
+            if (singleCounter.compareAndSet(seats, seats - 1)) {
+                singleCounter.incrementAndGet();
+                return true;
+            }
+            seats = singleCounter.get();
+        }
+        return false;
+    }
+
+    private boolean stripedCounter() {
+        if (stripedCounter.tryAcquire()) {
+            stripedCounter.release();
+            return true;
+        }
+        return false;
+    }
+}
@@ -2,10 +2,19 @@ package com.example.eventmanagementsystem.controller;
 
 import com.example.eventmanagementsystem.config.TestSecurityConfig;
 import com.example.eventmanagementsystem.dto.LoginRequest;
+import com.example.eventmanagementsystem.dto.RefreshTokenRequest;
 import com.example.eventmanagementsystem.dto.UserDTO;
+import com.example.eventmanagementsystem.exception.ApiException;
 import com.example.eventmanagementsystem.model.User;
 import com.example.eventmanagementsystem.repository.UserRepository;
+import com.example.eventmanagementsystem.security.CustomUserDetailsService;
 import com.example.eventmanagementsystem.security.JwtTokenProvider;
+import com.example.eventmanagementsystem.security.ParsedToken;
+import com.example.eventmanagementsystem.security.PolicyEngine;
+import com.example.eventmanagementsystem.security.TokenRevocationService;
+import com.example.eventmanagementsystem.security.TokenVersionRegistry;
+import com.example.eventmanagementsystem.service.IdempotencyStore;
+import com.example.eventmanagementsystem.service.RefreshTokenService;
 import com.example.eventmanagementsystem.service.UserService;
 import com.example.eventmanagementsystem.util.TestUtils;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -15,6 +24,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -22,10 +32,14 @@ import org.springframework.security.core.Authentication;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -56,6 +70,24 @@ public class AuthControllerTest {
     @MockBean
     private UserService userService;
 
+    @MockBean
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @MockBean
+    private PolicyEngine policyEngine;
+
+    @MockBean
+    private RefreshTokenService refreshTokenService;
+
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+
+    @MockBean
+    private IdempotencyStore idempotencyStore;
+
+    @MockBean
+    private CustomUserDetailsService userDetailsService;
+
     private LoginRequest loginRequest;
     private User user;
     private UserDTO userDTO;
@@ -79,6 +111,7 @@ public class AuthControllerTest {
         when(authenticationManager.authenticate(any(Authentication.class))).thenReturn(authentication);
         when(tokenProvider.generateToken(any(Authentication.class))).thenReturn("test-jwt-token");
         when(userRepository.findByUsername(anyString())).thenReturn(Optional.of(user));
+        when(refreshTokenService.issue(user)).thenReturn("test-refresh-token");
 
         // When & Then
         mockMvc.perform(post("/api/auth/login")
@@ -88,6 +121,7 @@ public class AuthControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.accessToken").value("test-jwt-token"))
                 .andExpect(jsonPath("$.tokenType").value("Bearer"))
+                .andExpect(jsonPath("$.refreshToken").value("test-refresh-token"))
                 .andExpect(jsonPath("$.userId").value(user.getId()))
                 .andExpect(jsonPath("$.username").value(user.getUsername()))
                 .andExpect(jsonPath("$.email").value(user.getEmail()));
@@ -109,4 +143,76 @@ public class AuthControllerTest {
                 .andExpect(jsonPath("$.email").value(userDTO.getEmail()))
                 .andExpect(jsonPath("$.fullName").value(userDTO.getFullName()));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void whenRefresh_withValidRefreshToken_thenReturnNewTokensWithoutAuthenticating() throws Exception {
+        // Given
+        RefreshTokenRequest request = new RefreshTokenRequest("old-refresh-token");
+        when(refreshTokenService.rotate("old-refresh-token"))
+                .thenReturn(new RefreshTokenService.Rotation(user, "new-refresh-token"));
+        when(tokenProvider.generateToken(any(Authentication.class))).thenReturn("new-jwt-token");
+
+        // When & Then
+        mockMvc.perform(post("/api/auth/refresh")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accessToken").value("new-jwt-token"))
+                .andExpect(jsonPath("$.refreshToken").value("new-refresh-token"))
+                .andExpect(jsonPath("$.userId").value(user.getId()))
+                .andExpect(jsonPath("$.username").value(user.getUsername()));
+
+        verify(authenticationManager, never()).authenticate(any(Authentication.class));
+    }
+
+    @Test
+    public void whenRefresh_withRevokedRefreshToken_thenReturnUnauthorized() throws Exception {
+        // Given
+        RefreshTokenRequest request = new RefreshTokenRequest("revoked-refresh-token");
+        when(refreshTokenService.rotate("revoked-refresh-token"))
+                .thenThrow(new ApiException(HttpStatus.UNAUTHORIZED, "Invalid or expired refresh token"));
+
+        // When & Then
+        mockMvc.perform(post("/api/auth/refresh")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void whenLogout_thenRevokeRefreshToken() throws Exception {
+        // Given
+        RefreshTokenRequest request = new RefreshTokenRequest("refresh-token");
+
+        // When & Then
+        mockMvc.perform(post("/api/auth/logout")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isNoContent());
+
+        verify(refreshTokenService).revoke("refresh-token");
+    }
+
+    @Test
+    public void whenLogoutWithAccessToken_thenRevokeAccessToken() throws Exception {
+        // Given
+        RefreshTokenRequest request = new RefreshTokenRequest("refresh-token");
+        ParsedToken accessToken = new ParsedToken("token-id", "testuser", 1L, 0, List.of("ROLE_USER"),
+                Instant.now(), Instant.now().plusSeconds(3600));
+        when(tokenProvider.parseToken("access-token")).thenReturn(accessToken);
+
+        // When & Then
+        mockMvc.perform(post("/api/auth/logout")
+                        .with(csrf())
+                        .header("Authorization", "Bearer access-token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isNoContent());
+
+        verify(refreshTokenService).revoke("refresh-token");
+        verify(tokenRevocationService).revoke(accessToken);
+    }
+}
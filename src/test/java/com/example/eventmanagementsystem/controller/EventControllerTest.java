@@ -1,5 +1,6 @@
 package com.example.eventmanagementsystem.controller;
 
+import com.example.eventmanagementsystem.dto.CursorPage;
 import com.example.eventmanagementsystem.dto.EventDTO;
 import com.example.eventmanagementsystem.security.EventSecurity;
 import com.example.eventmanagementsystem.service.EventService;
@@ -20,11 +21,13 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.UUID;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -66,7 +69,8 @@ public class EventControllerTest {
                 .name("Another Event")
                 .build();
 
-        when(eventService.findAllEvents()).thenReturn(Arrays.asList(testEventDTO, anotherEventDTO));
+        when(eventService.findAllEvents(null, 50)).thenReturn(
+                new CursorPage<>(Arrays.asList(testEventDTO, anotherEventDTO), null));
 
         // When & Then
         mockMvc.perform(get("/api/events"))
@@ -77,14 +81,15 @@ public class EventControllerTest {
                 .andExpect(jsonPath("$[1].id").value(anotherEventDTO.getId()))
                 .andExpect(jsonPath("$[1].name").value(anotherEventDTO.getName()));
 
-        verify(eventService, times(1)).findAllEvents();
+        verify(eventService, times(1)).findAllEvents(null, 50);
     }
 
     @Test
     @WithMockUser
     public void whenGetAllEvents_withPublishedOnlyParam_thenReturnPublishedEvents() throws Exception {
         // Given
-        when(eventService.findAllPublishedEvents()).thenReturn(Collections.singletonList(testEventDTO));
+        when(eventService.findAllPublishedEvents(null, 50))
+                .thenReturn(new CursorPage<>(Collections.singletonList(testEventDTO), null));
 
         // When & Then
         mockMvc.perform(get("/api/events")
@@ -94,7 +99,62 @@ public class EventControllerTest {
                 .andExpect(jsonPath("$[0].id").value(testEventDTO.getId()))
                 .andExpect(jsonPath("$[0].name").value(testEventDTO.getName()));
 
-        verify(eventService, times(1)).findAllPublishedEvents();
+        verify(eventService, times(1)).findAllPublishedEvents(null, 50);
+    }
+
+    @Test
+    @WithMockUser
+    public void whenGetAllEvents_withMorePages_thenReturnNextCursorHeaders() throws Exception {
+        // Given
+        when(eventService.findAllEvents(null, 1))
+                .thenReturn(new CursorPage<>(Collections.singletonList(testEventDTO), "next-page"));
+
+        // When & Then
+        mockMvc.perform(get("/api/events?limit=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(header().string("X-Next-Cursor", "next-page"))
+                .andExpect(header().string("Link", "<http://localhost/api/events?limit=1&cursor=next-page>; rel=\"next\""));
+    }
+
+    @Test
+    @WithMockUser
+    public void whenGetAllEvents_withLastPage_thenOmitNextCursorHeaders() throws Exception {
+        // Given
+        when(eventService.findAllEvents("next-page", 50))
+                .thenReturn(new CursorPage<>(Collections.singletonList(testEventDTO), null));
+
+        // When & Then
+        mockMvc.perform(get("/api/events")
+                        .param("cursor", "next-page"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Next-Cursor"))
+                .andExpect(header().doesNotExist("Link"));
+    }
+
+    @Test
+    @WithMockUser
+    public void whenGetAllEvents_withLimitAboveMaximum_thenCapIt() throws Exception {
+        // Given
+        when(eventService.findAllEvents(null, 500)).thenReturn(new CursorPage<>(Collections.emptyList(), null));
+
+        // When & Then
+        mockMvc.perform(get("/api/events")
+                        .param("limit", "100000"))
+                .andExpect(status().isOk());
+
+        verify(eventService, times(1)).findAllEvents(null, 500);
+    }
+
+    @Test
+    @WithMockUser
+    public void whenGetAllEvents_withNonPositiveLimit_thenReturnBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/events")
+                        .param("limit", "0"))
+                .andExpect(status().isBadRequest());
+
+        verify(eventService, never()).findAllEvents(any(), anyInt());
     }
 
     @Test
@@ -129,17 +189,44 @@ public class EventControllerTest {
         verify(eventService, times(1)).createEvent(any(EventDTO.class));
     }
 
-//    @Test
-//    @WithMockUser(roles = {"USER"})
-//    public void whenCreateEvent_withInsufficientRoles_thenReturn403() throws Exception {
-//        // When & Then
-//        mockMvc.perform(post("/api/events")
-//                        .contentType(MediaType.APPLICATION_JSON)
-//                        .content(objectMapper.writeValueAsString(testEventDTO)))
-//                .andExpect(status().isForbidden());
-//
-//        verify(eventService, never()).createEvent(any(EventDTO.class));
-//    }
+    @Test
+    @WithMockUser(roles = {"ORGANIZER"})
+    public void whenCreateEvent_retriedWithIdempotencyKey_thenReplayWithoutCreatingAgain() throws Exception {
+        // Given
+        when(eventService.createEvent(any(EventDTO.class))).thenReturn(testEventDTO);
+        String key = UUID.randomUUID().toString();
+
+        // When & Then
+        mockMvc.perform(post("/api/events")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(testEventDTO)))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"));
+
+        mockMvc.perform(post("/api/events")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(testEventDTO)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.id").value(testEventDTO.getId()))
+                .andExpect(jsonPath("$.name").value(testEventDTO.getName()));
+
+        verify(eventService, times(1)).createEvent(any(EventDTO.class));
+    }
+
+    @Test
+    @WithMockUser(roles = {"USER"})
+    public void whenCreateEvent_withInsufficientRoles_thenReturn403() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(testEventDTO)))
+                .andExpect(status().isForbidden());
+
+        verify(eventService, never()).createEvent(any(EventDTO.class));
+    }
 
     @Test
     @WithMockUser
@@ -175,8 +262,8 @@ public class EventControllerTest {
     @WithMockUser
     public void whenSearchEvents_thenReturnMatchingEvents() throws Exception {
         // Given
-        when(eventService.searchEvents(anyString(), anyString(), any(LocalDate.class)))
-                .thenReturn(Collections.singletonList(testEventDTO));
+        when(eventService.searchEvents(anyString(), anyString(), any(LocalDate.class), eq(false), isNull(), anyInt()))
+                .thenReturn(new CursorPage<>(Collections.singletonList(testEventDTO), null));
 
         LocalDate testDate = LocalDate.now().plusDays(7);
         String dateStr = testDate.format(DateTimeFormatter.ISO_DATE);
@@ -191,15 +278,32 @@ public class EventControllerTest {
                 .andExpect(jsonPath("$[0].id").value(testEventDTO.getId()))
                 .andExpect(jsonPath("$[0].name").value(testEventDTO.getName()));
 
-        verify(eventService, times(1)).searchEvents(eq("test"), eq("Test Category"), eq(testDate));
+        verify(eventService, times(1)).searchEvents(eq("test"), eq("Test Category"), eq(testDate), eq(false), isNull(), eq(50));
+    }
+
+    @Test
+    @WithMockUser
+    public void whenSearchEvents_withFuzzy_thenPassFuzzyModeToService() throws Exception {
+        // Given
+        when(eventService.searchEvents(eq("metalica"), isNull(), isNull(), eq(true), isNull(), anyInt()))
+                .thenReturn(new CursorPage<>(Collections.singletonList(testEventDTO), null));
+
+        // When & Then
+        mockMvc.perform(get("/api/events/search")
+                        .param("keyword", "metalica")
+                        .param("fuzzy", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+
+        verify(eventService, times(1)).searchEvents("metalica", null, null, true, null, 50);
     }
 
     @Test
     @WithMockUser
     public void whenGetEventsByOrganizer_thenReturnOrganizerEvents() throws Exception {
         // Given
-        when(eventService.findEventsByOrganizer(anyLong()))
-                .thenReturn(Collections.singletonList(testEventDTO));
+        when(eventService.findEventsByOrganizer(anyLong(), isNull(), anyInt()))
+                .thenReturn(new CursorPage<>(Collections.singletonList(testEventDTO), null));
 
         // When & Then
         mockMvc.perform(get("/api/events/organizer/{organizerId}", 3L))
@@ -208,7 +312,7 @@ public class EventControllerTest {
                 .andExpect(jsonPath("$[0].id").value(testEventDTO.getId()))
                 .andExpect(jsonPath("$[0].name").value(testEventDTO.getName()));
 
-        verify(eventService, times(1)).findEventsByOrganizer(3L);
+        verify(eventService, times(1)).findEventsByOrganizer(3L, null, 50);
     }
 
     @Test
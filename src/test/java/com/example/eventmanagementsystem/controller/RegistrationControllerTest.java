@@ -1,12 +1,19 @@
 package com.example.eventmanagementsystem.controller;
 
+import com.example.eventmanagementsystem.dto.BulkRegistrationRequest;
+import com.example.eventmanagementsystem.dto.BulkRegistrationResultDTO;
+import com.example.eventmanagementsystem.dto.CursorPage;
+import com.example.eventmanagementsystem.dto.QueueTicketDTO;
 import com.example.eventmanagementsystem.dto.RegistrationDTO;
+import com.example.eventmanagementsystem.dto.RegistrationRequestDTO;
 import com.example.eventmanagementsystem.exception.ApiException;
 import com.example.eventmanagementsystem.exception.ResourceNotFoundException;
 import com.example.eventmanagementsystem.security.EventSecurity;
 import com.example.eventmanagementsystem.security.RegistrationSecurity;
 import com.example.eventmanagementsystem.security.UserSecurity;
+import com.example.eventmanagementsystem.service.RegistrationPipeline;
 import com.example.eventmanagementsystem.service.RegistrationService;
+import com.example.eventmanagementsystem.service.WaitingRoom;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,22 +24,33 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
 
 import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -59,6 +77,12 @@ public class RegistrationControllerTest {
     @MockBean
     private RegistrationSecurity registrationSecurity;
 
+    @MockBean
+    private WaitingRoom waitingRoom;
+
+    @MockBean
+    private RegistrationPipeline registrationPipeline;
+
     private RegistrationDTO registration1;
     private RegistrationDTO registration2;
     private RegistrationDTO registration3;
@@ -124,7 +148,7 @@ public class RegistrationControllerTest {
         @DisplayName("Admin should be able to get all registrations")
         void adminShouldBeAbleToGetAllRegistrations() throws Exception {
             // Given
-            given(registrationService.findAllRegistrations()).willReturn(allRegistrations);
+            given(registrationService.findAllRegistrations(null, 50)).willReturn(new CursorPage<>(allRegistrations, null));
 
             // When & Then
             mockMvc.perform(get("/api/registrations"))
@@ -137,20 +161,81 @@ public class RegistrationControllerTest {
                     .andExpect(jsonPath("$[1].id").value(2L))
                     .andExpect(jsonPath("$[2].id").value(3L));
 
-            verify(registrationService).findAllRegistrations();
+            verify(registrationService).findAllRegistrations(null, 50);
+        }
+
+        @Test
+        @WithMockUser(roles = {"USER"})
+        @DisplayName("Regular user should not be able to get all registrations")
+        void regularUserShouldNotBeAbleToGetAllRegistrations() throws Exception {
+            // When & Then
+            mockMvc.perform(get("/api/registrations"))
+                    .andDo(print())
+                    .andExpect(status().isForbidden());
+
+            verify(registrationService, never()).findAllRegistrations(any(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/registrations/export Tests")
+    class ExportRegistrationsTests {
+
+        @BeforeEach
+        void setUp() {
+            willAnswer(invocation -> {
+                Consumer<RegistrationDTO> sink = invocation.getArgument(0);
+                allRegistrations.forEach(sink);
+                return null;
+            }).given(registrationService).exportRegistrations(any());
+        }
+
+        @Test
+        @WithMockUser(roles = {"ADMIN"})
+        @DisplayName("Admin should receive every registration as a streamed JSON array")
+        void adminShouldReceiveJsonArray() throws Exception {
+            // When
+            MvcResult result = mockMvc.perform(get("/api/registrations/export"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // Then
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$", hasSize(3)))
+                    .andExpect(jsonPath("$[2].username").value("user2"));
         }
 
-//        @Test
-//        @WithMockUser(roles = {"USER"})
-//        @DisplayName("Regular user should not be able to get all registrations")
-//        void regularUserShouldNotBeAbleToGetAllRegistrations() throws Exception {
-//            // When & Then
-//            mockMvc.perform(get("/api/registrations"))
-//                    .andDo(print())
-//                    .andExpect(status().isForbidden());
-//
-//            verify(registrationService, never()).findAllRegistrations();
-//        }
+        @Test
+        @WithMockUser(roles = {"ADMIN"})
+        @DisplayName("Admin should receive one registration per line when asking for NDJSON")
+        void adminShouldReceiveNdjson() throws Exception {
+            // When
+            MvcResult result = mockMvc.perform(get("/api/registrations/export").accept(MediaType.APPLICATION_NDJSON))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            String body = mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                    .andReturn().getResponse().getContentAsString();
+
+            // Then
+            String[] lines = body.split("\n");
+            assertEquals(3, lines.length);
+            assertEquals(2L, objectMapper.readValue(lines[1], RegistrationDTO.class).getId());
+        }
+
+        @Test
+        @WithMockUser(roles = {"USER"})
+        @DisplayName("Regular user should not be able to export registrations")
+        void regularUserShouldNotBeAbleToExport() throws Exception {
+            // When & Then
+            mockMvc.perform(get("/api/registrations/export"))
+                    .andExpect(status().isForbidden());
+
+            verify(registrationService, never()).exportRegistrations(any());
+        }
     }
 
     @Nested
@@ -213,21 +298,21 @@ public class RegistrationControllerTest {
             verify(registrationService).findRegistrationById(1L);
         }
 
-//        @Test
-//        @WithMockUser(username = "other_user")
-//        @DisplayName("Other users should not be able to get registration")
-//        void otherUsersShouldNotBeAbleToGetRegistration() throws Exception {
-//            // Given
-//            given(registrationSecurity.isUserOrEventOrganizer(1L, null)).willReturn(false);
-//
-//            // When & Then
-//            mockMvc.perform(get("/api/registrations/{id}", 1L))
-//                    .andDo(print())
-//                    .andExpect(status().isForbidden());
-//
-//            verify(registrationSecurity).isUserOrEventOrganizer(eq(1L), any());
-//            verify(registrationService, never()).findRegistrationById(anyLong());
-//        }
+        @Test
+        @WithMockUser(username = "other_user")
+        @DisplayName("Other users should not be able to get registration")
+        void otherUsersShouldNotBeAbleToGetRegistration() throws Exception {
+            // Given
+            given(registrationSecurity.isUserOrEventOrganizer(eq(1L), any())).willReturn(false);
+
+            // When & Then
+            mockMvc.perform(get("/api/registrations/{id}", 1L))
+                    .andDo(print())
+                    .andExpect(status().isForbidden());
+
+            verify(registrationSecurity).isUserOrEventOrganizer(eq(1L), any());
+            verify(registrationService, never()).findRegistrationById(anyLong());
+        }
 
         @Test
         @WithMockUser(roles = {"ADMIN"})
@@ -255,7 +340,7 @@ public class RegistrationControllerTest {
         @DisplayName("Admin should be able to get registrations by user ID")
         void adminShouldBeAbleToGetRegistrationsByUserId() throws Exception {
             // Given
-            given(registrationService.findRegistrationsByUser(1L)).willReturn(user1Registrations);
+            given(registrationService.findRegistrationsByUser(1L, null, 50)).willReturn(new CursorPage<>(user1Registrations, null));
 
             // When & Then
             mockMvc.perform(get("/api/registrations/user/{userId}", 1L))
@@ -267,7 +352,7 @@ public class RegistrationControllerTest {
                     .andExpect(jsonPath("$[1].id").value(2L))
                     .andExpect(jsonPath("$[1].username").value("user1"));
 
-            verify(registrationService).findRegistrationsByUser(1L);
+            verify(registrationService).findRegistrationsByUser(1L, null, 50);
         }
 
         @Test
@@ -276,7 +361,7 @@ public class RegistrationControllerTest {
         void userShouldBeAbleToGetTheirOwnRegistrations() throws Exception {
             // Given
             given(userSecurity.isSameUser(eq(1L), any())).willReturn(true);
-            given(registrationService.findRegistrationsByUser(1L)).willReturn(user1Registrations);
+            given(registrationService.findRegistrationsByUser(1L, null, 50)).willReturn(new CursorPage<>(user1Registrations, null));
 
             // When & Then
             mockMvc.perform(get("/api/registrations/user/{userId}", 1L))
@@ -287,24 +372,24 @@ public class RegistrationControllerTest {
                     .andExpect(jsonPath("$[1].username").value("user1"));
 
             verify(userSecurity).isSameUser(eq(1L), any());
-            verify(registrationService).findRegistrationsByUser(1L);
-        }
-
-//        @Test
-//        @WithMockUser(username = "other_user")
-//        @DisplayName("Other users should not be able to get user's registrations")
-//        void otherUsersShouldNotBeAbleToGetUsersRegistrations() throws Exception {
-//            // Given
-//            given(userSecurity.isSameUser(eq(1L), any())).willReturn(false);
-//
-//            // When & Then
-//            mockMvc.perform(get("/api/registrations/user/{userId}", 1L))
-//                    .andDo(print())
-//                    .andExpect(status().isForbidden());
-//
-//            verify(userSecurity).isSameUser(eq(1L), any());
-//            verify(registrationService, never()).findRegistrationsByUser(anyLong());
-//        }
+            verify(registrationService).findRegistrationsByUser(1L, null, 50);
+        }
+
+        @Test
+        @WithMockUser(username = "other_user")
+        @DisplayName("Other users should not be able to get user's registrations")
+        void otherUsersShouldNotBeAbleToGetUsersRegistrations() throws Exception {
+            // Given
+            given(userSecurity.isSameUser(eq(1L), any())).willReturn(false);
+
+            // When & Then
+            mockMvc.perform(get("/api/registrations/user/{userId}", 1L))
+                    .andDo(print())
+                    .andExpect(status().isForbidden());
+
+            verify(userSecurity).isSameUser(eq(1L), any());
+            verify(registrationService, never()).findRegistrationsByUser(anyLong(), any(), anyInt());
+        }
     }
 
     @Nested
@@ -316,7 +401,7 @@ public class RegistrationControllerTest {
         @DisplayName("Admin should be able to get registrations by event ID")
         void adminShouldBeAbleToGetRegistrationsByEventId() throws Exception {
             // Given
-            given(registrationService.findRegistrationsByEvent(1L)).willReturn(event1Registrations);
+            given(registrationService.findRegistrationsByEvent(1L, null, 50)).willReturn(new CursorPage<>(event1Registrations, null));
 
             // When & Then
             mockMvc.perform(get("/api/registrations/event/{eventId}", 1L))
@@ -328,7 +413,7 @@ public class RegistrationControllerTest {
                     .andExpect(jsonPath("$[1].id").value(3L))
                     .andExpect(jsonPath("$[1].eventName").value("Tech Conference"));
 
-            verify(registrationService).findRegistrationsByEvent(1L);
+            verify(registrationService).findRegistrationsByEvent(1L, null, 50);
         }
 
         @Test
@@ -337,7 +422,7 @@ public class RegistrationControllerTest {
         void eventOrganizerShouldBeAbleToGetRegistrationsForTheirEvent() throws Exception {
             // Given
             given(eventSecurity.isOrganizerOrAdmin(eq(1L), any())).willReturn(true);
-            given(registrationService.findRegistrationsByEvent(1L)).willReturn(event1Registrations);
+            given(registrationService.findRegistrationsByEvent(1L, null, 50)).willReturn(new CursorPage<>(event1Registrations, null));
 
             // When & Then
             mockMvc.perform(get("/api/registrations/event/{eventId}", 1L))
@@ -348,24 +433,24 @@ public class RegistrationControllerTest {
                     .andExpect(jsonPath("$[1].eventName").value("Tech Conference"));
 
             verify(eventSecurity).isOrganizerOrAdmin(eq(1L), any());
-            verify(registrationService).findRegistrationsByEvent(1L);
-        }
-
-//        @Test
-//        @WithMockUser(username = "other_user")
-//        @DisplayName("Other users should not be able to get event registrations")
-//        void otherUsersShouldNotBeAbleToGetEventRegistrations() throws Exception {
-//            // Given
-//            given(eventSecurity.isOrganizerOrAdmin(eq(1L), any())).willReturn(false);
-//
-//            // When & Then
-//            mockMvc.perform(get("/api/registrations/event/{eventId}", 1L))
-//                    .andDo(print())
-//                    .andExpect(status().isForbidden());
-//
-//            verify(eventSecurity).isOrganizerOrAdmin(eq(1L), any());
-//            verify(registrationService, never()).findRegistrationsByEvent(anyLong());
-//        }
+            verify(registrationService).findRegistrationsByEvent(1L, null, 50);
+        }
+
+        @Test
+        @WithMockUser(username = "other_user")
+        @DisplayName("Other users should not be able to get event registrations")
+        void otherUsersShouldNotBeAbleToGetEventRegistrations() throws Exception {
+            // Given
+            given(eventSecurity.isOrganizerOrAdmin(eq(1L), any())).willReturn(false);
+
+            // When & Then
+            mockMvc.perform(get("/api/registrations/event/{eventId}", 1L))
+                    .andDo(print())
+                    .andExpect(status().isForbidden());
+
+            verify(eventSecurity).isOrganizerOrAdmin(eq(1L), any());
+            verify(registrationService, never()).findRegistrationsByEvent(anyLong(), any(), anyInt());
+        }
     }
 
     @Nested
@@ -421,22 +506,22 @@ public class RegistrationControllerTest {
             verify(registrationService).registerForEvent(1L, 2L);
         }
 
-//        @Test
-//        @WithMockUser(username = "other_user")
-//        @DisplayName("Other users should not be able to register someone else")
-//        void otherUsersShouldNotBeAbleToRegisterSomeoneElse() throws Exception {
-//            // Given
-//            given(userSecurity.isSameUser(eq(1L), any())).willReturn(false);
-//
-//            // When & Then
-//            mockMvc.perform(post("/api/registrations/user/{userId}/event/{eventId}", 1L, 1L)
-//                            .with(csrf()))
-//                    .andDo(print())
-//                    .andExpect(status().isForbidden());
-//
-//            verify(userSecurity).isSameUser(eq(1L), any());
-//            verify(registrationService, never()).registerForEvent(anyLong(), anyLong());
-//        }
+        @Test
+        @WithMockUser(username = "other_user")
+        @DisplayName("Other users should not be able to register someone else")
+        void otherUsersShouldNotBeAbleToRegisterSomeoneElse() throws Exception {
+            // Given
+            given(userSecurity.isSameUser(eq(1L), any())).willReturn(false);
+
+            // When & Then
+            mockMvc.perform(post("/api/registrations/user/{userId}/event/{eventId}", 1L, 1L)
+                            .with(csrf()))
+                    .andDo(print())
+                    .andExpect(status().isForbidden());
+
+            verify(userSecurity).isSameUser(eq(1L), any());
+            verify(registrationService, never()).registerForEvent(anyLong(), anyLong());
+        }
 
         @Test
         @WithMockUser(username = "user1")
@@ -475,6 +560,310 @@ public class RegistrationControllerTest {
             verify(userSecurity).isSameUser(eq(1L), any());
             verify(registrationService).registerForEvent(1L, 1L);
         }
+
+        @Test
+        @WithMockUser(username = "user1")
+        @DisplayName("Should replay a retried registration instead of registering again")
+        void shouldReplayRetriedRegistration() throws Exception {
+            // Given
+            given(userSecurity.isSameUser(eq(1L), any())).willReturn(true);
+            given(registrationService.registerForEvent(1L, 1L)).willReturn(registration1);
+            String key = UUID.randomUUID().toString();
+
+            // When & Then
+            for (int attempt = 0; attempt < 3; attempt++) {
+                mockMvc.perform(post("/api/registrations/user/{userId}/event/{eventId}", 1L, 1L)
+                                .header("Idempotency-Key", key)
+                                .with(csrf()))
+                        .andExpect(status().isCreated())
+                        .andExpect(jsonPath("$.id").value(1L));
+            }
+
+            verify(registrationService, times(1)).registerForEvent(1L, 1L);
+        }
+
+        @Test
+        @WithMockUser(username = "user1")
+        @DisplayName("Should run a retry again when the first attempt failed")
+        void shouldRunRetryAfterFailure() throws Exception {
+            // Given
+            given(userSecurity.isSameUser(eq(1L), any())).willReturn(true);
+            given(registrationService.registerForEvent(1L, 3L))
+                    .willThrow(new ApiException(HttpStatus.BAD_REQUEST, "Cannot register for an unpublished event"))
+                    .willReturn(registration1);
+            String key = UUID.randomUUID().toString();
+
+            // When & Then
+            mockMvc.perform(post("/api/registrations/user/{userId}/event/{eventId}", 1L, 3L)
+                            .header("Idempotency-Key", key)
+                            .with(csrf()))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(post("/api/registrations/user/{userId}/event/{eventId}", 1L, 3L)
+                            .header("Idempotency-Key", key)
+                            .with(csrf()))
+                    .andExpect(status().isCreated())
+                    .andExpect(header().doesNotExist("Idempotent-Replayed"));
+
+            verify(registrationService, times(2)).registerForEvent(1L, 3L);
+        }
+
+        @Test
+        @WithMockUser(username = "user1")
+        @DisplayName("Should queue registrations for a high-demand event until admitted")
+        void shouldQueueRegistrationForHighDemandEvent() throws Exception {
+            // Given
+            given(userSecurity.isSameUser(eq(1L), any())).willReturn(true);
+            given(waitingRoom.isGated(1L)).willReturn(true);
+            given(waitingRoom.enter(1L, 1L)).willReturn(QueueTicketDTO.builder()
+                    .ticketId("ticket-1").userId(1L).eventId(1L)
+                    .status(WaitingRoom.WAITING).position(42).estimatedWaitSeconds(3)
+                    .build());
+
+            // When & Then
+            mockMvc.perform(post("/api/registrations/user/{userId}/event/{eventId}", 1L, 1L)
+                            .with(csrf()))
+                    .andDo(print())
+                    .andExpect(status().isAccepted())
+                    .andExpect(header().string("Retry-After", "3"))
+                    .andExpect(header().string("Location", "/api/registrations/queue/ticket-1"))
+                    .andExpect(jsonPath("$.status").value("WAITING"))
+                    .andExpect(jsonPath("$.position").value(42));
+
+            verify(registrationService, never()).registerForEvent(anyLong(), anyLong());
+        }
+
+        @Test
+        @WithMockUser(username = "user1")
+        @DisplayName("Should register an admitted ticket holder for a high-demand event")
+        @SuppressWarnings("unchecked")
+        void shouldRegisterAdmittedTicketHolder() throws Exception {
+            // Given
+            given(userSecurity.isSameUser(eq(1L), any())).willReturn(true);
+            given(waitingRoom.isGated(1L)).willReturn(true);
+            given(waitingRoom.enter(1L, 1L)).willReturn(QueueTicketDTO.builder()
+                    .ticketId("ticket-1").userId(1L).eventId(1L).status(WaitingRoom.ADMITTED)
+                    .build());
+            given(waitingRoom.registerAdmitted(eq("ticket-1"), any(Supplier.class)))
+                    .willAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+            given(registrationService.registerForEvent(1L, 1L)).willReturn(registration1);
+
+            // When & Then
+            mockMvc.perform(post("/api/registrations/user/{userId}/event/{eventId}", 1L, 1L)
+                            .with(csrf()))
+                    .andDo(print())
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.id").value(1L));
+
+            verify(waitingRoom).registerAdmitted(eq("ticket-1"), any(Supplier.class));
+        }
+
+        @Test
+        @WithMockUser(username = "user1")
+        @DisplayName("Should accept the registration for background processing when async mode is on")
+        void shouldAcceptRegistrationAsynchronously() throws Exception {
+            // Given
+            given(userSecurity.isSameUser(eq(1L), any())).willReturn(true);
+            given(registrationPipeline.isEnabled()).willReturn(true);
+            given(registrationPipeline.submit(1L, 1L)).willReturn(RegistrationRequestDTO.builder()
+                    .requestId("request-1").userId(1L).eventId(1L).status(RegistrationPipeline.PENDING)
+                    .build());
+
+            // When & Then
+            mockMvc.perform(post("/api/registrations/user/{userId}/event/{eventId}", 1L, 1L)
+                            .with(csrf()))
+                    .andDo(print())
+                    .andExpect(status().isAccepted())
+                    .andExpect(header().string("Location", "/api/registrations/requests/request-1"))
+                    .andExpect(jsonPath("$.requestId").value("request-1"))
+                    .andExpect(jsonPath("$.status").value("PENDING"));
+
+            verify(registrationService, never()).registerForEvent(anyLong(), anyLong());
+        }
+
+        @Test
+        @WithMockUser(username = "user1")
+        @DisplayName("Should replay an accepted asynchronous registration instead of queueing it again")
+        void shouldReplayAcceptedRegistration() throws Exception {
+            // Given
+            given(userSecurity.isSameUser(eq(1L), any())).willReturn(true);
+            given(registrationPipeline.isEnabled()).willReturn(true);
+            given(registrationPipeline.submit(1L, 1L)).willReturn(RegistrationRequestDTO.builder()
+                    .requestId("request-1").userId(1L).eventId(1L).status(RegistrationPipeline.PENDING)
+                    .build());
+            String key = UUID.randomUUID().toString();
+
+            // When & Then
+            for (int attempt = 0; attempt < 2; attempt++) {
+                mockMvc.perform(post("/api/registrations/user/{userId}/event/{eventId}", 1L, 1L)
+                                .header("Idempotency-Key", key)
+                                .with(csrf()))
+                        .andExpect(status().isAccepted())
+                        .andExpect(header().string("Location", "/api/registrations/requests/request-1"))
+                        .andExpect(jsonPath("$.requestId").value("request-1"));
+            }
+
+            verify(registrationPipeline, times(1)).submit(1L, 1L);
+        }
+
+        @Test
+        @WithMockUser(username = "user1")
+        @DisplayName("Should let a queued caller retry with the same key to try the waiting room again")
+        void shouldNotReplayWaitingRoomTicket() throws Exception {
+            // Given
+            given(userSecurity.isSameUser(eq(1L), any())).willReturn(true);
+            given(waitingRoom.isGated(1L)).willReturn(true);
+            given(waitingRoom.enter(1L, 1L)).willReturn(QueueTicketDTO.builder()
+                    .ticketId("ticket-1").userId(1L).eventId(1L)
+                    .status(WaitingRoom.WAITING).position(42).estimatedWaitSeconds(3)
+                    .build());
+            String key = UUID.randomUUID().toString();
+
+            // When & Then
+            for (int attempt = 0; attempt < 2; attempt++) {
+                mockMvc.perform(post("/api/registrations/user/{userId}/event/{eventId}", 1L, 1L)
+                                .header("Idempotency-Key", key)
+                                .with(csrf()))
+                        .andExpect(status().isAccepted())
+                        .andExpect(header().doesNotExist("Idempotent-Replayed"));
+            }
+
+            verify(waitingRoom, times(2)).enter(1L, 1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/registrations/event/{eventId}/bulk Tests")
+    class BulkRegisterForEventTests {
+
+        @Test
+        @WithMockUser(roles = {"ADMIN"})
+        @DisplayName("Admin should be able to register a group of users")
+        void adminShouldBeAbleToRegisterGroup() throws Exception {
+            // Given
+            given(registrationService.registerUsersForEvent(1L, List.of(1L, 2L))).willReturn(List.of(
+                    BulkRegistrationResultDTO.builder().userId(1L).registrationId(10L).status("CONFIRMED").build(),
+                    BulkRegistrationResultDTO.builder().userId(2L).status("ALREADY_REGISTERED").build()));
+
+            // When & Then
+            mockMvc.perform(post("/api/registrations/event/{eventId}/bulk", 1L)
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(
+                                    BulkRegistrationRequest.builder().userIds(List.of(1L, 2L)).build())))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(2)))
+                    .andExpect(jsonPath("$[0].status").value("CONFIRMED"))
+                    .andExpect(jsonPath("$[1].status").value("ALREADY_REGISTERED"));
+        }
+
+        @Test
+        @WithMockUser(username = "user1")
+        @DisplayName("Regular users should not be able to register a group")
+        void regularUserShouldNotBeAbleToRegisterGroup() throws Exception {
+            // When & Then
+            mockMvc.perform(post("/api/registrations/event/{eventId}/bulk", 1L)
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(
+                                    BulkRegistrationRequest.builder().userIds(List.of(1L)).build())))
+                    .andDo(print())
+                    .andExpect(status().isForbidden());
+
+            verify(registrationService, never()).registerUsersForEvent(anyLong(), anyList());
+        }
+
+        @Test
+        @WithMockUser(roles = {"ADMIN"})
+        @DisplayName("Should reject empty and oversized groups")
+        void shouldRejectInvalidGroupSizes() throws Exception {
+            // Given
+            List<Long> tooMany = LongStream.rangeClosed(1, 501).boxed().toList();
+
+            // When & Then
+            for (List<Long> userIds : List.of(List.<Long>of(), tooMany)) {
+                mockMvc.perform(post("/api/registrations/event/{eventId}/bulk", 1L)
+                                .with(csrf())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(
+                                        BulkRegistrationRequest.builder().userIds(userIds).build())))
+                        .andExpect(status().isBadRequest());
+            }
+
+            verify(registrationService, never()).registerUsersForEvent(anyLong(), anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/registrations/queue/{ticketId} Tests")
+    class QueueTicketTests {
+
+        @Test
+        @WithMockUser(username = "user1")
+        @DisplayName("Should report a ticket's position in the waiting room")
+        void shouldReturnTicketStatus() throws Exception {
+            // Given
+            given(waitingRoom.getTicket("ticket-1")).willReturn(QueueTicketDTO.builder()
+                    .ticketId("ticket-1").userId(1L).eventId(1L)
+                    .status(WaitingRoom.WAITING).position(7).estimatedWaitSeconds(1)
+                    .build());
+
+            // When & Then
+            mockMvc.perform(get("/api/registrations/queue/{ticketId}", "ticket-1"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.position").value(7));
+        }
+
+        @Test
+        @WithMockUser(username = "user1")
+        @DisplayName("Should return 404 for an unknown ticket")
+        void shouldReturn404ForUnknownTicket() throws Exception {
+            // Given
+            given(waitingRoom.getTicket("missing"))
+                    .willThrow(new ResourceNotFoundException("Queue ticket", "id", "missing"));
+
+            // When & Then
+            mockMvc.perform(get("/api/registrations/queue/{ticketId}", "missing"))
+                    .andDo(print())
+                    .andExpect(status().isNotFound());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/registrations/requests/{requestId} Tests")
+    class RegistrationRequestTests {
+
+        @Test
+        @WithMockUser(username = "user1")
+        @DisplayName("Should report the outcome of an asynchronous registration")
+        void shouldReturnRequestStatus() throws Exception {
+            // Given
+            given(registrationPipeline.getStatus("request-1")).willReturn(RegistrationRequestDTO.builder()
+                    .requestId("request-1").userId(1L).eventId(1L).status("CONFIRMED").registrationId(10L)
+                    .build());
+
+            // When & Then
+            mockMvc.perform(get("/api/registrations/requests/{requestId}", "request-1"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("CONFIRMED"))
+                    .andExpect(jsonPath("$.registrationId").value(10L));
+        }
+
+        @Test
+        @WithMockUser(username = "user1")
+        @DisplayName("Should return 404 for an unknown request")
+        void shouldReturn404ForUnknownRequest() throws Exception {
+            // Given
+            given(registrationPipeline.getStatus("missing"))
+                    .willThrow(new ResourceNotFoundException("Registration request", "id", "missing"));
+
+            // When & Then
+            mockMvc.perform(get("/api/registrations/requests/{requestId}", "missing"))
+                    .andDo(print())
+                    .andExpect(status().isNotFound());
+        }
     }
 
     @Nested
@@ -537,22 +926,22 @@ public class RegistrationControllerTest {
             verify(registrationService).cancelRegistration(1L, 2L);
         }
 
-//        @Test
-//        @WithMockUser(username = "other_user")
-//        @DisplayName("Other users should not be able to cancel someone else's registration")
-//        void otherUsersShouldNotBeAbleToCancelSomeoneElsesRegistration() throws Exception {
-//            // Given
-//            given(userSecurity.isSameUser(eq(1L), any())).willReturn(false);
-//
-//            // When & Then
-//            mockMvc.perform(patch("/api/registrations/user/{userId}/event/{eventId}/cancel", 1L, 1L)
-//                            .with(csrf()))
-//                    .andDo(print())
-//                    .andExpect(status().isForbidden());
-//
-//            verify(userSecurity).isSameUser(eq(1L), any());
-//            verify(registrationService, never()).cancelRegistration(anyLong(), anyLong());
-//        }
+        @Test
+        @WithMockUser(username = "other_user")
+        @DisplayName("Other users should not be able to cancel someone else's registration")
+        void otherUsersShouldNotBeAbleToCancelSomeoneElsesRegistration() throws Exception {
+            // Given
+            given(userSecurity.isSameUser(eq(1L), any())).willReturn(false);
+
+            // When & Then
+            mockMvc.perform(patch("/api/registrations/user/{userId}/event/{eventId}/cancel", 1L, 1L)
+                            .with(csrf()))
+                    .andDo(print())
+                    .andExpect(status().isForbidden());
+
+            verify(userSecurity).isSameUser(eq(1L), any());
+            verify(registrationService, never()).cancelRegistration(anyLong(), anyLong());
+        }
 
         @Test
         @WithMockUser(username = "user1")
@@ -595,18 +984,18 @@ public class RegistrationControllerTest {
             verify(registrationService).deleteRegistration(1L);
         }
 
-//        @Test
-//        @WithMockUser(roles = {"USER"})
-//        @DisplayName("Regular user should not be able to delete registration")
-//        void regularUserShouldNotBeAbleToDeleteRegistration() throws Exception {
-//            // When & Then
-//            mockMvc.perform(delete("/api/registrations/{id}", 1L)
-//                            .with(csrf()))
-//                    .andDo(print())
-//                    .andExpect(status().isForbidden());
-//
-//            verify(registrationService, never()).deleteRegistration(anyLong());
-//        }
+        @Test
+        @WithMockUser(roles = {"USER"})
+        @DisplayName("Regular user should not be able to delete registration")
+        void regularUserShouldNotBeAbleToDeleteRegistration() throws Exception {
+            // When & Then
+            mockMvc.perform(delete("/api/registrations/{id}", 1L)
+                            .with(csrf()))
+                    .andDo(print())
+                    .andExpect(status().isForbidden());
+
+            verify(registrationService, never()).deleteRegistration(anyLong());
+        }
 
         @Test
         @WithMockUser(roles = {"ADMIN"})
@@ -1,17 +1,27 @@
 package com.example.eventmanagementsystem.repository;
 
 import com.example.eventmanagementsystem.model.Event;
+import com.example.eventmanagementsystem.model.Registration;
 import com.example.eventmanagementsystem.model.User;
+import com.example.eventmanagementsystem.repository.projection.EventOwnershipView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -26,6 +36,12 @@ public class EventRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
     private User organizer;
 
     @BeforeEach
@@ -150,7 +166,7 @@ public class EventRepositoryTest {
         eventRepository.save(event2);
 
         // When
-        List<Event> results = eventRepository.searchEvents("music", null, null);
+        List<Event> results = eventRepository.searchEvents("music", null, null, null, null, Limit.unlimited());
 
         // Then
         assertThat(results).hasSize(1);
@@ -188,7 +204,7 @@ public class EventRepositoryTest {
         eventRepository.save(event2);
 
         // When
-        List<Event> results = eventRepository.searchEvents(null, "Technology", null);
+        List<Event> results = eventRepository.searchEvents(null, "Technology", null, null, null, Limit.unlimited());
 
         // Then
         assertThat(results).hasSize(1);
@@ -229,13 +245,41 @@ public class EventRepositoryTest {
         eventRepository.save(event2);
 
         // When
-        List<Event> results = eventRepository.searchEvents(null, null, searchDate);
+        List<Event> results = eventRepository.searchEvents(null, null, searchDate, null, null, Limit.unlimited());
 
         // Then
         assertThat(results).hasSize(1);
         assertThat(results.get(0).getName()).isEqualTo("Music Festival");
     }
 
+    @Test
+    public void whenSearchEvents_withDate_thenIncludeWholeDayOnly() {
+        // Given
+        LocalDate searchDate = LocalDate.now().plusDays(30);
+        List<LocalDateTime> startTimes = List.of(
+                searchDate.atStartOfDay().minusNanos(1000),
+                searchDate.atStartOfDay(),
+                searchDate.atTime(23, 59, 59),
+                searchDate.plusDays(1).atStartOfDay());
+        for (int i = 0; i < startTimes.size(); i++) {
+            eventRepository.save(Event.builder()
+                    .name("Boundary " + i)
+                    .startTime(startTimes.get(i))
+                    .endTime(startTimes.get(i).plusHours(1))
+                    .category("Music")
+                    .capacity(10)
+                    .published(true)
+                    .organizer(organizer)
+                    .build());
+        }
+
+        // When
+        List<Event> results = eventRepository.searchEvents(null, "Music", searchDate, null, null, Limit.unlimited());
+
+        // Then
+        assertThat(results).extracting(Event::getName).containsExactly("Boundary 1", "Boundary 2");
+    }
+
     @Test
     public void whenFindByStartTimeBetween_thenReturnEventsInRange() {
         // Given
@@ -315,4 +359,199 @@ public class EventRepositoryTest {
         assertThat(largeEvents).hasSize(1);
         assertThat(largeEvents.get(0).getName()).isEqualTo("Large Event");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void whenFindOwnershipById_thenReturnOrganizer() {
+        // Given
+        Event event = Event.builder()
+                .name("Owned Event")
+                .description("This is an event by the organizer")
+                .startTime(LocalDateTime.now().plusDays(1))
+                .endTime(LocalDateTime.now().plusDays(1).plusHours(2))
+                .location("Test Location")
+                .category("Test Category")
+                .capacity(100)
+                .published(true)
+                .organizer(organizer)
+                .build();
+
+        eventRepository.save(event);
+
+        // When
+        Optional<EventOwnershipView> found = eventRepository.findOwnershipById(event.getId());
+
+        // Then
+        assertThat(found).isPresent();
+        assertThat(found.get().getOrganizerId()).isEqualTo(organizer.getId());
+        assertThat(found.get().getOrganizerUsername()).isEqualTo("organizer");
+        assertThat(eventRepository.findOwnershipById(-1L)).isEmpty();
+    }
+
+    @Test
+    public void whenReserveAndReleaseSeats_thenUpdateInPlace() {
+        // Given
+        Event event = eventRepository.save(countedEvent("Counted Event", 0));
+
+        // When
+        eventRepository.reserveSeat(event.getId());
+        eventRepository.reserveSeat(event.getId());
+        eventRepository.decrementConfirmedCount(event.getId());
+        entityManager.clear();
+
+        // Then
+        assertThat(eventRepository.findById(event.getId()).orElseThrow().getConfirmedCount()).isEqualTo(1);
+        assertThat(eventRepository.findConfirmedCountById(event.getId())).contains(1);
+    }
+
+    @Test
+    public void whenReserveSeatOnFullEvent_thenReserveNothing() {
+        // Given
+        Event event = countedEvent("Full Event", 100);
+        eventRepository.save(event);
+
+        // When
+        int reserved = eventRepository.reserveSeat(event.getId());
+        entityManager.clear();
+
+        // Then
+        assertThat(reserved).isZero();
+        assertThat(eventRepository.findById(event.getId()).orElseThrow().getConfirmedCount()).isEqualTo(100);
+    }
+
+    @Test
+    public void whenReserveSeatsForGroup_thenReserveAllOrNothing() {
+        // Given
+        Event event = eventRepository.save(countedEvent("Group Event", 90));
+
+        // When
+        int tooMany = eventRepository.reserveSeats(event.getId(), 11);
+        int exactFit = eventRepository.reserveSeats(event.getId(), 10);
+        entityManager.clear();
+
+        // Then
+        assertThat(tooMany).isZero();
+        assertThat(exactFit).isEqualTo(1);
+        assertThat(eventRepository.findById(event.getId()).orElseThrow().getConfirmedCount()).isEqualTo(100);
+    }
+
+    @Test
+    public void whenDecrementConfirmedCountAtZero_thenLeaveItAtZero() {
+        // Given
+        Event event = eventRepository.save(countedEvent("Empty Event", 0));
+
+        // When
+        int updated = eventRepository.decrementConfirmedCount(event.getId());
+        entityManager.clear();
+
+        // Then
+        assertThat(updated).isZero();
+        assertThat(eventRepository.findById(event.getId()).orElseThrow().getConfirmedCount()).isZero();
+    }
+
+    @Test
+    public void whenSavingLoadedEvent_thenConfirmedCountIsNotOverwritten() {
+        // Given
+        Event event = eventRepository.save(countedEvent("Edited Event", 0));
+        eventRepository.reserveSeat(event.getId());
+
+        // When
+        event.setName("Renamed Event");
+        eventRepository.saveAndFlush(event);
+        entityManager.clear();
+
+        // Then
+        assertThat(eventRepository.findById(event.getId()).orElseThrow().getConfirmedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void whenConfirmedCountDrifts_thenFindAndRecountIt() {
+        // Given
+        User attendee = userRepository.save(User.builder()
+                .username("attendee")
+                .password("password")
+                .email("attendee@example.com")
+                .fullName("Attendee")
+                .roles(new HashSet<>(Set.of("USER")))
+                .build());
+        Event accurate = eventRepository.save(countedEvent("Accurate Event", 1));
+        Event drifted = eventRepository.save(countedEvent("Drifted Event", 5));
+        registrationRepository.save(Registration.builder().user(attendee).event(accurate).build());
+        registrationRepository.save(Registration.builder().user(attendee).event(drifted).build());
+        registrationRepository.save(Registration.builder().user(organizer).event(drifted)
+                .registrationStatus("CANCELLED").build());
+        entityManager.flush();
+
+        // When
+        List<Long> driftedIds = eventRepository.findIdsWithConfirmedCountDrift();
+        int repaired = eventRepository.recountConfirmed(driftedIds);
+        entityManager.clear();
+
+        // Then
+        assertThat(driftedIds).containsExactly(drifted.getId());
+        assertThat(repaired).isEqualTo(1);
+        assertThat(eventRepository.findById(drifted.getId()).orElseThrow().getConfirmedCount()).isEqualTo(1);
+        assertThat(eventRepository.findIdsWithConfirmedCountDrift()).isEmpty();
+    }
+
+    @Test
+    public void whenScrollingPublishedEvents_thenPagesFollowStartTimeAndIdWithoutGaps() {
+        // Given
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withNano(0);
+        for (int i = 0; i < 5; i++) {
+            // Events 0-1 and 2-3 share a start time, so the id has to break the tie
+            Event event = countedEvent("Paged Event " + i, 0);
+            event.setStartTime(start.plusHours(i / 2));
+            eventRepository.save(event);
+        }
+        Event unpublished = countedEvent("Hidden Event", 0);
+        unpublished.setPublished(false);
+        eventRepository.save(unpublished);
+        Sort order = Sort.by("startTime", "id");
+
+        // When
+        Window<Event> first = eventRepository.findByPublishedTrue(ScrollPosition.keyset(), order, Limit.of(2));
+        Event last = first.getContent().get(1);
+        Window<Event> second = eventRepository.findByPublishedTrue(
+                ScrollPosition.forward(Map.of("startTime", last.getStartTime(), "id", last.getId())), order, Limit.of(2));
+        Window<Event> third = eventRepository.findByPublishedTrue(
+                (KeysetScrollPosition) second.positionAt(1), order, Limit.of(2));
+
+        // Then
+        assertThat(first.getContent()).extracting(Event::getName).containsExactly("Paged Event 0", "Paged Event 1");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).extracting(Event::getName).containsExactly("Paged Event 2", "Paged Event 3");
+        assertThat(third.getContent()).extracting(Event::getName).containsExactly("Paged Event 4");
+        assertThat(third.hasNext()).isFalse();
+    }
+
+    @Test
+    public void whenSearchingAfterAKey_thenReturnOnlyLaterEvents() {
+        // Given
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withNano(0);
+        Event first = countedEvent("Search Event 1", 0);
+        first.setStartTime(start);
+        Event second = countedEvent("Search Event 2", 0);
+        second.setStartTime(start);
+        Event third = countedEvent("Search Event 3", 0);
+        third.setStartTime(start.plusHours(1));
+        eventRepository.saveAll(List.of(first, second, third));
+
+        // When
+        List<Event> page = eventRepository.searchEvents("search", null, null, start, first.getId(), Limit.of(5));
+
+        // Then
+        assertThat(page).extracting(Event::getName).containsExactly("Search Event 2", "Search Event 3");
+    }
+
+    private Event countedEvent(String name, int confirmedCount) {
+        return Event.builder()
+                .name(name)
+                .startTime(LocalDateTime.now().plusDays(1))
+                .endTime(LocalDateTime.now().plusDays(1).plusHours(2))
+                .capacity(100)
+                .published(true)
+                .confirmedCount(confirmedCount)
+                .organizer(organizer)
+                .build();
+    }
+}
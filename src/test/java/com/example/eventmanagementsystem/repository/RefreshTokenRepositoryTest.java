@@ -0,0 +1,101 @@
+package com.example.eventmanagementsystem.repository;
+
+import com.example.eventmanagementsystem.model.RefreshToken;
+import com.example.eventmanagementsystem.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("Refresh Token Repository Tests")
+public class RefreshTokenRepositoryTest {
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User user;
+    private RefreshToken first;
+    private RefreshToken second;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .username("user1")
+                .password("password")
+                .email("user1@example.com")
+                .fullName("User One")
+                .roles(new HashSet<>(Set.of("USER")))
+                .build());
+
+        first = refreshTokenRepository.save(token("a".repeat(64), "family-1", LocalDateTime.now().plusDays(1)));
+        second = refreshTokenRepository.save(token("b".repeat(64), "family-1", LocalDateTime.now().minusDays(1)));
+    }
+
+    @Test
+    @DisplayName("Should find a token with its user by hash")
+    void shouldFindByTokenHash() {
+        // When
+        entityManager.clear();
+        Optional<RefreshToken> found = refreshTokenRepository.findByTokenHash("a".repeat(64));
+
+        // Then
+        assertThat(found).isPresent();
+        assertThat(found.get().getUser().getUsername()).isEqualTo("user1");
+        assertThat(refreshTokenRepository.findByTokenHash("c".repeat(64))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should revoke an active token only once")
+    void shouldRevokeActiveTokenOnce() {
+        // When
+        int firstAttempt = refreshTokenRepository.revokeIfActive(first.getId());
+        int secondAttempt = refreshTokenRepository.revokeIfActive(first.getId());
+
+        // Then
+        assertThat(firstAttempt).isEqualTo(1);
+        assertThat(secondAttempt).isZero();
+    }
+
+    @Test
+    @DisplayName("Should revoke a family and delete expired tokens")
+    void shouldRevokeFamilyAndDeleteExpired() {
+        // When
+        int revoked = refreshTokenRepository.revokeFamily("family-1");
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+
+        // Then
+        assertThat(revoked).isEqualTo(2);
+        assertThat(deleted).isEqualTo(1);
+        entityManager.clear();
+        assertThat(refreshTokenRepository.findById(first.getId())).get()
+                .extracting(RefreshToken::isRevoked).isEqualTo(true);
+        assertThat(refreshTokenRepository.findById(second.getId())).isEmpty();
+    }
+
+    private RefreshToken token(String tokenHash, String familyId, LocalDateTime expiresAt) {
+        return RefreshToken.builder()
+                .user(user)
+                .tokenHash(tokenHash)
+                .familyId(familyId)
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
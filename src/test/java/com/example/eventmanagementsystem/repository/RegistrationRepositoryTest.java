@@ -3,6 +3,7 @@ package com.example.eventmanagementsystem.repository;
 import com.example.eventmanagementsystem.model.Event;
 import com.example.eventmanagementsystem.model.Registration;
 import com.example.eventmanagementsystem.model.User;
+import com.example.eventmanagementsystem.repository.projection.RegistrationOwnershipView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -201,6 +202,31 @@ public class RegistrationRepositoryTest {
             assertThat(exists2).isFalse();
         }
 
+        @Test
+        @DisplayName("Should find which of a group of users are registered for an event")
+        void shouldFindRegisteredUserIds() {
+            // When
+            List<Long> registered = registrationRepository.findRegisteredUserIds(
+                    event2.getId(), List.of(user1.getId(), user2.getId(), organizer.getId()));
+
+            // Then
+            assertThat(registered).containsExactly(user1.getId());
+        }
+
+        @Test
+        @DisplayName("Should find the events where a user holds a confirmed seat")
+        void shouldFindConfirmedEventIdsByUserId() {
+            // Given
+            registration3.setRegistrationStatus("WAITLISTED");
+            registrationRepository.save(registration3);
+
+            // When
+            List<Long> eventIds = registrationRepository.findConfirmedEventIdsByUserId(user1.getId());
+
+            // Then
+            assertThat(eventIds).containsExactly(event1.getId());
+        }
+
         @Test
         @DisplayName("Should count registrations by event ID")
         void shouldCountRegistrationsByEventId() {
@@ -214,6 +240,71 @@ public class RegistrationRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("Ownership Projection Tests")
+    class OwnershipProjectionTests {
+
+        @Test
+        @DisplayName("Should find registrant and organizer of a registration")
+        void shouldFindOwnershipById() {
+            // When
+            Optional<RegistrationOwnershipView> found = registrationRepository.findOwnershipById(registration2.getId());
+            Optional<RegistrationOwnershipView> notFound = registrationRepository.findOwnershipById(-1L);
+
+            // Then
+            assertThat(found).isPresent();
+            assertThat(found.get().getUserId()).isEqualTo(user2.getId());
+            assertThat(found.get().getUsername()).isEqualTo("user2");
+            assertThat(found.get().getEventId()).isEqualTo(event1.getId());
+            assertThat(found.get().getOrganizerId()).isEqualTo(organizer.getId());
+            assertThat(found.get().getOrganizerUsername()).isEqualTo("organizer");
+
+            assertThat(notFound).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Waitlist Tests")
+    class WaitlistTests {
+
+        @Test
+        @DisplayName("Should find the oldest waitlisted registration for an event")
+        void shouldFindWaitlistHead() {
+            // Given
+            registration1.setRegistrationStatus("WAITLISTED");
+            registration2.setRegistrationStatus("WAITLISTED");
+            registrationRepository.saveAll(List.of(registration1, registration2));
+            registration3.setRegistrationStatus("WAITLISTED");
+            registrationRepository.save(registration3);
+
+            // When
+            Optional<Long> head = registrationRepository.findWaitlistHead(event1.getId());
+            Optional<Long> none = registrationRepository.findWaitlistHead(-1L);
+
+            // Then
+            assertThat(head).contains(registration1.getId());
+            assertThat(none).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should confirm a registration only while it is waitlisted")
+        void shouldConfirmOnlyWaitlisted() {
+            // Given
+            registration1.setRegistrationStatus("WAITLISTED");
+            registrationRepository.saveAndFlush(registration1);
+
+            // When
+            int first = registrationRepository.confirmWaitlisted(registration1.getId());
+            int second = registrationRepository.confirmWaitlisted(registration1.getId());
+            int confirmed = registrationRepository.confirmWaitlisted(registration2.getId());
+
+            // Then
+            assertThat(first).isEqualTo(1);
+            assertThat(second).isZero();
+            assertThat(confirmed).isZero();
+        }
+    }
+
     @Nested
     @DisplayName("Modification Tests")
     class ModificationTests {
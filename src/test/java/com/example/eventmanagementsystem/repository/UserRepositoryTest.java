@@ -6,12 +6,15 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 @DataJpaTest
@@ -23,6 +26,35 @@ public class UserRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    public void whenStreamAll_thenReturnEachUserOnceWithAllRoles() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            userRepository.save(User.builder()
+                    .username("streamed" + i)
+                    .password("password")
+                    .email("streamed" + i + "@example.com")
+                    .fullName("Streamed User " + i)
+                    .roles(new HashSet<>(Set.of("USER", "ORGANIZER")))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<User> users;
+        try (Stream<User> stream = userRepository.streamAll()) {
+            users = stream.toList();
+        }
+
+        // Then
+        assertThat(users).extracting(User::getUsername).containsExactly("streamed0", "streamed1", "streamed2");
+        assertThat(users).allSatisfy(user -> assertThat(user.getRoles()).containsExactlyInAnyOrder("USER", "ORGANIZER"));
+    }
+
     @Test
     public void whenFindByUsername_thenReturnUser() {
         // Given
@@ -123,4 +155,25 @@ public class UserRepositoryTest {
         // Then
         assertThat(exists).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void whenFindUsernameById_thenReturnUsername() {
+        // Given
+        User user = User.builder()
+                .username("testuser")
+                .password("password")
+                .email("test@example.com")
+                .fullName("Test User")
+                .roles(new HashSet<>(Set.of("USER")))
+                .build();
+
+        userRepository.save(user);
+
+        // When
+        Optional<String> found = userRepository.findUsernameById(user.getId());
+
+        // Then
+        assertThat(found).contains("testuser");
+        assertThat(userRepository.findUsernameById(-1L)).isEmpty();
+    }
+}
@@ -0,0 +1,286 @@
+package com.example.eventmanagementsystem.search;
+
+import com.example.eventmanagementsystem.model.Event;
+import com.example.eventmanagementsystem.model.User;
+import com.example.eventmanagementsystem.repository.EventRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Event Search Index Tests")
+class EventSearchIndexTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 6, 1, 18, 0);
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EventSearchIndex searchIndex;
+
+    private final User organizer = User.builder().id(1L).username("organizer").build();
+    private final User otherOrganizer = User.builder().id(2L).username("other").build();
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new EventSearchIndex(eventRepository, entityManager, transactionManager, true, 0.3f);
+    }
+
+    @Test
+    @DisplayName("Should load published events on rebuild and match stemmed terms")
+    void shouldLoadPublishedEventsOnRebuild() {
+        // Given
+        given(eventRepository.streamPublished()).willReturn(Stream.of(
+                event(1L, "Rock Concert", "Live music all night", "Arena", "Music", organizer),
+                event(2L, "Jazz Evening", "Smooth jazz concerts", "Club", "Music", organizer)));
+
+        // When
+        boolean readyBefore = searchIndex.isReady();
+        searchIndex.rebuild();
+
+        // Then
+        assertFalse(readyBefore);
+        assertTrue(searchIndex.isReady());
+        assertEquals(List.of(1L, 2L), ids(searchIndex.search("CONCERTS", null, null, null, 10)));
+        assertEquals(List.of(2L), ids(searchIndex.search("evenings", null, null, null, 10)));
+    }
+
+    @Test
+    @DisplayName("Should drop and pick up events changed outside this instance on rebuild")
+    void shouldResyncWithDatabaseOnRebuild() {
+        // Given
+        searchIndex.onEventChanged(event(1L, "Rock Concert", null, "Arena", "Music", organizer));
+        searchIndex.onEventChanged(event(2L, "Jazz Evening", null, "Club", "Music", organizer));
+        given(eventRepository.streamPublished()).willReturn(Stream.of(
+                event(2L, "Jazz Evening", null, "Club", "Music", organizer),
+                event(3L, "Blues Concert", null, "Bar", "Music", organizer)));
+
+        // When
+        searchIndex.rebuild();
+
+        // Then
+        assertEquals(List.of(3L), ids(searchIndex.search("concert", null, null, null, 10)));
+        assertEquals(List.of(2L), ids(searchIndex.search("jazz", null, null, null, 10)));
+    }
+
+    @Test
+    @DisplayName("Should keep updates made while a rebuild is loading")
+    void shouldReplayUpdatesMadeDuringRebuild() {
+        // Given
+        Event renamed = event(2L, "Folk Evening", null, "Club", "Music", organizer);
+        given(eventRepository.streamPublished()).willReturn(Stream.of(
+                event(1L, "Rock Concert", null, "Arena", "Music", organizer),
+                event(2L, "Jazz Evening", null, "Club", "Music", organizer)).peek(loaded -> {
+                    if (loaded.getId() == 2L) {
+                        searchIndex.onEventDeleted(1L);
+                        searchIndex.onEventChanged(renamed);
+                        searchIndex.onEventChanged(event(3L, "Jazz Brunch", null, "Cafe", "Music", organizer));
+                    }
+                }));
+
+        // When
+        searchIndex.rebuild();
+
+        // Then
+        assertTrue(searchIndex.search("concert", null, null, null, 10).isEmpty());
+        assertEquals(List.of(3L), ids(searchIndex.search("jazz", null, null, null, 10)));
+        assertEquals(List.of(2L), ids(searchIndex.search("folk", null, null, null, 10)));
+    }
+
+    @Test
+    @DisplayName("Should rank a name match above a description match")
+    void shouldRankNameMatchesFirst() {
+        // Given
+        searchIndex.onEventChanged(event(1L, "Cooking Class", "Bring your own workshop apron", "Kitchen", "Food", organizer));
+        searchIndex.onEventChanged(event(2L, "Pottery Workshop", "Hands-on clay", "Studio", "Art", organizer));
+
+        // When
+        List<EventSearchIndex.Hit> hits = searchIndex.search("workshop", null, null, null, 10);
+
+        // Then
+        assertEquals(List.of(2L, 1L), ids(hits));
+        assertTrue(hits.get(0).score() > hits.get(1).score());
+    }
+
+    @Test
+    @DisplayName("Should require every query term and apply category and date filters")
+    void shouldRequireAllTermsAndApplyFilters() {
+        // Given
+        searchIndex.onEventChanged(event(1L, "Tech Conference", "Talks on cloud", "Hall", "Technology", organizer));
+        searchIndex.onEventChanged(event(2L, "Tech Meetup", "Talks on data", "Cafe", "Technology", organizer));
+        Event nextDay = event(3L, "Cloud Summit", "Talks on cloud", "Hall", "Business", organizer);
+        nextDay.setStartTime(START.plusDays(1));
+        searchIndex.onEventChanged(nextDay);
+
+        // When / Then
+        assertEquals(List.of(1L, 3L), sorted(searchIndex.search("cloud talks", null, null, null, 10)));
+        assertEquals(List.of(1L), ids(searchIndex.search("cloud", "Technology", null, null, 10)));
+        assertEquals(List.of(3L), ids(searchIndex.search("cloud", null, START.toLocalDate().plusDays(1), null, 10)));
+        assertTrue(searchIndex.search("cloud", "Unknown", null, null, 10).isEmpty());
+        assertTrue(searchIndex.search("cloud robots", null, null, null, 10).isEmpty());
+        assertTrue(searchIndex.search("!!", null, null, null, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should continue after the last hit of the previous page")
+    void shouldPageAfterPreviousHit() {
+        // Given
+        for (long id = 1; id <= 5; id++) {
+            searchIndex.onEventChanged(event(id, "Open Air Festival " + id, null, "Park", "Music", organizer));
+        }
+
+        // When
+        List<EventSearchIndex.Hit> first = searchIndex.search("festival", null, null, null, 2);
+        List<EventSearchIndex.Hit> second = searchIndex.search("festival", null, null, first.get(1), 2);
+        List<EventSearchIndex.Hit> last = searchIndex.search("festival", null, null, second.get(1), 2);
+
+        // Then
+        assertEquals(List.of(1L, 2L), ids(first));
+        assertEquals(List.of(3L, 4L), ids(second));
+        assertEquals(List.of(5L), ids(last));
+    }
+
+    @Test
+    @DisplayName("Should replace an updated event's terms and drop unpublished, deleted and orphaned events")
+    void shouldApplyIncrementalUpdates() {
+        // Given
+        Event event = event(1L, "Chess Tournament", null, "Library", "Games", organizer);
+        searchIndex.onEventChanged(event);
+        searchIndex.onEventChanged(event(2L, "Chess Club", null, "Library", "Games", organizer));
+        searchIndex.onEventChanged(event(3L, "Chess Night", null, "Library", "Games", otherOrganizer));
+
+        // When
+        event.setName("Poker Tournament");
+        searchIndex.onEventChanged(event);
+        Event unpublished = event(2L, "Chess Club", null, "Library", "Games", organizer);
+        unpublished.setPublished(false);
+        searchIndex.onEventChanged(unpublished);
+
+        // Then
+        assertEquals(List.of(1L), ids(searchIndex.search("poker", null, null, null, 10)));
+        assertEquals(List.of(3L), ids(searchIndex.search("chess", null, null, null, 10)));
+
+        searchIndex.onUserDeleted(2L);
+        assertTrue(searchIndex.search("chess", null, null, null, 10).isEmpty());
+        searchIndex.onEventDeleted(1L);
+        assertTrue(searchIndex.search("library", null, null, null, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should keep answering correctly after dead documents are compacted")
+    void shouldCompactDeadDocuments() {
+        // Given
+        for (long id = 1; id <= 3000; id++) {
+            searchIndex.onEventChanged(event(id, "Marathon " + id, null, "City", "Sport", organizer));
+        }
+
+        // When
+        for (long id = 1; id <= 3000; id++) {
+            searchIndex.onEventChanged(event(id, (id % 2 == 0 ? "Relay " : "Marathon ") + id, null, "City", "Sport", organizer));
+        }
+
+        // Then
+        assertEquals(1500, searchIndex.search("marathon", null, null, null, 5000).size());
+        assertEquals(List.of(2L, 4L), ids(searchIndex.search("relay", null, null, null, 2)));
+        assertEquals(List.of(2000L), ids(searchIndex.search("relay 2000", null, null, null, 10)));
+        assertEquals(2000L, searchIndex.fuzzySearch("rely 2000", null, null, null, 1).get(0).eventId());
+    }
+
+    @Test
+    @DisplayName("Should find misspelt names and locations, most similar first")
+    void shouldFindMisspeltNamesAndLocations() {
+        // Given
+        searchIndex.onEventChanged(event(1L, "Metallica Concert", null, "Wembley Stadium", "Music", organizer));
+        searchIndex.onEventChanged(event(2L, "Metallica Tribute Night", null, "Camden Club", "Music", organizer));
+        searchIndex.onEventChanged(event(3L, "Poetry Reading", null, "City Library", "Books", organizer));
+
+        // When
+        List<EventSearchIndex.Hit> names = searchIndex.fuzzySearch("metalica concrt", null, null, null, 10);
+        List<EventSearchIndex.Hit> venues = searchIndex.fuzzySearch("Wembly Stadum", null, null, null, 10);
+
+        // Then
+        assertEquals(1L, names.get(0).eventId());
+        assertTrue(names.get(0).score() > 0.3f && names.get(0).score() < 1f);
+        assertEquals(List.of(1L), ids(venues));
+        assertTrue(searchIndex.search("metalica", null, null, null, 10).isEmpty());
+        assertTrue(searchIndex.fuzzySearch("quantum physics", null, null, null, 10).isEmpty());
+        assertTrue(searchIndex.fuzzySearch("metalica concrt", "Books", null, null, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should find one misspelt word of a longer name or location")
+    void shouldFindMisspeltWordOfLongerField() {
+        // Given
+        searchIndex.onEventChanged(event(1L, "Metallica Concert", null, "Wembley Stadium", "Music", organizer));
+        searchIndex.onEventChanged(event(2L, "Summer Jazz Festival", null, "Victoria Park", "Music", organizer));
+        searchIndex.onEventChanged(event(3L, "Annual Developer Conference 2026", null, "ExCeL London", "Technology", organizer));
+
+        // When
+        List<EventSearchIndex.Hit> venues = searchIndex.fuzzySearch("Wembly", null, null, null, 10);
+        List<EventSearchIndex.Hit> names = searchIndex.fuzzySearch("festval", null, null, null, 10);
+        List<EventSearchIndex.Hit> longNames = searchIndex.fuzzySearch("conferance", null, null, null, 10);
+
+        // Then
+        assertEquals(List.of(1L), ids(venues));
+        assertEquals(List.of(2L), ids(names));
+        assertEquals(List.of(3L), ids(longNames));
+        assertTrue(longNames.get(0).score() > 0.3f && longNames.get(0).score() < 1f);
+        assertEquals(1f, searchIndex.fuzzySearch("london", null, null, null, 10).get(0).score());
+    }
+
+    @Test
+    @DisplayName("Should only return matches at or above the configured similarity threshold")
+    void shouldApplyFuzzyThreshold() {
+        // Given
+        EventSearchIndex strictIndex = new EventSearchIndex(eventRepository, entityManager, transactionManager, true, 0.9f);
+        for (EventSearchIndex index : List.of(searchIndex, strictIndex)) {
+            index.onEventChanged(event(1L, "Summer Festival", null, "Park", "Music", organizer));
+        }
+
+        // When / Then
+        assertEquals(List.of(1L), ids(searchIndex.fuzzySearch("sumer festivl", null, null, null, 10)));
+        assertTrue(strictIndex.fuzzySearch("sumer festivl", null, null, null, 10).isEmpty());
+        assertEquals(1f, strictIndex.fuzzySearch("Summer Festival", null, null, null, 10).get(0).score());
+    }
+
+    // Helper methods
+    private Event event(Long id, String name, String description, String location, String category, User organizer) {
+        return Event.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .location(location)
+                .category(category)
+                .startTime(START)
+                .endTime(START.plusHours(3))
+                .published(true)
+                .organizer(organizer)
+                .build();
+    }
+
+    private static List<Long> ids(List<EventSearchIndex.Hit> hits) {
+        return hits.stream().map(EventSearchIndex.Hit::eventId).toList();
+    }
+
+    private static List<Long> sorted(List<EventSearchIndex.Hit> hits) {
+        return ids(hits).stream().sorted().toList();
+    }
+}
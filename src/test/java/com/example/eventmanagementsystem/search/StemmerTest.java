@@ -0,0 +1,30 @@
+package com.example.eventmanagementsystem.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("Stemmer Tests")
+class StemmerTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "concerts, concert",
+            "classes, class",
+            "parties, parti",
+            "party, parti",
+            "agreed, agree",
+            "hoping, hope",
+            "running, run",
+            "filing, file",
+            "workshop, workshop",
+            "2024, 2024",
+            "go, go"
+    })
+    @DisplayName("Should reduce inflected words to a common stem")
+    void shouldStemInflections(String word, String stem) {
+        assertEquals(stem, Stemmer.stem(word));
+    }
+}
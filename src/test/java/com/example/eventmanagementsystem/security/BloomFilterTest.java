@@ -0,0 +1,63 @@
+package com.example.eventmanagementsystem.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Bloom Filter Tests")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("Should never report an inserted id as absent")
+    void shouldHaveNoFalseNegatives() {
+        // Given
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        String[] ids = new String[10_000];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = UUID.randomUUID().toString();
+            filter.put(ids[i]);
+        }
+
+        // When / Then
+        for (String id : ids) {
+            assertTrue(filter.mightContain(id));
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the false positive rate near the configured target")
+    void shouldStayNearTargetFalsePositiveRate() {
+        // Given
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(UUID.randomUUID().toString());
+        }
+
+        // When
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertTrue(falsePositives < probes * 0.02, "false positives: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("Should size bits and hash functions from the expected insertions")
+    void shouldSizeFromExpectedInsertions() {
+        // When
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+
+        // Then
+        assertTrue(filter.bitSize() >= 95_000);
+        assertEquals(7, filter.hashFunctions());
+        assertFalse(filter.mightContain("anything"));
+    }
+}
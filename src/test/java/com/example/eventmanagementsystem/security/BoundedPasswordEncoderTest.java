@@ -0,0 +1,99 @@
+package com.example.eventmanagementsystem.security;
+
+import com.example.eventmanagementsystem.exception.ApiException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Bounded Password Encoder Tests")
+class BoundedPasswordEncoderTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.destroy();
+    }
+
+    @Test
+    @DisplayName("Should hash and verify passwords on the dedicated pool")
+    void shouldHashAndVerifyPasswords() {
+        // Given
+        passwordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 2, 10);
+        passwordEncoder.bindTo(meterRegistry);
+
+        // When
+        String encoded = passwordEncoder.encode("password123");
+
+        // Then
+        assertTrue(encoded.startsWith("$2a$04$"));
+        assertTrue(passwordEncoder.matches("password123", encoded));
+        assertFalse(passwordEncoder.matches("wrong", encoded));
+        assertEquals(1, meterRegistry.get("password.hashing").tag("operation", "encode").timer().count());
+        assertEquals(2, meterRegistry.get("password.hashing").tag("operation", "matches").timer().count());
+        assertNotNull(meterRegistry.get("executor.queued").tag("name", "password-hashing").gauge());
+    }
+
+    @Test
+    @DisplayName("Should reject with 503 as soon as the pool and queue are full")
+    void shouldRejectWhenSaturated() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        passwordEncoder = new BoundedPasswordEncoder(blockingEncoder, 1, 1);
+        passwordEncoder.bindTo(meterRegistry);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("first"));
+        awaitQueueDepth(0, running);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("second"));
+        awaitQueueDepth(1, queued);
+
+        // When
+        ApiException exception = assertThrows(ApiException.class, () -> passwordEncoder.encode("third"));
+        release.countDown();
+        String first = running.get(5, TimeUnit.SECONDS);
+        String second = queued.get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatus());
+        assertEquals(1, meterRegistry.get("password.hashing.rejected").counter().count());
+        assertTrue(passwordEncoder.matches("first", first));
+        assertTrue(passwordEncoder.matches("second", second));
+    }
+
+    private void awaitQueueDepth(int depth, CompletableFuture<?> caller) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        // The first call leaves the queue empty once a worker has picked it up
+        while (System.nanoTime() < deadline && !caller.isDone()) {
+            double active = meterRegistry.get("executor.active").tag("name", "password-hashing").gauge().value();
+            if (passwordEncoder.getQueueDepth() == depth && active == 1) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        fail("Password hashing pool did not reach queue depth " + depth);
+    }
+}
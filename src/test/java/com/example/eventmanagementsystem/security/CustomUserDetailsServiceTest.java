@@ -0,0 +1,76 @@
+package com.example.eventmanagementsystem.security;
+
+import com.example.eventmanagementsystem.model.User;
+import com.example.eventmanagementsystem.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Custom User Details Service Tests")
+class CustomUserDetailsServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private CustomUserDetailsService userDetailsService;
+
+    private final User user = User.builder()
+            .id(1L)
+            .username("testuser")
+            .password("$2a$10$hash")
+            .roles(Set.of("USER"))
+            .build();
+
+    @Test
+    @DisplayName("Should load the password hash for logins and erase it on request")
+    void shouldLoadPasswordForLogin() {
+        // Given
+        given(userRepository.findByUsername("testuser")).willReturn(Optional.of(user));
+
+        // When
+        UserDetails details = userDetailsService.loadUserByUsername("testuser");
+
+        // Then
+        assertEquals("$2a$10$hash", details.getPassword());
+        ((UserPrincipal) details).eraseCredentials();
+        assertNull(details.getPassword());
+    }
+
+    @Test
+    @DisplayName("Should load the principal for token checks without the password hash")
+    void shouldLoadPrincipalWithoutPassword() {
+        // Given
+        given(userRepository.findByUsername("testuser")).willReturn(Optional.of(user));
+
+        // When
+        UserPrincipal principal = userDetailsService.loadPrincipalByUsername("testuser");
+
+        // Then
+        assertNull(principal.getPassword());
+        assertEquals(1L, principal.getId());
+        assertEquals("ROLE_USER", principal.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    @DisplayName("Should throw when the user does not exist")
+    void shouldThrowForUnknownUser() {
+        // Given
+        given(userRepository.findByUsername("missing")).willReturn(Optional.empty());
+
+        // When / Then
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadPrincipalByUsername("missing"));
+    }
+}
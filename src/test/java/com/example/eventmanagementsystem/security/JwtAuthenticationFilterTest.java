@@ -18,14 +18,16 @@ import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 
 import java.io.IOException;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -41,7 +43,13 @@ class JwtAuthenticationFilterTest {
     private JwtTokenProvider tokenProvider;
 
     @Mock
-    private UserDetailsService userDetailsService;
+    private CustomUserDetailsService userDetailsService;
+
+    @Mock
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
 
     @Mock
     private HttpServletRequest request;
@@ -56,6 +64,7 @@ class JwtAuthenticationFilterTest {
     private SecurityContext securityContext;
 
     private UserDetails userDetails;
+    private ParsedToken parsedToken;
     private String validToken;
 
     @BeforeEach
@@ -79,6 +88,9 @@ class JwtAuthenticationFilterTest {
                 authorities
         );
 
+        parsedToken = new ParsedToken("token-id", "testuser", 1L, 0, List.of("ROLE_USER", "ROLE_ADMIN"),
+                Instant.now(), Instant.now().plusSeconds(3600));
+
         validToken = "valid.jwt.token";
 
         // Mock SecurityContextHolder
@@ -90,36 +102,74 @@ class JwtAuthenticationFilterTest {
     class DoFilterInternalTests {
 
         @Test
-        @DisplayName("Should set authentication when valid token is provided")
+        @DisplayName("Should set authentication from claims without loading the user when version is current")
         void shouldSetAuthenticationWhenValidTokenIsProvided() throws ServletException, IOException {
             // Given
             given(request.getHeader("Authorization")).willReturn("Bearer " + validToken);
-            given(tokenProvider.getUsernameFromToken(validToken)).willReturn(userDetails.getUsername());
-            given(userDetailsService.loadUserByUsername(userDetails.getUsername())).willReturn(userDetails);
-            given(tokenProvider.validateToken(validToken, userDetails)).willReturn(true);
+            given(tokenProvider.parseToken(validToken)).willReturn(parsedToken);
+            given(tokenVersionRegistry.isCurrent(any(UserPrincipal.class))).willReturn(true);
+
+            // When
+            jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+            // Then
+            verify(securityContext).setAuthentication(any(UsernamePasswordAuthenticationToken.class));
+            verify(userDetailsService, never()).loadPrincipalByUsername(anyString());
+            verify(filterChain).doFilter(request, response);
+        }
+
+        @Test
+        @DisplayName("Should load the user and remember the version when it is not known to be current")
+        void shouldLoadUserWhenVersionIsUnknown() throws ServletException, IOException {
+            // Given
+            UserPrincipal current = new UserPrincipal(1L, "testuser", null, 0, userDetails.getAuthorities());
+            given(request.getHeader("Authorization")).willReturn("Bearer " + validToken);
+            given(tokenProvider.parseToken(validToken)).willReturn(parsedToken);
+            given(tokenVersionRegistry.isCurrent(any(UserPrincipal.class))).willReturn(false);
+            given(userDetailsService.loadPrincipalByUsername("testuser")).willReturn(current);
 
             // When
             jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
             // Then
             verify(securityContext).setAuthentication(any(UsernamePasswordAuthenticationToken.class));
+            verify(tokenVersionRegistry).update(1L, 0);
             verify(filterChain).doFilter(request, response);
         }
 
         @Test
-        @DisplayName("Should not set authentication when token is invalid")
+        @DisplayName("Should not set authentication when token version is stale")
         void shouldNotSetAuthenticationWhenTokenIsInvalid() throws ServletException, IOException {
             // Given
+            UserPrincipal current = new UserPrincipal(1L, "testuser", null, 1, userDetails.getAuthorities());
             given(request.getHeader("Authorization")).willReturn("Bearer " + validToken);
-            given(tokenProvider.getUsernameFromToken(validToken)).willReturn(userDetails.getUsername());
-            given(userDetailsService.loadUserByUsername(userDetails.getUsername())).willReturn(userDetails);
-            given(tokenProvider.validateToken(validToken, userDetails)).willReturn(false);
+            given(tokenProvider.parseToken(validToken)).willReturn(parsedToken);
+            given(tokenVersionRegistry.isCurrent(any(UserPrincipal.class))).willReturn(false);
+            given(userDetailsService.loadPrincipalByUsername("testuser")).willReturn(current);
 
             // When
             jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
             // Then
             verify(securityContext, never()).setAuthentication(any());
+            verify(tokenVersionRegistry, never()).update(anyLong(), anyInt());
+            verify(filterChain).doFilter(request, response);
+        }
+
+        @Test
+        @DisplayName("Should not set authentication when the token has been revoked")
+        void shouldNotSetAuthenticationWhenTokenIsRevoked() throws ServletException, IOException {
+            // Given
+            given(request.getHeader("Authorization")).willReturn("Bearer " + validToken);
+            given(tokenProvider.parseToken(validToken)).willReturn(parsedToken);
+            given(tokenRevocationService.isRevoked(parsedToken)).willReturn(true);
+
+            // When
+            jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+            // Then
+            verify(securityContext, never()).setAuthentication(any());
+            verifyNoInteractions(tokenVersionRegistry, userDetailsService);
             verify(filterChain).doFilter(request, response);
         }
 
@@ -133,8 +183,8 @@ class JwtAuthenticationFilterTest {
             jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
             // Then
-            verify(tokenProvider, never()).getUsernameFromToken(anyString());
-            verify(userDetailsService, never()).loadUserByUsername(anyString());
+            verify(tokenProvider, never()).parseToken(anyString());
+            verify(userDetailsService, never()).loadPrincipalByUsername(anyString());
             verify(securityContext, never()).setAuthentication(any());
             verify(filterChain).doFilter(request, response);
         }
@@ -149,8 +199,8 @@ class JwtAuthenticationFilterTest {
             jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
             // Then
-            verify(tokenProvider, never()).getUsernameFromToken(anyString());
-            verify(userDetailsService, never()).loadUserByUsername(anyString());
+            verify(tokenProvider, never()).parseToken(anyString());
+            verify(userDetailsService, never()).loadPrincipalByUsername(anyString());
             verify(securityContext, never()).setAuthentication(any());
             verify(filterChain).doFilter(request, response);
         }
@@ -160,7 +210,7 @@ class JwtAuthenticationFilterTest {
         void shouldNotSetAuthenticationAndContinueFilterChainWhenExceptionOccurs() throws ServletException, IOException {
             // Given
             given(request.getHeader("Authorization")).willReturn("Bearer " + validToken);
-            given(tokenProvider.getUsernameFromToken(validToken)).willThrow(new RuntimeException("Token error"));
+            given(tokenProvider.parseToken(validToken)).willThrow(new RuntimeException("Token error"));
 
             // When
             jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -180,22 +230,15 @@ class JwtAuthenticationFilterTest {
         void shouldExtractJwtFromAuthorizationHeaderCorrectly() throws ServletException, IOException {
             // Given
             given(request.getHeader("Authorization")).willReturn("Bearer " + validToken);
-            given(tokenProvider.getUsernameFromToken(validToken)).willReturn(userDetails.getUsername());
-            given(userDetailsService.loadUserByUsername(userDetails.getUsername())).willReturn(userDetails);
-            given(tokenProvider.validateToken(validToken, userDetails)).willReturn(true);
-
-            // Set up a mock UsernamePasswordAuthenticationToken to be compared with what's created in the filter
-            UsernamePasswordAuthenticationToken expectedAuth = new UsernamePasswordAuthenticationToken(
-                    userDetails, null, userDetails.getAuthorities());
-            expectedAuth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            given(tokenProvider.parseToken(validToken)).willReturn(parsedToken);
+            given(tokenVersionRegistry.isCurrent(any(UserPrincipal.class))).willReturn(true);
 
             // When
             jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
             // Then
             // Verify tokenProvider was called with the correct token
-            verify(tokenProvider).getUsernameFromToken(validToken);
-            verify(tokenProvider).validateToken(validToken, userDetails);
+            verify(tokenProvider).parseToken(validToken);
 
             // Verify authentication was set
             verify(securityContext).setAuthentication(any(UsernamePasswordAuthenticationToken.class));
@@ -211,7 +254,7 @@ class JwtAuthenticationFilterTest {
             jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
             // Then
-            verify(tokenProvider, never()).getUsernameFromToken(anyString());
+            verify(tokenProvider, never()).parseToken(anyString());
             verify(filterChain).doFilter(request, response);
         }
     }
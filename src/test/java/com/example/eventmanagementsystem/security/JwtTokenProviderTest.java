@@ -4,25 +4,26 @@ import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.test.util.ReflectionTestUtils;
 
 import java.security.Key;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -32,7 +33,6 @@ import static org.mockito.Mockito.when;
 @DisplayName("JWT Token Provider Tests")
 class JwtTokenProviderTest {
 
-    @InjectMocks
     private JwtTokenProvider tokenProvider;
 
     @Mock
@@ -61,12 +61,11 @@ class JwtTokenProviderTest {
                 authorities
         );
 
-        // Set JWT properties via reflection
+        // Set JWT properties
         jwtSecret = "thisIsAVerySecureSecretKeyForTestingPurposesOnlyDoNotUseInProduction";
         jwtExpirationInMs = 3600000; // 1 hour
 
-        ReflectionTestUtils.setField(tokenProvider, "jwtSecret", jwtSecret);
-        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationInMs", jwtExpirationInMs);
+        tokenProvider = new JwtTokenProvider(jwtSecret, jwtExpirationInMs, new VerifiedTokenCache(false, 0));
 
         // Mock authentication
         when(authentication.getPrincipal()).thenReturn(userDetails);
@@ -128,6 +127,81 @@ class JwtTokenProviderTest {
         }
     }
 
+    @Nested
+    @DisplayName("Principal Claims Tests")
+    class PrincipalClaimsTests {
+
+        @Test
+        @DisplayName("Should round-trip user id, roles and token version through the claims")
+        void shouldBuildPrincipalFromClaims() {
+            // Given
+            UserPrincipal principal = new UserPrincipal(42L, "testuser", "password", 3, userDetails.getAuthorities());
+            when(authentication.getPrincipal()).thenReturn(principal);
+            String token = tokenProvider.generateToken(authentication);
+
+            // When
+            UserPrincipal fromToken = tokenProvider.parseToken(token).toPrincipal();
+
+            // Then
+            assertEquals(42L, fromToken.getId());
+            assertEquals("testuser", fromToken.getUsername());
+            assertEquals(3, fromToken.getTokenVersion());
+            assertNull(fromToken.getPassword());
+            assertEquals(2, fromToken.getAuthorities().size());
+            assertTrue(fromToken.getAuthorities().contains(new SimpleGrantedAuthority("ROLE_ADMIN")));
+        }
+
+        @Test
+        @DisplayName("Should treat tokens without user claims as version 0")
+        void shouldDefaultMissingClaims() {
+            // Given
+            String token = tokenProvider.generateToken(authentication);
+
+            // When
+            UserPrincipal fromToken = tokenProvider.parseToken(token).toPrincipal();
+
+            // Then
+            assertNull(fromToken.getId());
+            assertEquals(0, fromToken.getTokenVersion());
+        }
+    }
+
+    @Nested
+    @DisplayName("Parse Once Tests")
+    class ParseOnceTests {
+
+        @Test
+        @DisplayName("Should extract subject and timestamps in a single parse")
+        void shouldExtractEverythingInOneParse() {
+            // Given
+            String token = tokenProvider.generateToken(authentication);
+
+            // When
+            ParsedToken parsedToken = tokenProvider.parseToken(token);
+
+            // Then
+            assertEquals("testuser", parsedToken.getUsername());
+            assertEquals(2, parsedToken.getAuthorities().size());
+            assertTrue(parsedToken.getAuthorities().containsAll(List.of("ROLE_USER", "ROLE_ADMIN")));
+            assertNotNull(parsedToken.getIssuedAt());
+            assertFalse(parsedToken.isExpired(Instant.now()));
+            assertThrows(UnsupportedOperationException.class, () -> parsedToken.getAuthorities().add("ROLE_X"));
+        }
+
+        @Test
+        @DisplayName("Should reject a token signed with a different key")
+        void shouldRejectTokenSignedWithDifferentKey() {
+            // Given
+            JwtTokenProvider otherProvider = new JwtTokenProvider(
+                    "anotherVerySecureSecretKeyForTestingPurposesOnlyDoNotUseInProduction", jwtExpirationInMs,
+                    new VerifiedTokenCache(false, 0));
+            String token = otherProvider.generateToken(authentication);
+
+            // When & Then
+            assertThrows(SignatureException.class, () -> tokenProvider.parseToken(token));
+        }
+    }
+
     @Nested
     @DisplayName("Token Validation Tests")
     class TokenValidationTests {
@@ -170,18 +244,16 @@ class JwtTokenProviderTest {
         @DisplayName("Should not validate expired token")
         void shouldNotValidateExpiredToken() throws Exception {
             // Given
-            // Set a very short expiration for this test
+            // Use a very short expiration for this test
             long shortExpiration = 1; // 1ms
-            ReflectionTestUtils.setField(tokenProvider, "jwtExpirationInMs", shortExpiration);
+            JwtTokenProvider shortLivedProvider = new JwtTokenProvider(
+                    jwtSecret, shortExpiration, new VerifiedTokenCache(false, 0));
 
-            String token = tokenProvider.generateToken(authentication);
+            String token = shortLivedProvider.generateToken(authentication);
 
             // Wait for token to expire
             TimeUnit.MILLISECONDS.sleep(10);
 
-            // Reset original expiration
-            ReflectionTestUtils.setField(tokenProvider, "jwtExpirationInMs", jwtExpirationInMs);
-
             // When & Then
             assertThrows(ExpiredJwtException.class, () -> {
                 tokenProvider.getUsernameFromToken(token);
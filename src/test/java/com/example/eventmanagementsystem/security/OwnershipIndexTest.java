@@ -0,0 +1,195 @@
+package com.example.eventmanagementsystem.security;
+
+import com.example.eventmanagementsystem.model.Event;
+import com.example.eventmanagementsystem.model.Registration;
+import com.example.eventmanagementsystem.model.User;
+import com.example.eventmanagementsystem.repository.EventRepository;
+import com.example.eventmanagementsystem.repository.RegistrationRepository;
+import com.example.eventmanagementsystem.repository.UserRepository;
+import com.example.eventmanagementsystem.repository.projection.EventOwnershipView;
+import com.example.eventmanagementsystem.repository.projection.RegistrationOwnershipView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Ownership Index Tests")
+class OwnershipIndexTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RegistrationRepository registrationRepository;
+
+    private OwnershipIndex ownershipIndex;
+
+    private User organizer;
+    private User attendee;
+    private Event event;
+    private Registration registration;
+    private EventOwnershipView eventView;
+    private RegistrationOwnershipView registrationView;
+
+    @BeforeEach
+    void setUp() {
+        ownershipIndex = new OwnershipIndex(eventRepository, userRepository, registrationRepository, 100);
+
+        organizer = User.builder().id(1L).username("organizer").build();
+        attendee = User.builder().id(2L).username("attendee").build();
+        event = Event.builder().id(10L).organizer(organizer).build();
+        registration = Registration.builder().id(100L).user(attendee).event(event).build();
+
+        eventView = new EventOwnershipView() {
+            public Long getOrganizerId() { return 1L; }
+            public String getOrganizerUsername() { return "organizer"; }
+        };
+        registrationView = new RegistrationOwnershipView() {
+            public Long getUserId() { return 2L; }
+            public String getUsername() { return "attendee"; }
+            public Long getEventId() { return 10L; }
+            public Long getOrganizerId() { return 1L; }
+            public String getOrganizerUsername() { return "organizer"; }
+        };
+    }
+
+    @Test
+    @DisplayName("Should load an event's organizer once and serve repeats from memory")
+    void shouldLoadOrganizerOnce() {
+        // Given
+        given(eventRepository.findOwnershipById(10L)).willReturn(Optional.of(eventView));
+
+        // When
+        OwnershipIndex.Owner first = ownershipIndex.findOrganizer(10L);
+        OwnershipIndex.Owner second = ownershipIndex.findOrganizer(10L);
+
+        // Then
+        assertEquals(new OwnershipIndex.Owner(1L, "organizer"), first);
+        assertSame(first, second);
+        verify(eventRepository, times(1)).findOwnershipById(10L);
+        verify(eventRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should not remember missing resources")
+    void shouldNotRememberMissingResources() {
+        // Given
+        given(eventRepository.findOwnershipById(99L)).willReturn(Optional.empty());
+
+        // When
+        ownershipIndex.findOrganizer(99L);
+        ownershipIndex.findOrganizer(99L);
+
+        // Then
+        verify(eventRepository, times(2)).findOwnershipById(99L);
+    }
+
+    @Test
+    @DisplayName("Should match a claims-based principal by id without touching the database")
+    void shouldMatchPrincipalById() {
+        // Given
+        UserPrincipal principal = UserPrincipal.fromClaims(2L, "attendee", 0, List.of("ROLE_USER"));
+
+        // When / Then
+        assertTrue(ownershipIndex.isUser(2L, principal));
+        assertFalse(ownershipIndex.isUser(1L, principal));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("Should match other principals by username")
+    void shouldMatchOtherPrincipalsByUsername() {
+        // Given
+        given(userRepository.findUsernameById(2L)).willReturn(Optional.of("attendee"));
+        org.springframework.security.core.userdetails.User principal =
+                new org.springframework.security.core.userdetails.User(
+                        "attendee", "password", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+
+        // When / Then
+        assertTrue(ownershipIndex.isUser(2L, principal));
+        assertTrue(ownershipIndex.isUser(2L, principal));
+        verify(userRepository, times(1)).findUsernameById(2L);
+    }
+
+    @Test
+    @DisplayName("Should forget an event and its registrations when the event is deleted")
+    void shouldForgetDeletedEvent() {
+        // Given
+        given(eventRepository.findOwnershipById(10L)).willReturn(Optional.of(eventView));
+        given(registrationRepository.findOwnershipById(100L)).willReturn(Optional.of(registrationView));
+        ownershipIndex.findOrganizer(10L);
+        ownershipIndex.findRegistrationOwner(100L);
+
+        // When
+        ownershipIndex.onEventDeleted(10L);
+        ownershipIndex.findOrganizer(10L);
+        ownershipIndex.findRegistrationOwner(100L);
+
+        // Then
+        verify(eventRepository, times(2)).findOwnershipById(10L);
+        verify(registrationRepository, times(2)).findOwnershipById(100L);
+    }
+
+    @Test
+    @DisplayName("Should forget a deleted user's events and registrations")
+    void shouldForgetDeletedUser() {
+        // Given
+        given(eventRepository.findOwnershipById(10L)).willReturn(Optional.of(eventView));
+        given(registrationRepository.findOwnershipById(100L)).willReturn(Optional.of(registrationView));
+        ownershipIndex.findOrganizer(10L);
+        ownershipIndex.findRegistrationOwner(100L);
+
+        // When
+        ownershipIndex.onUserDeleted(1L);
+        ownershipIndex.findOrganizer(10L);
+        ownershipIndex.findRegistrationOwner(100L);
+
+        // Then
+        verify(eventRepository, times(2)).findOwnershipById(10L);
+        verify(registrationRepository, times(2)).findOwnershipById(100L);
+    }
+
+    @Test
+    @DisplayName("Should forget entries naming a renamed user")
+    void shouldForgetRenamedUser() {
+        // Given
+        given(registrationRepository.findOwnershipById(100L)).willReturn(Optional.of(registrationView));
+        ownershipIndex.findRegistrationOwner(100L);
+
+        // When
+        ownershipIndex.onUserRenamed(1L);
+        ownershipIndex.findRegistrationOwner(100L);
+
+        // Then
+        verify(registrationRepository, times(2)).findOwnershipById(100L);
+    }
+
+    @Test
+    @DisplayName("Should serve newly created registrations without loading them")
+    void shouldServeCreatedRegistration() {
+        // When
+        ownershipIndex.onRegistrationCreated(registration);
+        OwnershipIndex.RegistrationOwner owner = ownershipIndex.findRegistrationOwner(100L);
+
+        // Then
+        assertEquals(new OwnershipIndex.Owner(2L, "attendee"), owner.user());
+        assertEquals(10L, owner.eventId());
+        assertEquals(new OwnershipIndex.Owner(1L, "organizer"), owner.organizer());
+        verifyNoInteractions(registrationRepository);
+    }
+}
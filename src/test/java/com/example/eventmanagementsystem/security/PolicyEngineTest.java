@@ -0,0 +1,162 @@
+package com.example.eventmanagementsystem.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationContext;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Policy Engine Tests")
+class PolicyEngineTest {
+
+    @Mock
+    private EventSecurity eventSecurity;
+
+    @Mock
+    private UserSecurity userSecurity;
+
+    @Mock
+    private RegistrationSecurity registrationSecurity;
+
+    @Mock
+    private ApplicationContext applicationContext;
+
+    @Mock
+    private RequestMappingHandlerMapping handlerMapping;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PolicyEngine policyEngine;
+
+    private final UserPrincipal admin = UserPrincipal.fromClaims(1L, "admin", 0, List.of("ROLE_ADMIN"));
+    private final UserPrincipal organizer = UserPrincipal.fromClaims(2L, "organizer", 0, List.of("ROLE_ORGANIZER"));
+    private final UserPrincipal user = UserPrincipal.fromClaims(3L, "user", 0, List.of("ROLE_USER"));
+
+    @BeforeEach
+    void setUp() {
+        policyEngine = new PolicyEngine(eventSecurity, userSecurity, registrationSecurity,
+                applicationContext, meterRegistryProvider);
+    }
+
+    @Test
+    @DisplayName("Should compile role policies into authority checks")
+    void shouldCompileRolePolicies() {
+        // When
+        CompiledPolicy.AccessRule adminOnly = policyEngine.compile(Policy.ADMIN);
+        CompiledPolicy.AccessRule organizerOrAdmin = policyEngine.compile(Policy.ORGANIZER_OR_ADMIN);
+
+        // Then
+        assertTrue(adminOnly.test(admin, null));
+        assertFalse(adminOnly.test(organizer, null));
+        assertTrue(organizerOrAdmin.test(organizer, null));
+        assertTrue(organizerOrAdmin.test(admin, null));
+        assertFalse(organizerOrAdmin.test(user, null));
+    }
+
+    @Test
+    @DisplayName("Should let admins through resource policies without an ownership lookup")
+    void shouldShortCircuitAdmins() {
+        // When
+        boolean granted = policyEngine.compile(Policy.REGISTRATION_PARTY_OR_ADMIN).test(admin, 10L);
+
+        // Then
+        assertTrue(granted);
+        verifyNoInteractions(registrationSecurity);
+    }
+
+    @Test
+    @DisplayName("Should delegate resource policies to the ownership beans")
+    void shouldDelegateResourcePolicies() {
+        // Given
+        given(userSecurity.isSameUser(3L, user)).willReturn(true);
+        given(eventSecurity.isOrganizerOrAdmin(10L, user)).willReturn(false);
+
+        // When / Then
+        assertTrue(policyEngine.compile(Policy.SAME_USER_OR_ADMIN).test(user, 3L));
+        assertFalse(policyEngine.compile(Policy.EVENT_ORGANIZER_OR_ADMIN).test(user, 10L));
+        assertFalse(policyEngine.compile(Policy.SAME_USER_OR_ADMIN).test(user, null));
+        verify(userSecurity, times(1)).isSameUser(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should compile annotated handlers at startup and count decisions per endpoint")
+    void shouldCompileHandlersAndCountDecisions() throws Exception {
+        // Given
+        givenHandler("/api/things/{userId}", "getThing");
+        given(meterRegistryProvider.getIfAvailable()).willReturn(meterRegistry);
+        given(userSecurity.isSameUser(any(), any())).willAnswer(invocation -> invocation.getArgument(0).equals(3L));
+
+        // When
+        policyEngine.afterSingletonsInstantiated();
+        CompiledPolicy policy = policyEngine.policyFor(TestController.class.getMethod("getThing", Long.class));
+        policy.check(user, Map.of("userId", "3"));
+        policy.check(user, Map.of("userId", "4"));
+        policy.check(null, Map.of("userId", "3"));
+        policy.check(user, Map.of("userId", "not-a-number"));
+
+        // Then
+        assertEquals("TestController.getThing", policy.getEndpoint());
+        assertEquals(Policy.SAME_USER_OR_ADMIN, policy.getPolicy());
+        assertEquals(1, meterRegistry.get(PolicyEngine.METRIC_NAME)
+                .tag("endpoint", "TestController.getThing").tag("outcome", "allow").functionCounter().count());
+        assertEquals(3, meterRegistry.get(PolicyEngine.METRIC_NAME)
+                .tag("endpoint", "TestController.getThing").tag("outcome", "deny").functionCounter().count());
+        assertNull(policyEngine.policyFor(TestController.class.getMethod("open")));
+    }
+
+    @Test
+    @DisplayName("Should fail at startup when a policy names a missing path variable")
+    void shouldRejectMissingPathVariable() throws Exception {
+        // Given
+        givenHandler("/api/things/{id}", "getThing");
+
+        // When / Then
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> policyEngine.afterSingletonsInstantiated());
+        assertTrue(exception.getMessage().contains("{userId}"));
+    }
+
+    private void givenHandler(String pattern, String methodName) throws Exception {
+        Method method = TestController.class.getMethod(methodName, Long.class);
+        Method open = TestController.class.getMethod("open");
+        TestController controller = new TestController();
+        given(applicationContext.getBeansOfType(RequestMappingHandlerMapping.class))
+                .willReturn(Map.of("requestMappingHandlerMapping", handlerMapping));
+        given(handlerMapping.getHandlerMethods()).willReturn(Map.of(
+                RequestMappingInfo.paths(pattern).build(), new HandlerMethod(controller, method),
+                RequestMappingInfo.paths("/api/things").build(), new HandlerMethod(controller, open)));
+    }
+
+    static class TestController {
+
+        @Authorize(value = Policy.SAME_USER_OR_ADMIN, resource = "userId")
+        public String getThing(Long userId) {
+            return "thing";
+        }
+
+        public String open() {
+            return "open";
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.eventmanagementsystem.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Registration Security Tests")
+class RegistrationSecurityTest {
+
+    @Mock
+    private OwnershipIndex ownershipIndex;
+
+    private RegistrationSecurity registrationSecurity;
+
+    private OwnershipIndex.RegistrationOwner owner;
+
+    @BeforeEach
+    void setUp() {
+        registrationSecurity = new RegistrationSecurity(ownershipIndex);
+        owner = new OwnershipIndex.RegistrationOwner(
+                new OwnershipIndex.Owner(2L, "attendee"), 10L, new OwnershipIndex.Owner(1L, "organizer"));
+    }
+
+    @Test
+    @DisplayName("Should allow admins without looking up the registration")
+    void shouldAllowAdminWithoutLookup() {
+        // Given
+        UserPrincipal admin = UserPrincipal.fromClaims(3L, "admin", 0, List.of("ROLE_ADMIN"));
+
+        // When / Then
+        assertTrue(registrationSecurity.isUserOrEventOrganizer(100L, admin));
+        verifyNoInteractions(ownershipIndex);
+    }
+
+    @Test
+    @DisplayName("Should allow the registrant and the organizer with a single lookup each")
+    void shouldAllowRegistrantAndOrganizer() {
+        // Given
+        UserPrincipal attendee = UserPrincipal.fromClaims(2L, "attendee", 0, List.of("ROLE_USER"));
+        UserPrincipal organizer = UserPrincipal.fromClaims(1L, "organizer", 0, List.of("ROLE_ORGANIZER"));
+        given(ownershipIndex.findRegistrationOwner(100L)).willReturn(owner);
+        given(ownershipIndex.isUser(any(OwnershipIndex.Owner.class), any())).willCallRealMethod();
+
+        // When / Then
+        assertTrue(registrationSecurity.isUserOrEventOrganizer(100L, attendee));
+        assertTrue(registrationSecurity.isUserOrEventOrganizer(100L, organizer));
+        verify(ownershipIndex, times(2)).findRegistrationOwner(100L);
+        verify(ownershipIndex, never()).findOrganizer(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should deny other users and unknown registrations")
+    void shouldDenyOtherUsers() {
+        // Given
+        UserPrincipal stranger = UserPrincipal.fromClaims(4L, "stranger", 0, List.of("ROLE_USER"));
+        given(ownershipIndex.findRegistrationOwner(100L)).willReturn(owner);
+        given(ownershipIndex.findRegistrationOwner(999L)).willReturn(null);
+        given(ownershipIndex.isUser(any(OwnershipIndex.Owner.class), any())).willCallRealMethod();
+
+        // When / Then
+        assertFalse(registrationSecurity.isUserOrEventOrganizer(100L, stranger));
+        assertFalse(registrationSecurity.isUserOrEventOrganizer(999L, stranger));
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.eventmanagementsystem.security;
+
+import com.example.eventmanagementsystem.model.RevokedToken;
+import com.example.eventmanagementsystem.repository.RevokedTokenRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Token Revocation Service Tests")
+class TokenRevocationServiceTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private TokenRevocationService tokenRevocationService;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationService = new TokenRevocationService(revokedTokenRepository, 1000, 0.01);
+        tokenRevocationService.bindTo(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should clear unrevoked tokens from memory without a database lookup")
+    void shouldClearUnrevokedTokensInMemory() {
+        // When
+        boolean revoked = tokenRevocationService.isRevoked(token("fresh-token"));
+
+        // Then
+        assertFalse(revoked);
+        verify(revokedTokenRepository, never()).existsById(any());
+        assertEquals(1, checks("negative"));
+    }
+
+    @Test
+    @DisplayName("Should ignore tokens issued without a jti")
+    void shouldIgnoreTokensWithoutId() {
+        // When / Then
+        assertFalse(tokenRevocationService.isRevoked(token(null)));
+        verifyNoInteractions(revokedTokenRepository);
+    }
+
+    @Test
+    @DisplayName("Should store a revoked token and confirm filter hits against the database")
+    void shouldRevokeAndConfirm() {
+        // Given
+        ParsedToken token = token("revoked-token");
+        given(revokedTokenRepository.existsById("revoked-token")).willReturn(true);
+
+        // When
+        tokenRevocationService.revoke(token);
+        boolean revoked = tokenRevocationService.isRevoked(token);
+
+        // Then
+        assertTrue(revoked);
+        verify(revokedTokenRepository).save(any(RevokedToken.class));
+        assertEquals(1, checks("revoked"));
+    }
+
+    @Test
+    @DisplayName("Should not store tokens that have already expired")
+    void shouldSkipExpiredTokens() {
+        // Given
+        ParsedToken expired = new ParsedToken("old-token", "user", 1L, 0, List.of("ROLE_USER"),
+                Instant.now().minusSeconds(7200), Instant.now().minusSeconds(3600));
+
+        // When
+        tokenRevocationService.revoke(expired);
+
+        // Then
+        verify(revokedTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should rebuild the filter from active rows after purging expired ones")
+    void shouldRebuildFromDatabase() {
+        // Given
+        given(revokedTokenRepository.findActiveTokenIds(any())).willReturn(List.of("revoked-elsewhere"));
+        given(revokedTokenRepository.existsById("revoked-elsewhere")).willReturn(true);
+
+        // When
+        tokenRevocationService.rebuild();
+
+        // Then
+        verify(revokedTokenRepository).deleteExpired(any());
+        assertTrue(tokenRevocationService.isRevoked(token("revoked-elsewhere")));
+        assertEquals(1, meterRegistry.get("jwt.revocation.filter.entries").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should keep local revocations across a rebuild that did not see them")
+    void shouldKeepLocalRevocationsAcrossRebuild() {
+        // Given
+        given(revokedTokenRepository.findActiveTokenIds(any())).willReturn(List.of());
+        given(revokedTokenRepository.existsById("revoked-token")).willReturn(true);
+        tokenRevocationService.revoke(token("revoked-token"));
+
+        // When
+        tokenRevocationService.rebuild();
+
+        // Then
+        assertTrue(tokenRevocationService.isRevoked(token("revoked-token")));
+    }
+
+    private double checks(String result) {
+        return meterRegistry.get("jwt.revocation.checks").tag("result", result).functionCounter().count();
+    }
+
+    private static ParsedToken token(String tokenId) {
+        return new ParsedToken(tokenId, "user", 1L, 0, List.of("ROLE_USER"),
+                Instant.now(), Instant.now().plusSeconds(3600));
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.eventmanagementsystem.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Verified Token Cache Tests")
+class VerifiedTokenCacheTest {
+
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    private final Function<String, ParsedToken> verifier = token -> {
+        verifications.incrementAndGet();
+        return parsedToken(token, Instant.now().plusSeconds(3600));
+    };
+
+    @Test
+    @DisplayName("Should verify a repeated token only once")
+    void shouldVerifyRepeatedTokenOnce() {
+        // Given
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100);
+
+        // When
+        ParsedToken first = cache.get("header.payload.signature", verifier);
+        ParsedToken second = cache.get("header.payload.signature", verifier);
+
+        // Then
+        assertSame(first, second);
+        assertEquals(1, verifications.get());
+    }
+
+    @Test
+    @DisplayName("Should verify every call when disabled")
+    void shouldVerifyEveryCallWhenDisabled() {
+        // Given
+        VerifiedTokenCache cache = new VerifiedTokenCache(false, 0);
+
+        // When
+        cache.get("header.payload.signature", verifier);
+        cache.get("header.payload.signature", verifier);
+
+        // Then
+        assertFalse(cache.isEnabled());
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    @DisplayName("Should not serve a cached result once the token has expired")
+    void shouldNotServeExpiredToken() {
+        // Given
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100);
+        cache.get("expired.token.signature", token -> parsedToken(token, Instant.now().minusSeconds(1)));
+
+        // When
+        cache.get("expired.token.signature", verifier);
+
+        // Then
+        assertEquals(1, verifications.get());
+    }
+
+    @Test
+    @DisplayName("Should not propagate verification failures into the cache")
+    void shouldNotCacheFailures() {
+        // Given
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100);
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> cache.get("bad.token.signature", token -> {
+            throw new IllegalStateException("bad signature");
+        }));
+        cache.get("bad.token.signature", verifier);
+        assertEquals(1, verifications.get());
+    }
+
+    @Test
+    @DisplayName("Should publish hit and miss counts")
+    void shouldPublishHitAndMissCounts() {
+        // Given
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        // When
+        cache.get("header.payload.signature", verifier);
+        cache.get("header.payload.signature", verifier);
+
+        // Then
+        assertEquals(1.0, registry.get("cache.gets")
+                .tag("cache", VerifiedTokenCache.CACHE_NAME).tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets")
+                .tag("cache", VerifiedTokenCache.CACHE_NAME).tag("result", "miss").functionCounter().count());
+    }
+
+    private static ParsedToken parsedToken(String token, Instant expiration) {
+        return new ParsedToken("token-id", "user", 1L, 0, List.of("ROLE_USER"), Instant.now(), expiration);
+    }
+}
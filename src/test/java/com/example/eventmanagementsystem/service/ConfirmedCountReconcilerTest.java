@@ -0,0 +1,56 @@
+package com.example.eventmanagementsystem.service;
+
+import com.example.eventmanagementsystem.repository.EventRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Confirmed Count Reconciler Tests")
+class ConfirmedCountReconcilerTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @InjectMocks
+    private ConfirmedCountReconciler reconciler;
+
+    @Test
+    @DisplayName("Should recount only the events whose counter drifted")
+    void shouldRecountDriftedEvents() {
+        // Given
+        given(eventRepository.findIdsWithConfirmedCountDrift()).willReturn(List.of(3L, 7L));
+        given(eventRepository.recountConfirmed(List.of(3L, 7L))).willReturn(2);
+
+        // When
+        int repaired = reconciler.reconcile();
+
+        // Then
+        assertThat(repaired).isEqualTo(2);
+        verify(eventRepository).recountConfirmed(List.of(3L, 7L));
+    }
+
+    @Test
+    @DisplayName("Should not write when every counter matches")
+    void shouldSkipWhenNothingDrifted() {
+        // Given
+        given(eventRepository.findIdsWithConfirmedCountDrift()).willReturn(List.of());
+
+        // When
+        int repaired = reconciler.reconcile();
+
+        // Then
+        assertThat(repaired).isZero();
+        verify(eventRepository, never()).recountConfirmed(any());
+    }
+}
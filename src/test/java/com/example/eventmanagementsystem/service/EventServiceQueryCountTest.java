@@ -0,0 +1,163 @@
+package com.example.eventmanagementsystem.service;
+
+import com.example.eventmanagementsystem.dto.CursorPage;
+import com.example.eventmanagementsystem.dto.EventDTO;
+import com.example.eventmanagementsystem.model.Event;
+import com.example.eventmanagementsystem.model.Registration;
+import com.example.eventmanagementsystem.model.User;
+import com.example.eventmanagementsystem.search.EventSearchIndex;
+import com.example.eventmanagementsystem.security.OwnershipIndex;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(EventService.class)
+@ActiveProfiles("test")
+@DisplayName("Event Service Query Count Tests")
+public class EventServiceQueryCountTest {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private OwnershipIndex ownershipIndex;
+
+    @MockBean
+    private SeatInventory seatInventory;
+
+    @MockBean
+    private WaitlistService waitlistService;
+
+    @MockBean
+    private EventSearchIndex searchIndex;
+
+    private Statistics statistics;
+    private User organizer;
+    private List<User> attendees;
+    private int eventCount;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        organizer = entityManager.persist(user("organizer"));
+        attendees = List.of(entityManager.persist(user("attendee1")), entityManager.persist(user("attendee2")));
+    }
+
+    @Test
+    @DisplayName("Should read each page with a constant number of queries as the dataset grows")
+    void shouldKeepListQueryCountFlat() {
+        // Given
+        seedEvents(5);
+        long smallAll = countQueries(cursor -> eventService.findAllEvents(cursor, PAGE_SIZE));
+        long smallPublished = countQueries(cursor -> eventService.findAllPublishedEvents(cursor, PAGE_SIZE));
+        long smallSearch = countQueries(cursor -> eventService.searchEvents("event", null, null, false, cursor, PAGE_SIZE));
+        long smallByOrganizer = countQueries(cursor -> eventService.findEventsByOrganizer(organizer.getId(), cursor, PAGE_SIZE));
+
+        // When
+        seedEvents(45);
+        long largeAll = countQueries(cursor -> eventService.findAllEvents(cursor, PAGE_SIZE));
+        long largePublished = countQueries(cursor -> eventService.findAllPublishedEvents(cursor, PAGE_SIZE));
+        long largeSearch = countQueries(cursor -> eventService.searchEvents("event", null, null, false, cursor, PAGE_SIZE));
+        long largeByOrganizer = countQueries(cursor -> eventService.findEventsByOrganizer(organizer.getId(), cursor, PAGE_SIZE));
+
+        // Then
+        assertThat(smallAll).isEqualTo(1);
+        assertThat(largeAll).isEqualTo(smallAll);
+        assertThat(largePublished).isEqualTo(smallPublished);
+        assertThat(largeSearch).isEqualTo(smallSearch);
+        assertThat(largeByOrganizer).isEqualTo(smallByOrganizer);
+    }
+
+    @Test
+    @DisplayName("Should report organizer name and confirmed count from the event row")
+    void shouldFillCountsAndOrganizer() {
+        // Given
+        seedEvents(3);
+
+        // When
+        List<EventDTO> events = eventService.findAllEvents(null, PAGE_SIZE).getItems();
+
+        // Then
+        assertThat(events).hasSize(3);
+        assertThat(events).allSatisfy(event -> {
+            assertThat(event.getOrganizerName()).isEqualTo("organizer Name");
+            assertThat(event.getRegistrationCount()).isEqualTo(2);
+            assertThat(event.getAvailableSpots()).isEqualTo(98);
+        });
+    }
+
+    // Helper methods
+    // Walks every page and returns the statements prepared for the last one
+    private long countQueries(Function<String, CursorPage<EventDTO>> call) {
+        int seen = 0;
+        String cursor = null;
+        long queries;
+        do {
+            entityManager.clear();
+            statistics.clear();
+            CursorPage<EventDTO> page = call.apply(cursor);
+            queries = statistics.getPrepareStatementCount();
+            assertThat(page.getItems()).hasSizeLessThanOrEqualTo(PAGE_SIZE);
+            seen += page.getItems().size();
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        assertThat(seen).isEqualTo(eventCount);
+        return queries;
+    }
+
+    private void seedEvents(int count) {
+        for (int i = 0; i < count; i++) {
+            Event event = entityManager.persist(Event.builder()
+                    .name("Event " + (eventCount + i))
+                    .description("Seeded event")
+                    .startTime(LocalDateTime.now().plusDays(1))
+                    .endTime(LocalDateTime.now().plusDays(1).plusHours(2))
+                    .capacity(100)
+                    .published(true)
+                    .confirmedCount(attendees.size())
+                    .organizer(organizer)
+                    .build());
+            for (User attendee : attendees) {
+                entityManager.persist(Registration.builder().user(attendee).event(event).build());
+            }
+        }
+        eventCount += count;
+        entityManager.flush();
+    }
+
+    private static User user(String username) {
+        return User.builder()
+                .username(username)
+                .password("password")
+                .email(username + "@example.com")
+                .fullName(username + " Name")
+                .roles(new HashSet<>(Set.of("USER")))
+                .build();
+    }
+}
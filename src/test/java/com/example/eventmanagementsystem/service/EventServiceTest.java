@@ -1,5 +1,6 @@
 package com.example.eventmanagementsystem.service;
 
+import com.example.eventmanagementsystem.dto.CursorPage;
 import com.example.eventmanagementsystem.dto.EventDTO;
 import com.example.eventmanagementsystem.exception.ApiException;
 import com.example.eventmanagementsystem.exception.ResourceNotFoundException;
@@ -7,6 +8,8 @@ import com.example.eventmanagementsystem.model.Event;
 import com.example.eventmanagementsystem.model.User;
 import com.example.eventmanagementsystem.repository.EventRepository;
 import com.example.eventmanagementsystem.repository.UserRepository;
+import com.example.eventmanagementsystem.search.EventSearchIndex;
+import com.example.eventmanagementsystem.security.OwnershipIndex;
 import com.example.eventmanagementsystem.util.TestUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +17,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -21,6 +28,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -37,6 +45,18 @@ public class EventServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private OwnershipIndex ownershipIndex;
+
+    @Mock
+    private SeatInventory seatInventory;
+
+    @Mock
+    private WaitlistService waitlistService;
+
+    @Mock
+    private EventSearchIndex searchIndex;
+
     @InjectMocks
     private EventService eventService;
 
@@ -72,30 +92,49 @@ public class EventServiceTest {
                 .registrations(new ArrayList<>()) // Initialize empty list
                 .build();
 
-        when(eventRepository.findAll()).thenReturn(Arrays.asList(testEvent, anotherEvent));
+        when(eventRepository.findBy(ScrollPosition.keyset(), Sort.by("startTime", "id"), Limit.of(2)))
+                .thenReturn(Window.from(Arrays.asList(testEvent, anotherEvent), ScrollPosition::offset, true));
 
         // When
-        List<EventDTO> events = eventService.findAllEvents();
+        CursorPage<EventDTO> page = eventService.findAllEvents(null, 2);
 
         // Then
-        assertThat(events).hasSize(2);
-        assertThat(events).extracting(EventDTO::getName)
+        assertThat(page.getItems()).hasSize(2);
+        assertThat(page.getItems()).extracting(EventDTO::getName)
                 .containsExactlyInAnyOrder("Test Event", "Another Event");
-        verify(eventRepository, times(1)).findAll();
+        assertThat(page.getNextCursor()).isNotNull();
+        verify(eventRepository, never()).findAll();
+    }
+
+    @Test
+    public void whenFindAllEvents_withCursor_thenContinueAfterItsStartTimeAndId() {
+        // Given
+        when(eventRepository.findBy(any(ScrollPosition.class), any(Sort.class), any(Limit.class)))
+                .thenReturn(Window.from(List.of(testEvent), ScrollPosition::offset, true));
+        String cursor = eventService.findAllEvents(null, 1).getNextCursor();
+
+        // When
+        eventService.findAllEvents(cursor, 1);
+
+        // Then
+        verify(eventRepository).findBy(
+                ScrollPosition.forward(Map.of("startTime", testEvent.getStartTime(), "id", testEvent.getId())),
+                Sort.by("startTime", "id"), Limit.of(1));
     }
 
     @Test
     public void whenFindAllPublishedEvents_thenReturnPublishedEventList() {
         // Given
-        when(eventRepository.findByPublishedTrue()).thenReturn(Collections.singletonList(testEvent));
+        when(eventRepository.findByPublishedTrue(any(ScrollPosition.class), any(Sort.class), eq(Limit.of(50))))
+                .thenReturn(Window.from(Collections.singletonList(testEvent), ScrollPosition::offset));
 
         // When
-        List<EventDTO> events = eventService.findAllPublishedEvents();
+        List<EventDTO> events = eventService.findAllPublishedEvents(null, 50).getItems();
 
         // Then
         assertThat(events).hasSize(1);
         assertThat(events.get(0).getName()).isEqualTo("Test Event");
-        verify(eventRepository, times(1)).findByPublishedTrue();
+        verify(eventRepository, times(1)).findByPublishedTrue(any(ScrollPosition.class), any(Sort.class), any(Limit.class));
     }
 
     @Test
@@ -237,6 +276,52 @@ public class EventServiceTest {
         assertThat(updatedEvent.getName()).isEqualTo("Updated Event");
         verify(eventRepository, times(1)).findById(1L);
         verify(eventRepository, times(1)).save(any(Event.class));
+        verify(waitlistService, times(1)).promote(1L);
+    }
+
+    @Test
+    public void whenUpdateEvent_withCapacityIncrease_thenPromoteWaitlistAndReportAvailability() {
+        // Given
+        testEvent.setCapacity(10);
+        testEvent.setConfirmedCount(10);
+        when(eventRepository.findById(anyLong())).thenReturn(Optional.of(testEvent));
+        when(eventRepository.save(any(Event.class))).thenReturn(testEvent);
+        when(waitlistService.promote(1L)).thenReturn(3);
+        // A concurrent registration took one more of the new seats
+        when(eventRepository.findConfirmedCountById(1L)).thenReturn(Optional.of(14));
+
+        EventDTO updateDTO = EventDTO.builder()
+                .name(testEvent.getName())
+                .startTime(LocalDateTime.now().plusDays(10))
+                .endTime(LocalDateTime.now().plusDays(10).plusHours(3))
+                .capacity(15)
+                .build();
+
+        // When
+        EventDTO updatedEvent = eventService.updateEvent(1L, updateDTO);
+
+        // Then
+        assertThat(updatedEvent.getAvailableSpots()).isEqualTo(1);
+    }
+
+    @Test
+    public void whenUpdateEvent_withCapacityDecrease_thenLeaveWaitlistAlone() {
+        // Given
+        when(eventRepository.findById(anyLong())).thenReturn(Optional.of(testEvent));
+        when(eventRepository.save(any(Event.class))).thenReturn(testEvent);
+
+        EventDTO updateDTO = EventDTO.builder()
+                .name(testEvent.getName())
+                .startTime(LocalDateTime.now().plusDays(10))
+                .endTime(LocalDateTime.now().plusDays(10).plusHours(3))
+                .capacity(testEvent.getCapacity() - 1)
+                .build();
+
+        // When
+        eventService.updateEvent(1L, updateDTO);
+
+        // Then
+        verifyNoInteractions(waitlistService);
     }
 
     @Test
@@ -251,6 +336,8 @@ public class EventServiceTest {
         // Then
         verify(eventRepository, times(1)).findById(1L);
         verify(eventRepository, times(1)).delete(testEvent);
+        verify(ownershipIndex, times(1)).onEventDeleted(1L);
+        verify(seatInventory, times(1)).deactivate(1L);
     }
 
     @Test
@@ -326,32 +413,123 @@ public class EventServiceTest {
         String category = "Category";
         LocalDate date = LocalDate.now().plusDays(7);
 
-        when(eventRepository.searchEvents(anyString(), anyString(), any(LocalDate.class)))
+        when(eventRepository.searchEvents(anyString(), anyString(), any(LocalDate.class), isNull(), isNull(), any(Limit.class)))
                 .thenReturn(Collections.singletonList(testEvent));
 
         // When
-        List<EventDTO> events = eventService.searchEvents(keyword, category, date);
+        CursorPage<EventDTO> page = eventService.searchEvents(keyword, category, date, false, null, 10);
 
         // Then
-        assertThat(events).hasSize(1);
-        assertThat(events.get(0).getName()).isEqualTo("Test Event");
-        verify(eventRepository, times(1)).searchEvents(keyword, category, date);
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.getItems().get(0).getName()).isEqualTo("Test Event");
+        assertThat(page.getNextCursor()).isNull();
+        // One extra row tells whether another page follows
+        verify(eventRepository, times(1)).searchEvents(keyword, category, date, null, null, Limit.of(11));
+    }
+
+    @Test
+    public void whenSearchEvents_withReadyIndex_thenReturnRankedPageFromIndex() {
+        // Given
+        Event secondEvent = Event.builder()
+                .id(2L)
+                .name("Second Event")
+                .startTime(testEvent.getStartTime())
+                .endTime(testEvent.getEndTime())
+                .published(true)
+                .organizer(organizer)
+                .build();
+        testEvent.setPublished(true);
+        EventSearchIndex.Hit best = new EventSearchIndex.Hit(2L, 3.5f);
+        EventSearchIndex.Hit next = new EventSearchIndex.Hit(1L, 1.25f);
+        EventSearchIndex.Hit beyondPage = new EventSearchIndex.Hit(3L, 0.5f);
+
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.search("event", null, null, null, 3)).thenReturn(List.of(best, next, beyondPage));
+        when(eventRepository.findByIdIn(List.of(2L, 1L))).thenReturn(List.of(testEvent, secondEvent));
+        when(searchIndex.search("event", null, null, next, 3)).thenReturn(List.of(beyondPage));
+
+        // When
+        CursorPage<EventDTO> first = eventService.searchEvents("event", null, null, false, null, 2);
+        eventService.searchEvents("event", null, null, false, first.getNextCursor(), 2);
+
+        // Then
+        assertThat(first.getItems()).extracting(EventDTO::getId).containsExactly(2L, 1L);
+        assertThat(first.getNextCursor()).isNotNull();
+        verify(searchIndex, times(1)).search("event", null, null, next, 3);
+        verify(eventRepository, never()).searchEvents(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    public void whenSearchEvents_withEveryHitOnPageGone_thenContinueAfterLastHit() {
+        // Given
+        EventSearchIndex.Hit unpublished = new EventSearchIndex.Hit(2L, 3.5f);
+        EventSearchIndex.Hit deleted = new EventSearchIndex.Hit(3L, 1.25f);
+        EventSearchIndex.Hit beyondPage = new EventSearchIndex.Hit(1L, 0.5f);
+        testEvent.setPublished(true);
+        Event unpublishedEvent = Event.builder().id(2L).published(false).organizer(organizer).build();
+
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.search("event", null, null, null, 3)).thenReturn(List.of(unpublished, deleted, beyondPage));
+        when(eventRepository.findByIdIn(List.of(2L, 3L))).thenReturn(List.of(unpublishedEvent));
+        when(searchIndex.search("event", null, null, deleted, 3)).thenReturn(List.of(beyondPage));
+        when(eventRepository.findByIdIn(List.of(1L))).thenReturn(List.of(testEvent));
+
+        // When
+        CursorPage<EventDTO> first = eventService.searchEvents("event", null, null, false, null, 2);
+        CursorPage<EventDTO> second = eventService.searchEvents("event", null, null, false, first.getNextCursor(), 2);
+
+        // Then
+        assertThat(first.getItems()).isEmpty();
+        assertThat(first.getNextCursor()).isNotNull();
+        assertThat(second.getItems()).extracting(EventDTO::getId).containsExactly(1L);
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    public void whenSearchEvents_withFuzzy_thenUseTrigramSearch() {
+        // Given
+        testEvent.setPublished(true);
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.fuzzySearch("tset evnt", null, null, null, 11))
+                .thenReturn(List.of(new EventSearchIndex.Hit(1L, 0.4f)));
+        when(eventRepository.findByIdIn(List.of(1L))).thenReturn(List.of(testEvent));
+
+        // When
+        CursorPage<EventDTO> page = eventService.searchEvents("tset evnt", null, null, true, null, 10);
+
+        // Then
+        assertThat(page.getItems()).extracting(EventDTO::getId).containsExactly(1L);
+        assertThat(page.getNextCursor()).isNull();
+        verify(searchIndex, never()).search(any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    public void whenDeleteEvent_thenRemoveFromSearchIndex() {
+        // Given
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
+
+        // When
+        eventService.deleteEvent(1L);
+
+        // Then
+        verify(searchIndex, times(1)).onEventDeleted(1L);
     }
 
     @Test
     public void whenFindEventsByOrganizer_withValidOrganizerId_thenReturnOrganizerEvents() {
         // Given
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(organizer));
-        when(eventRepository.findByOrganizerId(anyLong())).thenReturn(Collections.singletonList(testEvent));
+        when(eventRepository.findByOrganizerId(anyLong(), any(ScrollPosition.class), any(Sort.class), any(Limit.class)))
+                .thenReturn(Window.from(Collections.singletonList(testEvent), ScrollPosition::offset));
 
         // When
-        List<EventDTO> events = eventService.findEventsByOrganizer(3L);
+        List<EventDTO> events = eventService.findEventsByOrganizer(3L, null, 50).getItems();
 
         // Then
         assertThat(events).hasSize(1);
         assertThat(events.get(0).getName()).isEqualTo("Test Event");
         verify(userRepository, times(1)).findById(3L);
-        verify(eventRepository, times(1)).findByOrganizerId(3L);
+        verify(eventRepository, times(1)).findByOrganizerId(eq(3L), any(ScrollPosition.class), any(Sort.class), any(Limit.class));
     }
 
     @Test
@@ -361,9 +539,9 @@ public class EventServiceTest {
 
         // When & Then
         assertThrows(ResourceNotFoundException.class, () -> {
-            eventService.findEventsByOrganizer(999L);
+            eventService.findEventsByOrganizer(999L, null, 50);
         });
         verify(userRepository, times(1)).findById(999L);
-        verify(eventRepository, never()).findByOrganizerId(anyLong());
+        verify(eventRepository, never()).findByOrganizerId(anyLong(), any(), any(), any());
     }
 }
\ No newline at end of file
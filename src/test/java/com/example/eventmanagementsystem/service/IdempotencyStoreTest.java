@@ -0,0 +1,147 @@
+package com.example.eventmanagementsystem.service;
+
+import com.example.eventmanagementsystem.model.IdempotencyRecord;
+import com.example.eventmanagementsystem.repository.IdempotencyRecordRepository;
+import com.example.eventmanagementsystem.service.IdempotencyStore.Claim;
+import com.example.eventmanagementsystem.service.IdempotencyStore.StoredResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Idempotency Store Tests")
+class IdempotencyStoreTest {
+
+    private static final String SCOPE = IdempotencyStore.scope("user1", "POST", "/api/events", "key-1");
+
+    @Mock
+    private IdempotencyRecordRepository repository;
+
+    private IdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        // One day of retention, one minute before an unfinished claim counts as abandoned
+        store = new IdempotencyStore(repository, 86_400_000, 60_000, 100);
+    }
+
+    @Test
+    @DisplayName("Should scope keys by caller, method and URI")
+    void shouldScopeKeys() {
+        // When / Then
+        assertThat(SCOPE).hasSize(64);
+        assertThat(IdempotencyStore.scope("user2", "POST", "/api/events", "key-1")).isNotEqualTo(SCOPE);
+        assertThat(IdempotencyStore.scope("user1", "POST", "/api/registrations", "key-1")).isNotEqualTo(SCOPE);
+    }
+
+    @Test
+    @DisplayName("Should claim a new key and serve its response from memory afterwards")
+    void shouldClaimThenReplayFromMemory() {
+        // Given
+        StoredResponse response = response("{\"id\":1}");
+
+        // When
+        Claim first = store.claim(SCOPE);
+        store.complete(SCOPE, response);
+        Claim retry = store.claim(SCOPE);
+
+        // Then
+        assertThat(first.state()).isEqualTo(Claim.State.ACQUIRED);
+        assertThat(retry.state()).isEqualTo(Claim.State.REPLAY);
+        assertThat(retry.response()).isSameAs(response);
+        verify(repository, times(1)).insertInProgress(eq(SCOPE), any(), any());
+        verify(repository).complete(SCOPE, 201, "application/json", null, response.body());
+        verify(repository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Should replay a response stored by another instance")
+    void shouldReplayFromDatabase() {
+        // Given
+        givenKeyTaken(record(201, LocalDateTime.now().minusSeconds(5)));
+
+        // When
+        Claim claim = store.claim(SCOPE);
+
+        // Then
+        assertThat(claim.state()).isEqualTo(Claim.State.REPLAY);
+        assertThat(new String(claim.response().body(), StandardCharsets.UTF_8)).isEqualTo("{\"id\":1}");
+        assertThat(store.claim(SCOPE).state()).isEqualTo(Claim.State.REPLAY);
+        verify(repository, times(1)).findById(SCOPE);
+    }
+
+    @Test
+    @DisplayName("Should report a conflict while the first request is still running")
+    void shouldConflictWhileInProgress() {
+        // Given
+        givenKeyTaken(record(0, LocalDateTime.now().minusSeconds(5)));
+
+        // When
+        Claim claim = store.claim(SCOPE);
+
+        // Then
+        assertThat(claim.state()).isEqualTo(Claim.State.CONFLICT);
+        verify(repository, never()).deleteById(any());
+    }
+
+    @Test
+    @DisplayName("Should take over a claim abandoned by a crashed request")
+    void shouldTakeOverAbandonedClaim() {
+        // Given
+        given(repository.insertInProgress(eq(SCOPE), any(), any()))
+                .willThrow(new DataIntegrityViolationException("duplicate key"))
+                .willReturn(1);
+        given(repository.findById(SCOPE)).willReturn(Optional.of(record(0, LocalDateTime.now().minusMinutes(5))));
+
+        // When
+        Claim claim = store.claim(SCOPE);
+
+        // Then
+        assertThat(claim.state()).isEqualTo(Claim.State.ACQUIRED);
+        verify(repository).deleteById(SCOPE);
+    }
+
+    @Test
+    @DisplayName("Should give back the key of a request whose response is not kept")
+    void shouldReleaseKey() {
+        // When
+        store.release(SCOPE);
+
+        // Then
+        verify(repository).deleteInProgress(SCOPE);
+    }
+
+    private void givenKeyTaken(IdempotencyRecord record) {
+        given(repository.insertInProgress(eq(SCOPE), any(), any()))
+                .willThrow(new DataIntegrityViolationException("duplicate key"));
+        given(repository.findById(SCOPE)).willReturn(Optional.of(record));
+    }
+
+    private static IdempotencyRecord record(int status, LocalDateTime createdAt) {
+        return IdempotencyRecord.builder()
+                .id(SCOPE)
+                .status(status)
+                .contentType(status == 0 ? null : "application/json")
+                .body(status == 0 ? null : "{\"id\":1}".getBytes(StandardCharsets.UTF_8))
+                .createdAt(createdAt)
+                .expiresAt(createdAt.plusDays(1))
+                .build();
+    }
+
+    private static StoredResponse response(String body) {
+        return new StoredResponse(201, "application/json", null, body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.eventmanagementsystem.service;
+
+import com.example.eventmanagementsystem.exception.ApiException;
+import com.example.eventmanagementsystem.model.RefreshToken;
+import com.example.eventmanagementsystem.model.User;
+import com.example.eventmanagementsystem.repository.RefreshTokenRepository;
+import com.example.eventmanagementsystem.util.TestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Refresh Token Service Tests")
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private RefreshTokenService refreshTokenService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, 3600000);
+        user = TestUtils.createTestUser();
+    }
+
+    @Test
+    @DisplayName("Should store only the hash of an issued token")
+    void shouldStoreOnlyTokenHash() {
+        // When
+        String rawToken = refreshTokenService.issue(user);
+
+        // Then
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        RefreshToken stored = captor.getValue();
+        assertThat(rawToken).hasSize(43);
+        assertThat(stored.getTokenHash()).isEqualTo(RefreshTokenService.hash(rawToken)).hasSize(64);
+        assertThat(stored.getTokenHash()).doesNotContain(rawToken);
+        assertThat(stored.getUser()).isEqualTo(user);
+        assertThat(stored.getFamilyId()).isNotBlank();
+        assertThat(stored.getExpiresAt()).isAfter(LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("Should rotate an active token into a new one from the same family")
+    void shouldRotateActiveToken() {
+        // Given
+        RefreshToken current = storedToken("old-token", false, LocalDateTime.now().plusHours(1));
+        given(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash("old-token"))).willReturn(Optional.of(current));
+        given(refreshTokenRepository.revokeIfActive(current.getId())).willReturn(1);
+
+        // When
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate("old-token");
+
+        // Then
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        assertThat(rotation.user()).isEqualTo(user);
+        assertThat(rotation.refreshToken()).isNotEqualTo("old-token");
+        assertThat(captor.getValue().getFamilyId()).isEqualTo("family-1");
+        assertThat(captor.getValue().getTokenHash()).isEqualTo(RefreshTokenService.hash(rotation.refreshToken()));
+        verify(refreshTokenRepository, never()).revokeFamily(any());
+    }
+
+    @Test
+    @DisplayName("Should revoke the whole family when a rotated token is reused")
+    void shouldRevokeFamilyOnReuse() {
+        // Given
+        RefreshToken rotated = storedToken("old-token", true, LocalDateTime.now().plusHours(1));
+        given(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash("old-token"))).willReturn(Optional.of(rotated));
+
+        // When
+        ApiException exception = assertThrows(ApiException.class, () -> refreshTokenService.rotate("old-token"));
+
+        // Then
+        assertThat(exception.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        verify(refreshTokenRepository).revokeFamily("family-1");
+        verify(refreshTokenRepository, never()).save(any(RefreshToken.class));
+    }
+
+    @Test
+    @DisplayName("Should reject expired and unknown tokens")
+    void shouldRejectExpiredAndUnknownTokens() {
+        // Given
+        RefreshToken expired = storedToken("expired-token", false, LocalDateTime.now().minusMinutes(1));
+        given(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash("expired-token"))).willReturn(Optional.of(expired));
+        given(refreshTokenRepository.revokeIfActive(expired.getId())).willReturn(1);
+        given(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash("unknown-token"))).willReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(ApiException.class, () -> refreshTokenService.rotate("expired-token"));
+        assertThrows(ApiException.class, () -> refreshTokenService.rotate("unknown-token"));
+        verify(refreshTokenRepository, never()).save(any(RefreshToken.class));
+    }
+
+    @Test
+    @DisplayName("Should revoke the token family on logout")
+    void shouldRevokeFamilyOnLogout() {
+        // Given
+        RefreshToken current = storedToken("token", false, LocalDateTime.now().plusHours(1));
+        given(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash("token"))).willReturn(Optional.of(current));
+
+        // When
+        refreshTokenService.revoke("token");
+
+        // Then
+        verify(refreshTokenRepository).revokeFamily("family-1");
+    }
+
+    private RefreshToken storedToken(String rawToken, boolean revoked, LocalDateTime expiresAt) {
+        return RefreshToken.builder()
+                .id(10L)
+                .user(user)
+                .tokenHash(RefreshTokenService.hash(rawToken))
+                .familyId("family-1")
+                .expiresAt(expiresAt)
+                .revoked(revoked)
+                .build();
+    }
+}
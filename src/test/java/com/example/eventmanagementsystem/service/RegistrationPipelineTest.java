@@ -0,0 +1,137 @@
+package com.example.eventmanagementsystem.service;
+
+import com.example.eventmanagementsystem.dto.RegistrationRequestDTO;
+import com.example.eventmanagementsystem.exception.ApiException;
+import com.example.eventmanagementsystem.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Registration Pipeline Tests")
+class RegistrationPipelineTest {
+
+    @Mock
+    private RegistrationService registrationService;
+
+    private RegistrationPipeline pipeline;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        // The worker thread is not started; tests drive batches through flush()
+        pipeline = new RegistrationPipeline(registrationService, false, 3, 10, 10, 60_000, 100);
+        pipeline.bindTo(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should accept requests at once and register them in a single batch")
+    void shouldRegisterQueuedRequestsInOneBatch() {
+        // Given
+        given(registrationService.registerQueued(anyList())).willAnswer(invocation -> invocation
+                .<List<RegistrationRequestDTO>>getArgument(0).stream()
+                .map(request -> request.toBuilder().status("CONFIRMED").registrationId(request.getUserId()).build())
+                .toList());
+
+        // When
+        RegistrationRequestDTO first = pipeline.submit(1L, 10L);
+        RegistrationRequestDTO second = pipeline.submit(2L, 10L);
+        String pendingStatus = pipeline.getStatus(first.getRequestId()).getStatus();
+        pipeline.flush();
+
+        // Then
+        assertEquals(RegistrationPipeline.PENDING, pendingStatus);
+        assertEquals("CONFIRMED", pipeline.getStatus(first.getRequestId()).getStatus());
+        assertEquals(2L, pipeline.getStatus(second.getRequestId()).getRegistrationId());
+        assertEquals(0, pipeline.pending());
+        verify(registrationService, times(1)).registerQueued(anyList());
+        assertEquals(2, meterRegistry.get("registration.async.requests")
+                .tag("outcome", "confirmed").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should reject requests with a 503 when the queue is full")
+    void shouldRejectWhenQueueIsFull() {
+        // Given
+        for (long userId = 1; userId <= 3; userId++) {
+            pipeline.submit(userId, 10L);
+        }
+
+        // When
+        ApiException exception = assertThrows(ApiException.class, () -> pipeline.submit(4L, 10L));
+
+        // Then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatus());
+        assertEquals(3, pipeline.pending());
+        assertEquals(1, meterRegistry.get("registration.async.requests")
+                .tag("outcome", "rejected").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should retry a failed batch one request at a time")
+    void shouldRetryFailedBatchOneByOne() {
+        // Given
+        RegistrationRequestDTO first = pipeline.submit(1L, 10L);
+        RegistrationRequestDTO second = pipeline.submit(2L, 10L);
+        given(registrationService.registerQueued(anyList())).willAnswer(invocation -> {
+            List<RegistrationRequestDTO> batch = invocation.getArgument(0);
+            if (batch.size() > 1 || batch.get(0).getUserId() == 2L) {
+                throw new DataIntegrityViolationException("duplicate registration");
+            }
+            return List.of(batch.get(0).toBuilder().status("WAITLISTED").registrationId(5L).build());
+        });
+
+        // When
+        pipeline.flush();
+
+        // Then
+        assertEquals("WAITLISTED", pipeline.getStatus(first.getRequestId()).getStatus());
+        RegistrationRequestDTO failed = pipeline.getStatus(second.getRequestId());
+        assertEquals(RegistrationPipeline.FAILED, failed.getStatus());
+        assertNotNull(failed.getMessage());
+        verify(registrationService, times(3)).registerQueued(anyList());
+    }
+
+    @Test
+    @DisplayName("Should fail the requests left without an outcome by an unexpected error")
+    void shouldFailRequestsOnUnexpectedError() {
+        // Given
+        RegistrationRequestDTO first = pipeline.submit(1L, 10L);
+        RegistrationRequestDTO second = pipeline.submit(2L, 10L);
+        given(registrationService.registerQueued(anyList())).willThrow(new IllegalStateException("index out of sync"));
+
+        // When
+        pipeline.flush();
+
+        // Then
+        for (RegistrationRequestDTO request : List.of(first, second)) {
+            RegistrationRequestDTO failed = pipeline.getStatus(request.getRequestId());
+            assertEquals(RegistrationPipeline.FAILED, failed.getStatus());
+            assertNotNull(failed.getMessage());
+        }
+        assertEquals(2, meterRegistry.get("registration.async.requests")
+                .tag("outcome", "failed").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should throw ResourceNotFoundException for an unknown request id")
+    void shouldThrowForUnknownRequest() {
+        // When / Then
+        assertThrows(ResourceNotFoundException.class, () -> pipeline.getStatus("missing"));
+    }
+}
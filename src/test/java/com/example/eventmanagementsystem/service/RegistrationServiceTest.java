@@ -1,6 +1,9 @@
 package com.example.eventmanagementsystem.service;
 
+import com.example.eventmanagementsystem.dto.BulkRegistrationResultDTO;
+import com.example.eventmanagementsystem.dto.CursorPage;
 import com.example.eventmanagementsystem.dto.RegistrationDTO;
+import com.example.eventmanagementsystem.dto.RegistrationRequestDTO;
 import com.example.eventmanagementsystem.exception.ApiException;
 import com.example.eventmanagementsystem.exception.ResourceNotFoundException;
 import com.example.eventmanagementsystem.model.Event;
@@ -9,6 +12,8 @@ import com.example.eventmanagementsystem.model.User;
 import com.example.eventmanagementsystem.repository.EventRepository;
 import com.example.eventmanagementsystem.repository.RegistrationRepository;
 import com.example.eventmanagementsystem.repository.UserRepository;
+import com.example.eventmanagementsystem.security.OwnershipIndex;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -16,13 +21,19 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.http.HttpStatus;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -43,6 +54,18 @@ class RegistrationServiceTest {
     @Mock
     private EventRepository eventRepository;
 
+    @Mock
+    private OwnershipIndex ownershipIndex;
+
+    @Mock
+    private SeatInventory seatInventory;
+
+    @Mock
+    private WaitlistService waitlistService;
+
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private RegistrationService registrationService;
 
@@ -109,10 +132,11 @@ class RegistrationServiceTest {
         @DisplayName("Should find all registrations")
         void shouldFindAllRegistrations() {
             // Given
-            given(registrationRepository.findAll()).willReturn(List.of(testRegistration));
+            given(registrationRepository.findBy(ScrollPosition.keyset(), Sort.by("id"), Limit.of(20)))
+                    .willReturn(Window.from(List.of(testRegistration), ScrollPosition::offset));
 
             // When
-            List<RegistrationDTO> result = registrationService.findAllRegistrations();
+            List<RegistrationDTO> result = registrationService.findAllRegistrations(null, 20).getItems();
 
             // Then
             assertThat(result).hasSize(1);
@@ -120,7 +144,36 @@ class RegistrationServiceTest {
             assertThat(result.get(0).getUsername()).isEqualTo(expectedDto.getUsername());
             assertThat(result.get(0).getEventName()).isEqualTo(expectedDto.getEventName());
 
-            verify(registrationRepository).findAll();
+            verify(registrationRepository, never()).findAll();
+        }
+
+        @Test
+        @DisplayName("Should continue a page after the registration named by the cursor")
+        void shouldContinueAfterCursor() {
+            // Given
+            given(registrationRepository.findBy(any(ScrollPosition.class), any(Sort.class), any(Limit.class)))
+                    .willReturn(Window.from(List.of(testRegistration), ScrollPosition::offset, true));
+            String cursor = registrationService.findAllRegistrations(null, 1).getNextCursor();
+
+            // When
+            CursorPage<RegistrationDTO> next = registrationService.findAllRegistrations(cursor, 1);
+
+            // Then
+            assertThat(cursor).isNotNull();
+            assertThat(next.getItems()).hasSize(1);
+            verify(registrationRepository).findBy(ScrollPosition.forward(Map.of("id", 1L)), Sort.by("id"), Limit.of(1));
+        }
+
+        @Test
+        @DisplayName("Should reject a malformed cursor")
+        void shouldRejectMalformedCursor() {
+            // When/Then
+            ApiException exception = assertThrows(
+                    ApiException.class,
+                    () -> registrationService.findAllRegistrations("not a cursor", 10)
+            );
+            assertThat(exception.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+            verifyNoInteractions(registrationRepository);
         }
 
         @Test
@@ -162,17 +215,18 @@ class RegistrationServiceTest {
         void shouldFindRegistrationsByUserId() {
             // Given
             given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
-            given(registrationRepository.findByUserId(1L)).willReturn(List.of(testRegistration));
+            given(registrationRepository.findByUserId(eq(1L), any(ScrollPosition.class), any(Sort.class), eq(Limit.of(20))))
+                    .willReturn(Window.from(List.of(testRegistration), ScrollPosition::offset));
 
             // When
-            List<RegistrationDTO> result = registrationService.findRegistrationsByUser(1L);
+            List<RegistrationDTO> result = registrationService.findRegistrationsByUser(1L, null, 20).getItems();
 
             // Then
             assertThat(result).hasSize(1);
             assertThat(result.get(0).getUserId()).isEqualTo(expectedDto.getUserId());
 
             verify(userRepository).findById(1L);
-            verify(registrationRepository).findByUserId(1L);
+            verify(registrationRepository).findByUserId(eq(1L), any(ScrollPosition.class), any(Sort.class), any(Limit.class));
         }
 
         @Test
@@ -184,14 +238,14 @@ class RegistrationServiceTest {
             // When/Then
             ResourceNotFoundException exception = assertThrows(
                     ResourceNotFoundException.class,
-                    () -> registrationService.findRegistrationsByUser(999L)
+                    () -> registrationService.findRegistrationsByUser(999L, null, 20)
             );
 
             // Then
             assertThat(exception.getMessage()).contains("User not found");
 
             verify(userRepository).findById(999L);
-            verify(registrationRepository, never()).findByUserId(anyLong());
+            verifyNoInteractions(registrationRepository);
         }
 
         @Test
@@ -199,17 +253,41 @@ class RegistrationServiceTest {
         void shouldFindRegistrationsByEventId() {
             // Given
             given(eventRepository.findById(1L)).willReturn(Optional.of(testEvent));
-            given(registrationRepository.findByEventId(1L)).willReturn(List.of(testRegistration));
+            given(registrationRepository.findByEventId(eq(1L), any(ScrollPosition.class), any(Sort.class), eq(Limit.of(20))))
+                    .willReturn(Window.from(List.of(testRegistration), ScrollPosition::offset));
 
             // When
-            List<RegistrationDTO> result = registrationService.findRegistrationsByEvent(1L);
+            List<RegistrationDTO> result = registrationService.findRegistrationsByEvent(1L, null, 20).getItems();
 
             // Then
             assertThat(result).hasSize(1);
             assertThat(result.get(0).getEventId()).isEqualTo(expectedDto.getEventId());
 
             verify(eventRepository).findById(1L);
-            verify(registrationRepository).findByEventId(1L);
+            verify(registrationRepository).findByEventId(eq(1L), any(ScrollPosition.class), any(Sort.class), any(Limit.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Export Registration Tests")
+    class ExportRegistrationTests {
+
+        @Test
+        @DisplayName("Should hand each streamed registration to the sink and release written rows in chunks")
+        void shouldStreamRegistrationsToSink() {
+            // Given
+            int rows = Exports.CHUNK_SIZE * 2 + 1;
+            given(registrationRepository.streamAll()).willReturn(Stream.generate(() -> testRegistration).limit(rows));
+            List<RegistrationDTO> exported = new ArrayList<>();
+
+            // When
+            registrationService.exportRegistrations(exported::add);
+
+            // Then
+            assertThat(exported).hasSize(rows);
+            assertThat(exported.get(0).getUsername()).isEqualTo("testuser");
+            verify(entityManager, times(2)).clear();
+            verify(registrationRepository, never()).findAll();
         }
     }
 
@@ -224,6 +302,7 @@ class RegistrationServiceTest {
             given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
             given(eventRepository.findById(1L)).willReturn(Optional.of(testEvent));
             given(registrationRepository.existsByUserIdAndEventId(1L, 1L)).willReturn(false);
+            given(eventRepository.reserveSeat(1L)).willReturn(1);
             given(registrationRepository.save(any(Registration.class))).willReturn(testRegistration);
 
             // When
@@ -243,6 +322,72 @@ class RegistrationServiceTest {
             Registration capturedRegistration = registrationCaptor.getValue();
             assertThat(capturedRegistration.getUser().getId()).isEqualTo(1L);
             assertThat(capturedRegistration.getEvent().getId()).isEqualTo(1L);
+            verify(eventRepository).reserveSeat(1L);
+        }
+
+        @Test
+        @DisplayName("Should take a high-demand seat in memory without touching the event row")
+        void shouldReserveHighDemandSeatInMemory() {
+            // Given
+            Registration queued = Registration.builder()
+                    .user(testUser)
+                    .event(testEvent)
+                    .registrationTime(LocalDateTime.now())
+                    .registrationStatus("CONFIRMED")
+                    .build();
+            given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+            given(eventRepository.findById(1L)).willReturn(Optional.of(testEvent));
+            given(seatInventory.reserve(testUser, testEvent)).willReturn(Optional.of(queued));
+
+            // When
+            RegistrationDTO result = registrationService.registerForEvent(1L, 1L);
+
+            // Then
+            assertThat(result.getRegistrationStatus()).isEqualTo("CONFIRMED");
+            verify(eventRepository, never()).reserveSeat(anyLong());
+            verify(registrationRepository, never()).save(any(Registration.class));
+        }
+
+        @Test
+        @DisplayName("Should save a waitlisted registration when a high-demand event is full")
+        void shouldWaitlistWhenHighDemandEventIsFull() {
+            // Given
+            Registration waitlisted = Registration.builder()
+                    .user(testUser)
+                    .event(testEvent)
+                    .registrationTime(LocalDateTime.now())
+                    .registrationStatus("WAITLISTED")
+                    .build();
+            given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+            given(eventRepository.findById(1L)).willReturn(Optional.of(testEvent));
+            given(seatInventory.reserve(testUser, testEvent)).willReturn(Optional.of(waitlisted));
+            given(registrationRepository.save(waitlisted)).willReturn(waitlisted);
+
+            // When
+            RegistrationDTO result = registrationService.registerForEvent(1L, 1L);
+
+            // Then
+            assertThat(result.getRegistrationStatus()).isEqualTo("WAITLISTED");
+            verify(registrationRepository).save(waitlisted);
+            verify(eventRepository, never()).reserveSeat(anyLong());
+        }
+
+        @Test
+        @DisplayName("Should register through the database when the event has left high-demand mode")
+        void shouldFallBackWhenHighDemandModeIsOff() {
+            // Given
+            given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+            given(eventRepository.findById(1L)).willReturn(Optional.of(testEvent));
+            given(seatInventory.reserve(testUser, testEvent)).willReturn(Optional.empty());
+            given(eventRepository.reserveSeat(1L)).willReturn(1);
+            given(registrationRepository.save(any(Registration.class))).willReturn(testRegistration);
+
+            // When
+            RegistrationDTO result = registrationService.registerForEvent(1L, 1L);
+
+            // Then
+            assertThat(result.getRegistrationStatus()).isEqualTo("CONFIRMED");
+            verify(eventRepository).reserveSeat(1L);
         }
 
         @Test
@@ -300,10 +445,9 @@ class RegistrationServiceTest {
             verify(registrationRepository, never()).save(any(Registration.class));
         }
 
-        // Update the shouldThrowExceptionWhenEventIsAtCapacity test in RegistrationServiceTest
         @Test
-        @DisplayName("Should throw exception when event is at capacity")
-        void shouldThrowExceptionWhenEventIsAtCapacity() {
+        @DisplayName("Should waitlist the user when event is at capacity")
+        void shouldWaitlistWhenEventIsAtCapacity() {
             // Given
             Event fullEvent = Event.builder()
                     .id(3L)
@@ -312,35 +456,147 @@ class RegistrationServiceTest {
                     .startTime(LocalDateTime.now().plusDays(5))
                     .endTime(LocalDateTime.now().plusDays(5).plusHours(2))
                     .capacity(1) // Capacity is 1
-                    .registrations(new ArrayList<>()) // Initialize registrations list
-                    .build();
-
-            // Add a registration to make it full
-            Registration existingRegistration = Registration.builder()
-                    .id(2L)
-                    .user(User.builder().id(999L).username("other").build())
-                    .event(fullEvent)
+                    .confirmedCount(1) // One confirmed registration makes it full
                     .build();
-            fullEvent.getRegistrations().add(existingRegistration);
 
             given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
             given(eventRepository.findById(3L)).willReturn(Optional.of(fullEvent));
             given(registrationRepository.existsByUserIdAndEventId(1L, 3L)).willReturn(false);
+            given(eventRepository.reserveSeat(3L)).willReturn(0); // The conditional UPDATE finds no free seat
+            given(registrationRepository.save(any(Registration.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            RegistrationDTO result = registrationService.registerForEvent(1L, 3L);
+
+            // Then
+            assertThat(result.getRegistrationStatus()).isEqualTo("WAITLISTED");
+
+            verify(eventRepository).reserveSeat(3L);
+            verify(registrationRepository).save(registrationCaptor.capture());
+            assertThat(registrationCaptor.getValue().getRegistrationStatus()).isEqualTo("WAITLISTED");
+        }
+    }
+
+    @Nested
+    @DisplayName("Bulk Registration Tests")
+    class BulkRegistrationTests {
+
+        @Test
+        @DisplayName("Should seat users in request order and waitlist the rest")
+        void shouldSeatInOrderAndWaitlistRest() {
+            // Given
+            User second = User.builder().id(2L).username("second").build();
+            User third = User.builder().id(3L).username("third").build();
+            given(eventRepository.findById(1L)).willReturn(Optional.of(testEvent));
+            given(userRepository.findAllById(anyCollection())).willReturn(List.of(third, testUser, second));
+            given(registrationRepository.findRegisteredUserIds(eq(1L), anyCollection())).willReturn(List.of());
+            given(eventRepository.findRemainingSeatsById(1L)).willReturn(Optional.of(2));
+            given(eventRepository.reserveSeats(1L, 2)).willReturn(1);
+            given(registrationRepository.saveAll(anyList())).willAnswer(invocation -> {
+                List<Registration> registrations = invocation.getArgument(0);
+                long id = 100;
+                for (Registration registration : registrations) {
+                    registration.setId(id++);
+                }
+                return registrations;
+            });
+
+            // When
+            List<BulkRegistrationResultDTO> results = registrationService.registerUsersForEvent(1L, List.of(1L, 2L, 3L));
+
+            // Then
+            assertThat(results).extracting(BulkRegistrationResultDTO::getUserId).containsExactly(1L, 2L, 3L);
+            assertThat(results).extracting(BulkRegistrationResultDTO::getStatus)
+                    .containsExactly("CONFIRMED", "CONFIRMED", "WAITLISTED");
+            assertThat(results).extracting(BulkRegistrationResultDTO::getRegistrationId).containsExactly(100L, 101L, 102L);
+            verify(eventRepository, never()).reserveSeat(anyLong());
+            verify(ownershipIndex, times(3)).onRegistrationCreated(any(Registration.class));
+        }
+
+        @Test
+        @DisplayName("Should report unknown and already registered users without failing the group")
+        void shouldReportRejectedUsers() {
+            // Given
+            given(eventRepository.findById(1L)).willReturn(Optional.of(testEvent));
+            given(userRepository.findAllById(anyCollection())).willReturn(List.of(testUser));
+            given(registrationRepository.findRegisteredUserIds(eq(1L), anyCollection())).willReturn(List.of(1L));
+            given(registrationRepository.saveAll(anyList())).willReturn(List.of());
+
+            // When
+            List<BulkRegistrationResultDTO> results = registrationService.registerUsersForEvent(1L, List.of(1L, 9L, 1L));
+
+            // Then
+            assertThat(results).extracting(BulkRegistrationResultDTO::getStatus)
+                    .containsExactly("ALREADY_REGISTERED", "USER_NOT_FOUND");
+            verify(eventRepository, never()).reserveSeats(anyLong(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Should retry the group reservation when a concurrent registration takes a seat")
+        void shouldRetryGroupReservation() {
+            // Given
+            given(eventRepository.findById(1L)).willReturn(Optional.of(testEvent));
+            given(userRepository.findAllById(anyCollection())).willReturn(List.of(testUser));
+            given(registrationRepository.findRegisteredUserIds(eq(1L), anyCollection())).willReturn(List.of());
+            given(eventRepository.findRemainingSeatsById(1L)).willReturn(Optional.of(1), Optional.of(0));
+            given(eventRepository.reserveSeats(1L, 1)).willReturn(0);
+            given(registrationRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            List<BulkRegistrationResultDTO> results = registrationService.registerUsersForEvent(1L, List.of(1L));
+
+            // Then
+            assertThat(results).extracting(BulkRegistrationResultDTO::getStatus).containsExactly("WAITLISTED");
+            verify(eventRepository, times(2)).findRemainingSeatsById(1L);
+        }
+
+        @Test
+        @DisplayName("Should refuse bulk registration for high-demand events")
+        void shouldRefuseHighDemandEvents() {
+            // Given
+            given(eventRepository.findById(1L)).willReturn(Optional.of(testEvent));
+            given(seatInventory.isActive(1L)).willReturn(true);
 
             // When/Then
             ApiException exception = assertThrows(
                     ApiException.class,
-                    () -> registrationService.registerForEvent(1L, 3L)
+                    () -> registrationService.registerUsersForEvent(1L, List.of(1L))
             );
+            assertThat(exception.getStatus()).isEqualTo(HttpStatus.CONFLICT);
+            verifyNoInteractions(registrationRepository);
+        }
+    }
 
-            // Then
-            assertThat(exception.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
-            assertThat(exception.getMessage()).contains("full capacity");
+    @Nested
+    @DisplayName("Queued Registration Tests")
+    class QueuedRegistrationTests {
 
-            verify(userRepository).findById(1L);
-            verify(eventRepository).findById(3L);
-            verify(registrationRepository).existsByUserIdAndEventId(1L, 3L);
-            verify(registrationRepository, never()).save(any(Registration.class));
+        @Test
+        @DisplayName("Should register a batch and report failed requests without failing the rest")
+        void shouldRegisterBatchAndReportFailures() {
+            // Given
+            RegistrationRequestDTO accepted = RegistrationRequestDTO.builder()
+                    .requestId("r1").userId(1L).eventId(1L).status("PENDING").build();
+            RegistrationRequestDTO unknownUser = RegistrationRequestDTO.builder()
+                    .requestId("r2").userId(99L).eventId(1L).status("PENDING").build();
+            given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+            given(userRepository.findById(99L)).willReturn(Optional.empty());
+            given(eventRepository.findById(1L)).willReturn(Optional.of(testEvent));
+            given(registrationRepository.existsByUserIdAndEventId(1L, 1L)).willReturn(false);
+            given(eventRepository.reserveSeat(1L)).willReturn(1);
+            given(registrationRepository.save(any(Registration.class))).willReturn(testRegistration);
+
+            // When
+            List<RegistrationRequestDTO> results = registrationService.registerQueued(List.of(accepted, unknownUser));
+
+            // Then
+            assertThat(results).extracting(RegistrationRequestDTO::getRequestId).containsExactly("r1", "r2");
+            assertThat(results.get(0).getStatus()).isEqualTo("CONFIRMED");
+            assertThat(results.get(0).getRegistrationId()).isEqualTo(1L);
+            assertThat(results.get(1).getStatus()).isEqualTo("FAILED");
+            assertThat(results.get(1).getMessage()).contains("User not found");
+            assertThat(accepted.getStatus()).isEqualTo("PENDING");
+            verify(registrationRepository, times(1)).save(any(Registration.class));
         }
     }
 
@@ -380,6 +636,63 @@ class RegistrationServiceTest {
 
             Registration capturedRegistration = registrationCaptor.getValue();
             assertThat(capturedRegistration.getRegistrationStatus()).isEqualTo("CANCELLED");
+            verify(eventRepository).decrementConfirmedCount(1L);
+        }
+
+        @Test
+        @DisplayName("Should give a cancelled seat to the waitlist")
+        void shouldPromoteWaitlistOnCancellation() {
+            // Given
+            given(registrationRepository.findByUserIdAndEventId(1L, 1L))
+                    .willReturn(Optional.of(testRegistration));
+            given(registrationRepository.save(any(Registration.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            registrationService.cancelRegistration(1L, 1L);
+
+            // Then
+            InOrder inOrder = inOrder(eventRepository, waitlistService);
+            inOrder.verify(eventRepository).decrementConfirmedCount(1L);
+            inOrder.verify(waitlistService).promote(1L);
+        }
+
+        @Test
+        @DisplayName("Should give a cancelled high-demand seat to the waitlist before the in-memory counter")
+        void shouldPromoteWaitlistBeforeCounterForHighDemandEvents() {
+            // Given
+            given(registrationRepository.findByUserIdAndEventId(1L, 1L))
+                    .willReturn(Optional.of(testRegistration));
+            given(registrationRepository.save(any(Registration.class))).willAnswer(invocation -> invocation.getArgument(0));
+            given(seatInventory.isActive(1L)).willReturn(true);
+            given(waitlistService.promoteOne(1L)).willReturn(true, false);
+
+            // When
+            registrationService.cancelRegistration(1L, 1L);
+            testRegistration.setRegistrationStatus("CONFIRMED");
+            registrationService.cancelRegistration(1L, 1L);
+
+            // Then
+            verify(waitlistService, times(2)).promoteOne(1L);
+            verify(waitlistService, never()).promote(anyLong());
+            verify(seatInventory, times(1)).release(1L);
+        }
+
+        @Test
+        @DisplayName("Should not free a seat when cancelling a waitlisted registration")
+        void shouldNotFreeSeatWhenCancellingWaitlistedRegistration() {
+            // Given
+            testRegistration.setRegistrationStatus("WAITLISTED");
+            given(registrationRepository.findByUserIdAndEventId(1L, 1L))
+                    .willReturn(Optional.of(testRegistration));
+            given(registrationRepository.save(any(Registration.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            RegistrationDTO result = registrationService.cancelRegistration(1L, 1L);
+
+            // Then
+            assertThat(result.getRegistrationStatus()).isEqualTo("CANCELLED");
+            verify(eventRepository, never()).decrementConfirmedCount(anyLong());
+            verifyNoInteractions(waitlistService);
         }
 
         @Test
@@ -456,6 +769,28 @@ class RegistrationServiceTest {
             // Then
             verify(registrationRepository).findById(1L);
             verify(registrationRepository).delete(testRegistration);
+            verify(eventRepository).decrementConfirmedCount(1L);
+            verify(seatInventory).forget(1L, 1L);
+            verify(ownershipIndex).onRegistrationDeleted(1L);
+        }
+
+        @Test
+        @DisplayName("Should give each seat of a deleted user to the event's waitlist")
+        void shouldPromoteWaitlistsForDeletedUser() {
+            // Given
+            given(registrationRepository.findConfirmedEventIdsByUserId(1L)).willReturn(List.of(1L, 2L));
+
+            // When
+            registrationService.releaseSeatsOfUser(1L);
+
+            // Then
+            InOrder inOrder = inOrder(eventRepository, waitlistService);
+            inOrder.verify(eventRepository).decrementConfirmedCount(1L);
+            inOrder.verify(waitlistService).promote(1L);
+            inOrder.verify(eventRepository).decrementConfirmedCount(2L);
+            inOrder.verify(waitlistService).promote(2L);
+            verify(seatInventory).forget(1L, 1L);
+            verify(seatInventory).forget(2L, 1L);
         }
 
         @Test
@@ -0,0 +1,188 @@
+package com.example.eventmanagementsystem.service;
+
+import com.example.eventmanagementsystem.exception.ApiException;
+import com.example.eventmanagementsystem.model.Event;
+import com.example.eventmanagementsystem.model.Registration;
+import com.example.eventmanagementsystem.model.User;
+import com.example.eventmanagementsystem.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Seat Inventory Tests")
+class SeatInventoryTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private RegistrationBatchWriter batchWriter;
+
+    private SeatInventory seatInventory;
+
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        seatInventory = new SeatInventory(eventRepository, batchWriter, 4);
+        event = Event.builder().id(10L).capacity(2).highDemand(true).build();
+    }
+
+    @Test
+    @DisplayName("Should seed counters for high-demand events at startup")
+    void shouldSeedAtStartup() {
+        // Given
+        given(eventRepository.findByHighDemandTrue()).willReturn(List.of(event));
+        given(eventRepository.findRemainingSeatsById(10L)).willReturn(Optional.of(2));
+
+        // When
+        seatInventory.afterSingletonsInstantiated();
+
+        // Then
+        assertThat(seatInventory.isActive(10L)).isTrue();
+        assertThat(seatInventory.available(10L)).isEqualTo(2);
+        assertThat(seatInventory.isActive(11L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should queue winners and waitlist the rest once the seats run out")
+    void shouldQueueWinnersUntilFull() {
+        // Given
+        given(eventRepository.findRemainingSeatsById(10L)).willReturn(Optional.of(2));
+        doAnswer(invocation -> {
+            invocation.<Registration>getArgument(0).setId(100L);
+            return null;
+        }).when(batchWriter).assignId(any(Registration.class));
+        seatInventory.activate(10L);
+
+        // When
+        Registration first = seatInventory.reserve(user(1L), event).orElseThrow();
+        seatInventory.reserve(user(2L), event);
+        Registration third = seatInventory.reserve(user(3L), event).orElseThrow();
+
+        // Then
+        assertThat(first.getRegistrationStatus()).isEqualTo("CONFIRMED");
+        assertThat(first.getId()).isEqualTo(100L);
+        assertThat(third.getRegistrationStatus()).isEqualTo("WAITLISTED");
+        assertThat(third.getId()).isNull();
+        verify(batchWriter, times(2)).enqueue(any(Registration.class), any(Runnable.class));
+        assertThat(seatInventory.available(10L)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject a second registration by the same user before it is written")
+    void shouldRejectDuplicateClaims() {
+        // Given
+        given(eventRepository.findRemainingSeatsById(10L)).willReturn(Optional.of(2));
+        seatInventory.activate(10L);
+        seatInventory.reserve(user(1L), event);
+
+        // When
+        ApiException duplicate = assertThrows(ApiException.class, () -> seatInventory.reserve(user(1L), event));
+
+        // Then
+        assertThat(duplicate.getStatus()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(seatInventory.available(10L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should let a user register again once their registration is deleted")
+    void shouldForgetClaimOfDeletedRegistration() {
+        // Given
+        given(eventRepository.findRemainingSeatsById(10L)).willReturn(Optional.of(2));
+        seatInventory.activate(10L);
+        seatInventory.reserve(user(1L), event);
+
+        // When
+        seatInventory.forget(10L, 1L);
+        seatInventory.release(10L);
+
+        // Then
+        assertThat(seatInventory.reserve(user(1L), event)).isPresent();
+        assertThat(seatInventory.available(10L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should return the seat when the registration cannot be written")
+    void shouldReleaseSeatOnWriteFailure() {
+        // Given
+        given(eventRepository.findRemainingSeatsById(10L)).willReturn(Optional.of(1));
+        seatInventory.activate(10L);
+        seatInventory.reserve(user(1L), event);
+        ArgumentCaptor<Runnable> onFailure = ArgumentCaptor.forClass(Runnable.class);
+        verify(batchWriter).enqueue(any(Registration.class), onFailure.capture());
+
+        // When
+        onFailure.getValue().run();
+
+        // Then
+        assertThat(seatInventory.available(10L)).isEqualTo(1);
+        assertThat(seatInventory.reserve(user(1L), event)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should queue the registration only when the transaction commits and give the seat back on rollback")
+    void shouldQueueAfterCommitOnly() {
+        // Given
+        given(eventRepository.findRemainingSeatsById(10L)).willReturn(Optional.of(1));
+        seatInventory.activate(10L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            seatInventory.reserve(user(1L), event);
+
+            // Then
+            verify(batchWriter, never()).enqueue(any(Registration.class), any(Runnable.class));
+            assertThat(seatInventory.available(10L)).isZero();
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            assertThat(seatInventory.available(10L)).isEqualTo(1);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        verify(batchWriter, never()).enqueue(any(Registration.class), any(Runnable.class));
+
+        // The same user can try again once the rolled-back claim is gone
+        seatInventory.reserve(user(1L), event);
+        verify(batchWriter).enqueue(any(Registration.class), any(Runnable.class));
+    }
+
+    @Test
+    @DisplayName("Should flush queued registrations when the mode is switched off")
+    void shouldFlushOnDeactivate() {
+        // Given
+        given(eventRepository.findRemainingSeatsById(10L)).willReturn(Optional.of(2));
+        seatInventory.activate(10L);
+
+        // When
+        seatInventory.deactivate(10L);
+
+        // Then
+        assertThat(seatInventory.isActive(10L)).isFalse();
+        verify(batchWriter).flush();
+        assertThat(seatInventory.reserve(user(1L), event)).isEmpty();
+    }
+
+    private static User user(Long id) {
+        return User.builder().id(id).username("user" + id).build();
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.eventmanagementsystem.service;
+
+import com.example.eventmanagementsystem.dto.RegistrationDTO;
+import com.example.eventmanagementsystem.model.Event;
+import com.example.eventmanagementsystem.model.Registration;
+import com.example.eventmanagementsystem.model.User;
+import com.example.eventmanagementsystem.repository.EventRepository;
+import com.example.eventmanagementsystem.repository.RegistrationRepository;
+import com.example.eventmanagementsystem.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Many users register for one small event at the same moment; each registration runs in its own transaction.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Seat Reservation Concurrency Tests")
+public class SeatReservationConcurrencyTest {
+
+    private static final int CAPACITY = 10;
+    private static final int ATTEMPTS = 60;
+    private static final int THREADS = 12;
+
+    @Autowired
+    private RegistrationService registrationService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private RegistrationBatchWriter batchWriter;
+
+    @Autowired
+    private SeatInventory seatInventory;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    private User organizer;
+    private Event event;
+    private final List<User> attendees = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        organizer = userRepository.save(user("seat-organizer"));
+        event = eventRepository.save(Event.builder()
+                .name("Hot Event")
+                .startTime(LocalDateTime.now().plusDays(1))
+                .endTime(LocalDateTime.now().plusDays(1).plusHours(2))
+                .capacity(CAPACITY)
+                .published(true)
+                .organizer(organizer)
+                .build());
+        for (int i = 0; i < ATTEMPTS; i++) {
+            attendees.add(userRepository.save(user("seat-attendee-" + i)));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (eventRepository.findById(event.getId()).orElseThrow().isHighDemand()) {
+            eventService.disableHighDemand(event.getId());
+        }
+        registrationRepository.deleteAll(registrationRepository.findByEventId(event.getId()));
+        eventRepository.deleteById(event.getId());
+        userRepository.deleteAll(attendees);
+        userRepository.delete(organizer);
+    }
+
+    @Test
+    @DisplayName("Should never confirm more registrations than the event's capacity")
+    void shouldNeverOversell() throws Exception {
+        // When
+        int confirmed = registerConcurrently();
+
+        // Then
+        assertThat(confirmed).isEqualTo(CAPACITY);
+        assertThat(eventRepository.findById(event.getId()).orElseThrow().getConfirmedCount()).isEqualTo(CAPACITY);
+        assertThat(registrationRepository.countByEventId(event.getId())).isEqualTo(attendees.size());
+    }
+
+    @Test
+    @DisplayName("Should give each cancelled seat to the longest-waiting registration")
+    void shouldPromoteWaitlistInOrder() throws Exception {
+        // Given
+        registerConcurrently();
+        List<Registration> registrations = registrationRepository.findByEventId(event.getId());
+        Registration cancelled = registrations.stream()
+                .filter(r -> "CONFIRMED".equals(r.getRegistrationStatus()))
+                .findFirst().orElseThrow();
+        Registration head = registrations.stream()
+                .filter(r -> "WAITLISTED".equals(r.getRegistrationStatus()))
+                .min(Comparator.comparing(Registration::getRegistrationTime).thenComparing(Registration::getId))
+                .orElseThrow();
+
+        // When
+        registrationService.cancelRegistration(cancelled.getUser().getId(), event.getId());
+
+        // Then
+        assertThat(registrationRepository.findById(head.getId()).orElseThrow().getRegistrationStatus())
+                .isEqualTo("CONFIRMED");
+        assertThat(eventRepository.findById(event.getId()).orElseThrow().getConfirmedCount()).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    @DisplayName("Should give the seat of a deleted user to the longest-waiting registration")
+    void shouldPromoteWaitlistWhenConfirmedUserIsDeleted() throws Exception {
+        // Given
+        registerConcurrently();
+        List<Registration> registrations = registrationRepository.findByEventId(event.getId());
+        Registration deleted = registrations.stream()
+                .filter(r -> "CONFIRMED".equals(r.getRegistrationStatus()))
+                .findFirst().orElseThrow();
+        Registration head = registrations.stream()
+                .filter(r -> "WAITLISTED".equals(r.getRegistrationStatus()))
+                .min(Comparator.comparing(Registration::getRegistrationTime).thenComparing(Registration::getId))
+                .orElseThrow();
+
+        // When
+        userService.deleteUser(deleted.getUser().getId());
+
+        // Then
+        assertThat(registrationRepository.findById(head.getId()).orElseThrow().getRegistrationStatus())
+                .isEqualTo("CONFIRMED");
+        assertThat(registrationRepository.findById(deleted.getId())).isEmpty();
+        assertThat(eventRepository.findById(event.getId()).orElseThrow().getConfirmedCount()).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    @DisplayName("Should never oversell from the in-memory counter, persist every winner and waitlist the rest")
+    void shouldNeverOversellInHighDemandMode() throws Exception {
+        // Given
+        eventService.enableHighDemand(event.getId());
+
+        // When
+        int confirmed = registerConcurrently();
+        batchWriter.flush();
+
+        // Then
+        assertThat(confirmed).isEqualTo(CAPACITY);
+        assertThat(eventRepository.findById(event.getId()).orElseThrow().getConfirmedCount()).isEqualTo(CAPACITY);
+        assertThat(registrationRepository.countByEventId(event.getId())).isEqualTo(attendees.size());
+    }
+
+    @Test
+    @DisplayName("Should put a deleted high-demand registration's seat back on sale and let its user register again")
+    void shouldReleaseDeletedHighDemandRegistration() {
+        // Given
+        eventService.enableHighDemand(event.getId());
+        Long userId = attendees.get(0).getId();
+        Long registrationId = registrationService.registerForEvent(userId, event.getId()).getId();
+        batchWriter.flush();
+
+        // When
+        registrationService.deleteRegistration(registrationId);
+        RegistrationDTO again = registrationService.registerForEvent(userId, event.getId());
+
+        // Then
+        assertThat(again.getRegistrationStatus()).isEqualTo("CONFIRMED");
+        assertThat(seatInventory.available(event.getId())).isEqualTo(CAPACITY - 1);
+    }
+
+    // Helper methods
+    // Starts every attendee's registration at once and returns how many were confirmed
+    private int registerConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (User attendee : attendees) {
+            results.add(executor.submit(() -> {
+                start.await();
+                // Late arrivals are waitlisted in both modes
+                return "CONFIRMED".equals(registrationService
+                        .registerForEvent(attendee.getId(), event.getId()).getRegistrationStatus());
+            }));
+        }
+
+        start.countDown();
+        int confirmed = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(30, TimeUnit.SECONDS)) {
+                confirmed++;
+            }
+        }
+        executor.shutdown();
+        return confirmed;
+    }
+
+    private static User user(String username) {
+        return User.builder()
+                .username(username)
+                .password("password")
+                .email(username + "@example.com")
+                .fullName(username)
+                .roles(new HashSet<>(Set.of("USER")))
+                .build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.eventmanagementsystem.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Striped Seat Counter Tests")
+class StripedSeatCounterTest {
+
+    @Test
+    @DisplayName("Should hand out exactly the seeded seats, spread across stripes")
+    void shouldHandOutSeededSeats() {
+        // Given
+        StripedSeatCounter counter = new StripedSeatCounter(10, 4);
+
+        // When
+        int acquired = 0;
+        while (counter.tryAcquire()) {
+            acquired++;
+        }
+
+        // Then
+        assertThat(acquired).isEqualTo(10);
+        assertThat(counter.available()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should put released seats back on sale")
+    void shouldReleaseSeats() {
+        // Given
+        StripedSeatCounter counter = new StripedSeatCounter(1, 8);
+        counter.tryAcquire();
+
+        // When
+        counter.release();
+
+        // Then
+        assertThat(counter.available()).isEqualTo(1);
+        assertThat(counter.tryAcquire()).isTrue();
+        assertThat(counter.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should never hand out more seats than seeded under contention")
+    void shouldNotOversellUnderContention() throws Exception {
+        // Given
+        StripedSeatCounter counter = new StripedSeatCounter(1000, 4);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                int acquired = 0;
+                for (int attempt = 0; attempt < 500; attempt++) {
+                    if (counter.tryAcquire()) {
+                        acquired++;
+                    }
+                }
+                return acquired;
+            }));
+        }
+
+        // When
+        start.countDown();
+        int total = 0;
+        for (Future<Integer> result : results) {
+            total += result.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(total).isEqualTo(1000);
+        assertThat(counter.available()).isZero();
+    }
+}
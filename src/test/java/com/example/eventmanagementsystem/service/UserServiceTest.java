@@ -4,15 +4,28 @@ import com.example.eventmanagementsystem.dto.UserDTO;
 import com.example.eventmanagementsystem.exception.ResourceAlreadyExistsException;
 import com.example.eventmanagementsystem.exception.ResourceNotFoundException;
 import com.example.eventmanagementsystem.model.User;
+import com.example.eventmanagementsystem.repository.EventRepository;
 import com.example.eventmanagementsystem.repository.UserRepository;
+import com.example.eventmanagementsystem.search.EventSearchIndex;
+import com.example.eventmanagementsystem.security.OwnershipIndex;
+import com.example.eventmanagementsystem.security.TokenVersionRegistry;
 import com.example.eventmanagementsystem.util.TestUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Arrays;
 import java.util.List;
@@ -21,6 +34,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
@@ -34,6 +48,33 @@ public class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache userDetailsCache;
+
+    @Mock
+    private OwnershipIndex ownershipIndex;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private RegistrationService registrationService;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private SeatInventory seatInventory;
+
+    @Mock
+    private EventSearchIndex searchIndex;
+
     @InjectMocks
     private UserService userService;
 
@@ -50,16 +91,17 @@ public class UserServiceTest {
     public void whenFindAllUsers_thenReturnUserList() {
         // Given
         User admin = TestUtils.createTestAdmin();
-        when(userRepository.findAll()).thenReturn(Arrays.asList(testUser, admin));
+        when(userRepository.findBy(ScrollPosition.keyset(), Sort.by("id"), Limit.of(50)))
+                .thenReturn(Window.from(Arrays.asList(testUser, admin), ScrollPosition::offset));
 
         // When
-        List<UserDTO> users = userService.findAllUsers();
+        List<UserDTO> users = userService.findAllUsers(null, 50).getItems();
 
         // Then
         assertThat(users).hasSize(2);
         assertThat(users).extracting(UserDTO::getUsername)
                 .containsExactlyInAnyOrder("testuser", "admin");
-        verify(userRepository, times(1)).findAll();
+        verify(userRepository, never()).findAll();
     }
 
     @Test
@@ -185,6 +227,84 @@ public class UserServiceTest {
         verify(userRepository, times(1)).findById(1L);
         verify(passwordEncoder, times(1)).encode("newpassword");
         verify(userRepository, times(1)).save(any(User.class));
+        assertThat(testUser.getTokenVersion()).isEqualTo(1);
+        verify(tokenVersionRegistry, times(1)).update(1L, 1);
+        verify(refreshTokenService, times(1)).revokeAllForUser(1L);
+    }
+
+    @Test
+    public void whenUpdateUser_insideTransaction_thenPublishTokenVersionOnlyAfterCommit() {
+        // Given
+        when(userRepository.findById(anyLong())).thenReturn(Optional.of(testUser));
+        when(userRepository.save(any(User.class))).thenReturn(testUser);
+
+        UserDTO updateDTO = UserDTO.builder()
+                .id(1L)
+                .username("testuser")
+                .email("test@example.com")
+                .fullName("Test User")
+                .password("newpassword")
+                .build();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            userService.updateUser(1L, updateDTO);
+
+            // Then
+            verify(tokenVersionRegistry, times(1)).evict(1L);
+            verify(tokenVersionRegistry, never()).update(anyLong(), anyInt());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(tokenVersionRegistry, times(1)).update(1L, 1);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void whenUpdateUser_withNewUsername_thenEvictOldAndNewUserDetails() {
+        // Given
+        when(userRepository.findById(anyLong())).thenReturn(Optional.of(testUser));
+        when(userRepository.existsByUsername("renamed")).thenReturn(false);
+        when(userRepository.save(any(User.class))).thenReturn(testUser);
+        when(cacheManager.getCache("userDetails")).thenReturn(userDetailsCache);
+
+        UserDTO updateDTO = UserDTO.builder()
+                .id(1L)
+                .username("renamed")
+                .email("test@example.com")
+                .fullName("Test User")
+                .build();
+
+        // When
+        userService.updateUser(1L, updateDTO);
+
+        // Then
+        verify(userDetailsCache, times(1)).evict("testuser");
+        verify(userDetailsCache, times(1)).evict("renamed");
+    }
+
+    @Test
+    public void whenUpdateUser_withProfileOnlyChange_thenKeepCachedUserDetails() {
+        // Given
+        when(userRepository.findById(anyLong())).thenReturn(Optional.of(testUser));
+        when(userRepository.save(any(User.class))).thenReturn(testUser);
+
+        UserDTO updateDTO = UserDTO.builder()
+                .id(1L)
+                .username("testuser")
+                .email("test@example.com")
+                .fullName("New Full Name")
+                .build();
+
+        // When
+        userService.updateUser(1L, updateDTO);
+
+        // Then
+        verify(cacheManager, never()).getCache(anyString());
+        verify(refreshTokenService, never()).revokeAllForUser(anyLong());
+        assertThat(testUser.getTokenVersion()).isZero();
     }
 
     @Test
@@ -212,6 +332,7 @@ public class UserServiceTest {
     @Test
     public void whenDeleteUser_withValidId_thenDeleteUser() {
         // Given
+        when(cacheManager.getCache("userDetails")).thenReturn(userDetailsCache);
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(testUser));
         doNothing().when(userRepository).delete(any(User.class));
 
@@ -221,6 +342,46 @@ public class UserServiceTest {
         // Then
         verify(userRepository, times(1)).findById(1L);
         verify(userRepository, times(1)).delete(testUser);
+        verify(tokenVersionRegistry, times(1)).evict(1L);
+        verify(userDetailsCache, times(1)).evict("testuser");
+        verify(ownershipIndex, times(1)).onUserDeleted(1L);
+        verify(searchIndex, times(1)).onUserDeleted(1L);
+        verify(refreshTokenService, times(1)).deleteAllForUser(1L);
+    }
+
+    @Test
+    public void whenDeleteUser_withConfirmedSeats_thenReleaseThemToWaitlistsBeforeDeleting() {
+        // Given
+        when(userRepository.findById(anyLong())).thenReturn(Optional.of(testUser));
+
+        // When
+        userService.deleteUser(1L);
+
+        // Then
+        InOrder inOrder = inOrder(registrationService, userRepository);
+        inOrder.verify(registrationService).releaseSeatsOfUser(1L);
+        inOrder.verify(userRepository).delete(testUser);
+    }
+
+    @Test
+    public void whenDeleteUser_organizingHighDemandEvents_thenDropTheirSeatsAfterCommit() {
+        // Given
+        when(userRepository.findById(anyLong())).thenReturn(Optional.of(testUser));
+        when(eventRepository.findHighDemandIdsByOrganizerId(1L)).thenReturn(List.of(5L, 6L));
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // When
+            userService.deleteUser(1L);
+            verify(seatInventory, never()).deactivate(anyLong());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // Then
+            verify(seatInventory).deactivate(5L);
+            verify(seatInventory).deactivate(6L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
     }
 
     @Test
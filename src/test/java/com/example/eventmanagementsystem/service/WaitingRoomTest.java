@@ -0,0 +1,145 @@
+package com.example.eventmanagementsystem.service;
+
+import com.example.eventmanagementsystem.dto.QueueTicketDTO;
+import com.example.eventmanagementsystem.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Waiting Room Tests")
+class WaitingRoomTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Mock
+    private SeatInventory seatInventory;
+
+    private WaitingRoom waitingRoom;
+
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        // 10 admissions/s between 2 and 20, +5/s per second of demand, 100 ms target, 30 s admission window
+        waitingRoom = new WaitingRoom(seatInventory, true, 10, 2, 20, 5, 100, 30_000);
+        now = System.nanoTime();
+        waitingRoom.admit(now);
+    }
+
+    @Test
+    @DisplayName("Should only gate events in high-demand mode")
+    void shouldGateHighDemandEvents() {
+        // Given
+        given(seatInventory.isActive(1L)).willReturn(true);
+        given(seatInventory.isActive(2L)).willReturn(false);
+
+        // When / Then
+        assertTrue(waitingRoom.isGated(1L));
+        assertFalse(waitingRoom.isGated(2L));
+        assertFalse(new WaitingRoom(seatInventory, false, 10, 2, 20, 5, 100, 30_000).isGated(1L));
+    }
+
+    @Test
+    @DisplayName("Should hand out tickets in arrival order and give repeat callers the same ticket")
+    void shouldIssueTicketsInOrder() {
+        // When
+        QueueTicketDTO first = waitingRoom.enter(1L, 10L);
+        QueueTicketDTO second = waitingRoom.enter(2L, 10L);
+        QueueTicketDTO again = waitingRoom.enter(1L, 10L);
+
+        // Then
+        assertEquals(WaitingRoom.WAITING, first.getStatus());
+        assertEquals(1, first.getPosition());
+        assertEquals(2, second.getPosition());
+        assertEquals(first.getTicketId(), again.getTicketId());
+    }
+
+    @Test
+    @DisplayName("Should admit tickets no faster than the admission rate")
+    void shouldAdmitAtRate() {
+        // Given
+        for (long userId = 1; userId <= 25; userId++) {
+            waitingRoom.enter(userId, 10L);
+        }
+
+        // When: half a second at 10/s
+        waitingRoom.admit(now + SECOND / 2);
+
+        // Then
+        assertEquals(WaitingRoom.ADMITTED, waitingRoom.enter(5L, 10L).getStatus());
+        QueueTicketDTO sixth = waitingRoom.enter(6L, 10L);
+        assertEquals(WaitingRoom.WAITING, sixth.getStatus());
+        assertEquals(1, sixth.getPosition());
+        assertEquals(WaitingRoom.WAITING, waitingRoom.enter(25L, 10L).getStatus());
+        assertEquals(20, waitingRoom.enter(25L, 10L).getPosition());
+    }
+
+    @Test
+    @DisplayName("Should retire a ticket once its registration has run")
+    void shouldRetireTicketAfterRegistration() {
+        // Given
+        String ticketId = waitingRoom.enter(1L, 10L).getTicketId();
+        waitingRoom.admit(now + SECOND);
+
+        // When
+        String result = waitingRoom.registerAdmitted(ticketId, () -> "registered");
+
+        // Then
+        assertEquals("registered", result);
+        assertThrows(ResourceNotFoundException.class, () -> waitingRoom.getTicket(ticketId));
+        assertNotEquals(ticketId, waitingRoom.enter(1L, 10L).getTicketId());
+    }
+
+    @Test
+    @DisplayName("Should expire admitted tickets that are not used within the admission window")
+    void shouldExpireUnusedAdmissions() {
+        // Given
+        String ticketId = waitingRoom.enter(1L, 10L).getTicketId();
+        waitingRoom.admit(now + SECOND);
+        assertEquals(WaitingRoom.ADMITTED, waitingRoom.getTicket(ticketId).getStatus());
+
+        // When
+        waitingRoom.admit(now + 32 * SECOND);
+
+        // Then
+        assertThrows(ResourceNotFoundException.class, () -> waitingRoom.getTicket(ticketId));
+    }
+
+    @Test
+    @DisplayName("Should raise the rate while people wait and cut it when registrations slow down")
+    void shouldAdaptRateToRegistrationLatency() throws InterruptedException {
+        // Given
+        for (long userId = 1; userId <= 100; userId++) {
+            waitingRoom.enter(userId, 10L);
+        }
+
+        // When: a second of fast registrations
+        waitingRoom.admit(now + SECOND);
+        double raised = waitingRoom.getRate();
+
+        // And: a second in which registrations average 150 ms
+        String ticketId = waitingRoom.enter(1L, 10L).getTicketId();
+        waitingRoom.registerAdmitted(ticketId, () -> {
+            try {
+                Thread.sleep(150);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        });
+        waitingRoom.admit(now + 2 * SECOND);
+
+        // Then
+        assertEquals(15, raised, 0.01);
+        assertEquals(15 * 0.75, waitingRoom.getRate(), 0.01);
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.eventmanagementsystem.service;
+
+import com.example.eventmanagementsystem.repository.EventRepository;
+import com.example.eventmanagementsystem.repository.RegistrationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Waitlist Service Tests")
+class WaitlistServiceTest {
+
+    @Mock
+    private RegistrationRepository registrationRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @InjectMocks
+    private WaitlistService waitlistService;
+
+    @Test
+    @DisplayName("Should promote the oldest waitlisted registrations while seats are free")
+    void shouldPromoteWhileSeatsAreFree() {
+        // Given
+        given(eventRepository.reserveSeat(1L)).willReturn(1, 1, 0);
+        given(registrationRepository.findWaitlistHead(1L)).willReturn(Optional.of(10L), Optional.of(11L));
+        given(registrationRepository.confirmWaitlisted(anyLong())).willReturn(1);
+
+        // When
+        int promoted = waitlistService.promote(1L);
+
+        // Then
+        assertThat(promoted).isEqualTo(2);
+        verify(registrationRepository).confirmWaitlisted(10L);
+        verify(registrationRepository).confirmWaitlisted(11L);
+        verify(eventRepository, never()).decrementConfirmedCount(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should hand the seat back when the waitlist is empty")
+    void shouldReturnSeatWhenWaitlistIsEmpty() {
+        // Given
+        given(eventRepository.reserveSeat(1L)).willReturn(1);
+        given(registrationRepository.findWaitlistHead(1L)).willReturn(Optional.empty());
+
+        // When
+        int promoted = waitlistService.promote(1L);
+
+        // Then
+        assertThat(promoted).isZero();
+        verify(eventRepository).decrementConfirmedCount(1L);
+        verify(registrationRepository, never()).confirmWaitlisted(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should skip a head that was cancelled concurrently")
+    void shouldSkipHeadTakenConcurrently() {
+        // Given
+        given(eventRepository.reserveSeat(1L)).willReturn(1, 0);
+        given(registrationRepository.findWaitlistHead(1L)).willReturn(Optional.of(10L), Optional.of(11L));
+        given(registrationRepository.confirmWaitlisted(10L)).willReturn(0);
+        given(registrationRepository.confirmWaitlisted(11L)).willReturn(1);
+
+        // When
+        int promoted = waitlistService.promote(1L);
+
+        // Then
+        assertThat(promoted).isEqualTo(1);
+        verify(eventRepository, never()).decrementConfirmedCount(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should promote a single registration when asked for one")
+    void shouldPromoteOne() {
+        // Given
+        given(eventRepository.reserveSeat(1L)).willReturn(1);
+        given(registrationRepository.findWaitlistHead(1L)).willReturn(Optional.of(10L));
+        given(registrationRepository.confirmWaitlisted(10L)).willReturn(1);
+
+        // When
+        boolean promoted = waitlistService.promoteOne(1L);
+
+        // Then
+        assertThat(promoted).isTrue();
+        verify(eventRepository, times(1)).reserveSeat(1L);
+        verify(registrationRepository, times(1)).findWaitlistHead(1L);
+    }
+
+    @Test
+    @DisplayName("Should not look at the waitlist when the event is full")
+    void shouldNotPromoteWhenEventIsFull() {
+        // Given
+        given(eventRepository.reserveSeat(1L)).willReturn(0);
+
+        // When
+        int promoted = waitlistService.promote(1L);
+
+        // Then
+        assertThat(promoted).isZero();
+        verifyNoInteractions(registrationRepository);
+    }
+}